@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures how {@code AddLessonCommand#execute} scales with the number of students and lessons in the model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AddLessonCommandBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Model model;
+    private Lesson toAdd;
+    private AddLessonCommand command;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        model = new ModelManager(SyntheticDataUtil.getAddressBook(size, size), new UserPrefs());
+        // the next free slot after the synthetic lessons, for one of the synthetic students
+        toAdd = SyntheticDataUtil.getLesson(size, size);
+        command = new AddLessonCommand(toAdd);
+    }
+
+    /**
+     * Removes the added lesson so that every invocation sees a model of the same size.
+     */
+    @TearDown(Level.Invocation)
+    public void removeAddedLesson() {
+        model.deleteLesson(toAdd);
+    }
+
+    /**
+     * Adds one lesson to a model holding {@code size} students and {@code size} lessons.
+     */
+    @Benchmark
+    public CommandResult execute() throws CommandException {
+        return command.execute(model);
+    }
+}
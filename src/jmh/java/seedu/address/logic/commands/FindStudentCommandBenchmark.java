@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.student.NameContainsKeywordsPredicate;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures how {@code FindStudentCommand#execute} scales with the number of students in the model, for exact and
+ * fuzzy keywords.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FindStudentCommandBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    /**
+     * Synthetic students are named "Student" followed by a word of up to four letters, so "bcd" is a whole word,
+     * "bcd~" matches the words starting with it, and "studnet~" matches every student.
+     */
+    @Param({"bcd", "bcd~", "studnet~"})
+    private String keyword;
+
+    private Model model;
+    private FindStudentCommand command;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        model = new ModelManager(SyntheticDataUtil.getAddressBook(size, 0), new UserPrefs());
+        NameContainsKeywordsPredicate noExactKeywords = new NameContainsKeywordsPredicate(List.of());
+        command = keyword.endsWith(FindStudentCommand.FUZZY_SUFFIX)
+                ? new FindStudentCommand(noExactKeywords, List.of(keyword.substring(0, keyword.length() - 1)))
+                : new FindStudentCommand(new NameContainsKeywordsPredicate(List.of(keyword)));
+    }
+
+    /**
+     * Searches a model holding {@code size} students.
+     */
+    @Benchmark
+    public CommandResult execute() {
+        return command.execute(model);
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.logic.parser;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.AddAssignmentCommand;
+import seedu.address.logic.commands.AddLessonCommand;
+import seedu.address.logic.commands.AddStudentCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteAssignmentCommand;
+import seedu.address.logic.commands.DeleteLessonCommand;
+import seedu.address.logic.commands.DeleteStudentCommand;
+import seedu.address.logic.commands.EditAssignmentCommand;
+import seedu.address.logic.commands.EditLessonCommand;
+import seedu.address.logic.commands.EditStudentCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindStudentCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListLessonsCommand;
+import seedu.address.logic.commands.ListStudentsCommand;
+import seedu.address.logic.commands.MarkAssignmentCommand;
+import seedu.address.logic.commands.UnmarkAssignmentCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures {@code AddressBookParser#parseCommand} on a typical input for each command word.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AddressBookParserBenchmark {
+
+    private static final Map<String, String> ARGUMENTS = Map.ofEntries(
+            Map.entry(AddStudentCommand.COMMAND_WORD,
+                    " n/John Doe p/98765432 e/johndoe@gmail.com a/311, Clementi Ave 2, #02-25 s/Math"),
+            Map.entry(EditStudentCommand.COMMAND_WORD, " 1 p/91234567 e/johndoe@example.com"),
+            Map.entry(DeleteStudentCommand.COMMAND_WORD, " 1"),
+            Map.entry(FindStudentCommand.COMMAND_WORD, " alice bob charlie"),
+            Map.entry(ListStudentsCommand.COMMAND_WORD, ""),
+            Map.entry(AddLessonCommand.COMMAND_WORD, " n/Alex Yeoh d/17-09-2099 t/14:00 s/Science"),
+            Map.entry(EditLessonCommand.COMMAND_WORD, " 1 d/20-07-2099 t/19:00"),
+            Map.entry(DeleteLessonCommand.COMMAND_WORD, " 1"),
+            Map.entry(ListLessonsCommand.COMMAND_WORD, " n/alice"),
+            Map.entry(AddAssignmentCommand.COMMAND_WORD, " 1 as/Math Exercise 1 d/31-12-2099"),
+            Map.entry(EditAssignmentCommand.COMMAND_WORD, " 1 as/Assignment 1 nas/Assignment 1a d/30-09-2099"),
+            Map.entry(DeleteAssignmentCommand.COMMAND_WORD, " 1 as/Math Exercise 1"),
+            Map.entry(MarkAssignmentCommand.COMMAND_WORD, " 1 as/Assignment 1"),
+            Map.entry(UnmarkAssignmentCommand.COMMAND_WORD, " 1 as/Assignment 1"),
+            Map.entry(ClearCommand.COMMAND_WORD, ""),
+            Map.entry(HelpCommand.COMMAND_WORD, ""),
+            Map.entry(ExitCommand.COMMAND_WORD, ""));
+
+    @Param({AddStudentCommand.COMMAND_WORD, EditStudentCommand.COMMAND_WORD, DeleteStudentCommand.COMMAND_WORD,
+        FindStudentCommand.COMMAND_WORD, ListStudentsCommand.COMMAND_WORD, AddLessonCommand.COMMAND_WORD,
+        EditLessonCommand.COMMAND_WORD, DeleteLessonCommand.COMMAND_WORD, ListLessonsCommand.COMMAND_WORD,
+        AddAssignmentCommand.COMMAND_WORD, EditAssignmentCommand.COMMAND_WORD, DeleteAssignmentCommand.COMMAND_WORD,
+        MarkAssignmentCommand.COMMAND_WORD, UnmarkAssignmentCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD,
+        HelpCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD})
+    private String commandWord;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private String userInput;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ParseException {
+        userInput = commandWord + ARGUMENTS.get(commandWord);
+        parser.parseCommand(userInput); // fails the trial early if the input is not valid
+    }
+
+    /**
+     * Parses a valid input of the current command word.
+     */
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures how {@code AddressBook#resetData} scales with the number of students and lessons.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AddressBookBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ReadOnlyAddressBook source;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = SyntheticDataUtil.getAddressBook(size, size);
+    }
+
+    /**
+     * Copies {@code size} students and {@code size} lessons into an empty address book.
+     */
+    @Benchmark
+    public AddressBook resetData() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.resetData(source);
+        return addressBook;
+    }
+}
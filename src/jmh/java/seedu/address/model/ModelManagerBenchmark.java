@@ -0,0 +1,59 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.student.Student;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures how keeping the filtered student list up to date after a write scales with the number of students,
+ * while the list is filtered by name.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ModelManagerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ModelManager model;
+    private Student student;
+    private Student editedStudent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        model = new ModelManager(SyntheticDataUtil.getAddressBook(size, 0), new UserPrefs());
+        student = SyntheticDataUtil.getStudent(size);
+        editedStudent = SyntheticDataUtil.getStudent(size + 1);
+        model.updateFilteredStudentListByName(List.of(student.getName().fullName.split(" ")[1]));
+    }
+
+    /**
+     * Adds a student to the end of the list, edits it and deletes it again.
+     */
+    @Benchmark
+    public int addEditDeleteStudent() {
+        model.addStudent(student);
+        model.setStudent(student, editedStudent);
+        model.deleteStudent(editedStudent);
+        return model.getFilteredStudentList().size();
+    }
+}
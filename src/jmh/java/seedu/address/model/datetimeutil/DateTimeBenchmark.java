@@ -0,0 +1,92 @@
+package seedu.address.model.datetimeutil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of comparing, hashing and displaying {@code Date} and {@code Time} values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DateTimeBenchmark {
+
+    private static final int DATE_COUNT = 1000;
+
+    private Date date;
+    private Date sameDate;
+    private Time time;
+    private Time sameTime;
+    private List<Date> dates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        date = new Date("05-10-2099");
+        sameDate = new Date("5-10-2099");
+        time = new Time("09:05");
+        sameTime = new Time("9:5");
+
+        dates = new ArrayList<>();
+        for (int i = 0; i < DATE_COUNT; i++) {
+            dates.add(new Date((i % 28 + 1) + "-" + (i % 12 + 1) + "-" + (2090 + i % 10)));
+        }
+        Collections.shuffle(dates);
+    }
+
+    @Benchmark
+    public boolean dateEquals() {
+        return date.equals(sameDate);
+    }
+
+    @Benchmark
+    public int dateHashCode() {
+        return date.hashCode();
+    }
+
+    @Benchmark
+    public int dateCompareTo() {
+        return date.compareTo(sameDate);
+    }
+
+    @Benchmark
+    public String dateToString() {
+        return date.toString();
+    }
+
+    @Benchmark
+    public boolean timeEquals() {
+        return time.equals(sameTime);
+    }
+
+    @Benchmark
+    public int timeHashCode() {
+        return time.hashCode();
+    }
+
+    /**
+     * Sorts {@value #DATE_COUNT} due dates, as done when ordering assignments.
+     */
+    @Benchmark
+    public List<Date> sortDates() {
+        List<Date> sorted = new ArrayList<>(dates);
+        Collections.sort(sorted);
+        return sorted;
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.model.util;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.datetimeutil.Date;
+import seedu.address.model.datetimeutil.Time;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Address;
+import seedu.address.model.student.Email;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Phone;
+import seedu.address.model.student.Student;
+import seedu.address.model.subject.Subject;
+
+/**
+ * Generates large, valid address books for benchmarking.
+ */
+public class SyntheticDataUtil extends SampleDataUtil {
+
+    private static final String SUBJECT = "Math";
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-uuuu");
+
+    /**
+     * Returns {@code count} students with distinct names, phones and emails.
+     */
+    public static List<Student> getStudents(int count) {
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            students.add(getStudent(i));
+        }
+        return students;
+    }
+
+    /**
+     * Returns the {@code i}-th synthetic student.
+     */
+    public static Student getStudent(int i) {
+        return new Student(getStudentName(i),
+                new Phone(String.valueOf(80000000 + i)),
+                new Email("student" + i + "@example.com"),
+                new Address("Blk " + i + " Synthetic Street"),
+                getSubjectSet(SUBJECT));
+    }
+
+    /**
+     * Returns {@code count} students, each with {@code assignmentCount} assignments of its own, due on distinct days
+     * from tomorrow.
+     */
+    public static List<Student> getStudents(int count, int assignmentCount) {
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Student student = getStudent(i);
+            for (int j = 0; j < assignmentCount; j++) {
+                String dueDate = LocalDate.now().plusDays(1 + j).format(DATE_FORMAT);
+                student = student.addAssignment(new Assignment("Homework " + j, new Date(dueDate)));
+            }
+            students.add(student);
+        }
+        return students;
+    }
+
+    /**
+     * Returns the name of the {@code i}-th synthetic student.
+     * Names only contain letters so that they remain distinct after capitalisation is standardised.
+     */
+    public static Name getStudentName(int i) {
+        StringBuilder suffix = new StringBuilder();
+        int remaining = i;
+        do {
+            suffix.append((char) ('a' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        return new Name("Student " + suffix);
+    }
+
+    /**
+     * Returns {@code count} lessons occupying distinct one-minute slots, starting tomorrow.
+     * Lesson {@code i} belongs to student {@code i % studentCount}.
+     */
+    public static List<Lesson> getLessons(int count, int studentCount) {
+        List<Lesson> lessons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lessons.add(getLesson(i, studentCount));
+        }
+        return lessons;
+    }
+
+    /**
+     * Returns the {@code i}-th synthetic lesson.
+     */
+    public static Lesson getLesson(int i, int studentCount) {
+        LocalDate date = LocalDate.now().plusDays(1 + i / MINUTES_PER_DAY);
+        int minuteOfDay = i % MINUTES_PER_DAY;
+        return new Lesson(new Subject(SUBJECT), getStudentName(i % studentCount),
+                new Date(date.format(DATE_FORMAT)),
+                new Time(minuteOfDay / 60 + ":" + minuteOfDay % 60));
+    }
+
+    /**
+     * Returns an address book with {@code studentCount} students and {@code lessonCount} lessons.
+     */
+    public static AddressBook getAddressBook(int studentCount, int lessonCount) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setStudents(getStudents(studentCount));
+        addressBook.setLessons(getLessons(lessonCount, studentCount));
+        return addressBook;
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures how converting, saving and loading the data file scale with the number of students and lessons.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class StorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private JsonSerializableAddressBook serializableAddressBook;
+    private Path tempDirectory;
+    private JsonAddressBookStorage storage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        addressBook = SyntheticDataUtil.getAddressBook(size, size);
+        serializableAddressBook = new JsonSerializableAddressBook(addressBook);
+        tempDirectory = Files.createTempDirectory("storage-benchmark");
+        storage = new JsonAddressBookStorage(tempDirectory.resolve("addressbook.json"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(storage.getAddressBookFilePath());
+        Files.deleteIfExists(tempDirectory);
+    }
+
+    /**
+     * Converts {@code size} JSON-adapted students and lessons into model objects.
+     */
+    @Benchmark
+    public AddressBook toModelType() throws IllegalValueException {
+        return serializableAddressBook.toModelType();
+    }
+
+    /**
+     * Saves {@code size} students and lessons to the data file and reads them back.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook saveAndLoad() throws IOException, DataLoadingException {
+        storage.saveAddressBook(addressBook);
+        return storage.readAddressBook().get();
+    }
+}
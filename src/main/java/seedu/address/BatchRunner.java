@@ -0,0 +1,188 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JournalAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs the commands of a script without the Ui, one command per line, printing the feedback of each command.
+ *
+ * The script is read from a file, or from the standard input if the file is {@value #STDIN}. Blank lines are
+ * skipped, and a command that fails is reported with its line number without stopping the script. The data file
+ * is written once at the end of the script, or also after every {@code saveEvery} commands if that is positive,
+ * instead of after every command. JavaFX is never started.
+ */
+public class BatchRunner {
+
+    public static final String BATCH_PARAMETER = "--batch";
+    public static final String CONFIG_PARAMETER = "--config=";
+    public static final String SAVE_EVERY_PARAMETER = "--save-every=";
+    public static final String STDIN = "-";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_ERROR = 2;
+
+    public static final String MESSAGE_USAGE = "Usage: " + BATCH_PARAMETER + "[=SCRIPT_FILE] [" + SAVE_EVERY_PARAMETER
+            + "COUNT] [" + CONFIG_PARAMETER + "CONFIG_FILE]\n"
+            + "Runs the commands in SCRIPT_FILE, or in the standard input if it is left out or is " + STDIN + ".";
+    public static final String MESSAGE_COMMAND_FAILED = "Error on line %1$d: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final Logic logic;
+    private final Storage storage;
+    private final int saveEvery;
+
+    /**
+     * Creates a {@code BatchRunner} that runs commands through {@code logic}, and writes the data file with
+     * {@code storage} after every {@code saveEvery} commands, or only at the end if {@code saveEvery} is not
+     * positive. {@code storage} should only write requested saves when it is flushed.
+     */
+    public BatchRunner(Logic logic, Storage storage, int saveEvery) {
+        requireNonNull(logic);
+        requireNonNull(storage);
+        this.logic = logic;
+        this.storage = storage;
+        this.saveEvery = saveEvery;
+    }
+
+    /**
+     * Returns true if {@code args} ask for the script to be run without the Ui.
+     */
+    public static boolean isRequested(String[] args) {
+        for (String arg : args) {
+            if (arg.equals(BATCH_PARAMETER) || arg.startsWith(BATCH_PARAMETER + "=")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Runs every command read from {@code script} in order, printing the feedback of each command to
+     * {@code output}, until the script ends or an exit command is run. The data file is then written.
+     * Returns the number of commands that failed.
+     *
+     * @throws IOException if the script could not be read or the data file could not be written.
+     */
+    public int run(BufferedReader script, PrintWriter output) throws IOException {
+        int lineNumber = 0;
+        int commandCount = 0;
+        int failureCount = 0;
+        try {
+            String line;
+            while ((line = script.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                commandCount++;
+                boolean isExit = false;
+                try {
+                    CommandResult result = logic.execute(line);
+                    output.println(result.getFeedbackToUser());
+                    isExit = result.isExit();
+                } catch (CommandException | ParseException e) {
+                    failureCount++;
+                    output.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e.getMessage()));
+                }
+                if (saveEvery > 0 && commandCount % saveEvery == 0) {
+                    storage.flushAddressBook();
+                    output.flush();
+                }
+                if (isExit) {
+                    break;
+                }
+            }
+        } finally {
+            // the changes of the commands run so far are kept even if the script cannot be read to the end
+            storage.flushAddressBook();
+            output.flush();
+        }
+        logger.info("Ran " + commandCount + " commands, of which " + failureCount + " failed");
+        return failureCount;
+    }
+
+    /**
+     * Runs the script given by {@code args} against the data file of the app, and returns the exit status:
+     * {@link #EXIT_SUCCESS} if every command succeeded, {@link #EXIT_COMMAND_FAILED} if any command failed, or
+     * {@link #EXIT_ERROR} if the arguments were invalid or the script or data file could not be read or written.
+     */
+    public static int run(String[] args) {
+        Path scriptPath = null;
+        Path configPath = null;
+        int saveEvery = 0;
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.equals(BATCH_PARAMETER) || arg.equals(BATCH_PARAMETER + "=" + STDIN)) {
+                scriptPath = null;
+            } else if (arg.startsWith(BATCH_PARAMETER + "=") && FileUtil.isValidPath(value)) {
+                scriptPath = Paths.get(value);
+            } else if (arg.startsWith(CONFIG_PARAMETER) && FileUtil.isValidPath(value)) {
+                configPath = Paths.get(value);
+            } else if (arg.startsWith(SAVE_EVERY_PARAMETER) && StringUtil.isNonZeroUnsignedInteger(value)) {
+                saveEvery = Integer.parseInt(value);
+            } else {
+                System.err.println(MESSAGE_USAGE);
+                return EXIT_ERROR;
+            }
+        }
+
+        Config config = AppInitializer.initConfig(configPath);
+        // logging every command would slow a long script down, so only warnings are logged
+        if (config.getLogLevel().intValue() < Level.WARNING.intValue()) {
+            config.setLogLevel(Level.WARNING);
+        }
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        Storage storage = new StorageManager(new JournalAddressBookStorage(userPrefs.getAddressBookFilePath()),
+                userPrefsStorage, StorageManager.SAVE_ON_FLUSH_ONLY);
+        Model model = AppInitializer.initModelManager(storage, userPrefs);
+        model.setHistoryDepth(Math.max(config.getUndoHistoryDepth(), 0));
+        BatchRunner runner = new BatchRunner(new LogicManager(model, storage), storage, saveEvery);
+
+        PrintWriter output = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+        try (BufferedReader script = scriptPath == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8)) {
+            return runner.run(script, output) == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+        } catch (IOException e) {
+            output.flush();
+            System.err.println("Could not run script: " + StringUtil.getDetails(e));
+            return EXIT_ERROR;
+        }
+    }
+}
@@ -20,11 +20,18 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given {@code --batch}, the application runs a script of commands without the Ui instead.
+ * @see BatchRunner
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        if (BatchRunner.isRequested(args)) {
+            // the script is run without the Ui, so JavaFX is never started
+            System.exit(BatchRunner.run(args));
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -17,6 +17,10 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    // Maximum time a change may wait before it is written to the data file. 0 writes after every command.
+    private long maxSaveStalenessMillis = 1000;
+    // Number of commands that can be undone. 0 turns undo off.
+    private int undoHistoryDepth = 20;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +38,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public long getMaxSaveStalenessMillis() {
+        return maxSaveStalenessMillis;
+    }
+
+    public void setMaxSaveStalenessMillis(long maxSaveStalenessMillis) {
+        this.maxSaveStalenessMillis = maxSaveStalenessMillis;
+    }
+
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +67,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && maxSaveStalenessMillis == otherConfig.maxSaveStalenessMillis
+                && undoHistoryDepth == otherConfig.undoHistoryDepth;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, maxSaveStalenessMillis, undoHistoryDepth);
     }
 
     @Override
@@ -60,6 +82,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("maxSaveStalenessMillis", maxSaveStalenessMillis)
+                .add("undoHistoryDepth", undoHistoryDepth)
                 .toString();
     }
 
@@ -0,0 +1,239 @@
+package seedu.address.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents a selection of indexes of a displayed list: single indexes, ranges of indexes, or every index of the
+ * list, whatever its size. A selection may also pick records by their IDs, which are written as {@code #ID} and
+ * select records whether they are displayed or not.
+ *
+ * The selected indexes are kept as sorted ranges that do not overlap, so a selection such as {@code 1-100000} is not
+ * expanded until it is applied to a list with {@link #select(List)}.
+ */
+public class IndexSelection {
+
+    public static final String ID_PREFIX = "#";
+
+    private static final int[] NO_IDS = new int[0];
+    private static final IndexSelection ALL = new IndexSelection(null, NO_IDS);
+
+    /**
+     * The zero-based start (inclusive) and end (exclusive) of each range, in order, or null if every index is selected.
+     */
+    private final int[] bounds;
+
+    /** The selected IDs, in increasing order. */
+    private final int[] ids;
+
+    private IndexSelection(int[] bounds, int[] ids) {
+        this.bounds = bounds;
+        this.ids = ids;
+    }
+
+    /**
+     * Returns a selection of every index of the list it is applied to.
+     */
+    public static IndexSelection all() {
+        return ALL;
+    }
+
+    /**
+     * Returns a selection of {@code index} only.
+     */
+    public static IndexSelection of(Index index) {
+        requireNonNull(index);
+        return ofRange(index, index);
+    }
+
+    /**
+     * Returns a selection of the indexes from {@code first} to {@code last}, both inclusive.
+     * {@code first} must not be after {@code last}.
+     */
+    public static IndexSelection ofRange(Index first, Index last) {
+        requireNonNull(first);
+        requireNonNull(last);
+        assert first.getZeroBased() <= last.getZeroBased() : "Ranges must not end before they start";
+        return new IndexSelection(new int[] {first.getZeroBased(), last.getZeroBased() + 1}, NO_IDS);
+    }
+
+    /**
+     * Returns a selection of the record with the ID {@code id} only, which must be positive.
+     */
+    public static IndexSelection ofId(int id) {
+        assert id > 0 : "IDs must be positive";
+        return new IndexSelection(new int[0], new int[] {id});
+    }
+
+    /**
+     * Returns a selection of the indexes selected by this selection or {@code other}.
+     */
+    public IndexSelection union(IndexSelection other) {
+        requireNonNull(other);
+        int[] unitedIds = IntStream.concat(Arrays.stream(ids), Arrays.stream(other.ids)).sorted().distinct().toArray();
+        if (isAll() || other.isAll()) {
+            return new IndexSelection(null, unitedIds);
+        }
+
+        int[][] ranges = new int[(bounds.length + other.bounds.length) / 2][];
+        for (int i = 0; i < bounds.length; i += 2) {
+            ranges[i / 2] = new int[] {bounds[i], bounds[i + 1]};
+        }
+        for (int i = 0; i < other.bounds.length; i += 2) {
+            ranges[(bounds.length + i) / 2] = new int[] {other.bounds[i], other.bounds[i + 1]};
+        }
+        Arrays.sort(ranges, Comparator.comparingInt(range -> range[0]));
+
+        // ranges that overlap or touch are merged into one
+        int[] merged = new int[ranges.length * 2];
+        int count = 0;
+        for (int[] range : ranges) {
+            if (count > 0 && range[0] <= merged[count - 1]) {
+                merged[count - 1] = Math.max(merged[count - 1], range[1]);
+            } else {
+                merged[count++] = range[0];
+                merged[count++] = range[1];
+            }
+        }
+        return new IndexSelection(Arrays.copyOf(merged, count), unitedIds);
+    }
+
+    /**
+     * Returns true if every index is selected.
+     */
+    public boolean isAll() {
+        return bounds == null;
+    }
+
+    /**
+     * Returns true if any index is selected, as opposed to only IDs.
+     */
+    public boolean hasIndexes() {
+        return isAll() || bounds.length > 0;
+    }
+
+    /**
+     * Returns the first selected ID for which {@code isKnown} is false, if there is one.
+     */
+    public OptionalInt findFirstUnknownId(IntPredicate isKnown) {
+        requireNonNull(isKnown);
+        return Arrays.stream(ids).filter(isKnown.negate()).findFirst();
+    }
+
+    /**
+     * Returns the first selected index that is not within a list of {@code size} items, if there is one.
+     */
+    public Optional<Index> findFirstOutside(int size) {
+        if (isAll()) {
+            return Optional.empty();
+        }
+        for (int i = 0; i < bounds.length; i += 2) {
+            if (bounds[i + 1] > size) {
+                return Optional.of(Index.fromZeroBased(Math.max(bounds[i], size)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the items of {@code list} at the selected indexes, in order of index.
+     * Every selected index must be within {@code list}, and no IDs may be selected.
+     */
+    public <T> List<T> select(List<T> list) {
+        assert ids.length == 0 : "Records selected by ID must be looked up";
+        return select(list, unused -> Optional.empty());
+    }
+
+    /**
+     * Returns the items of {@code list} at the selected indexes, in order of index, followed by the records with
+     * the selected IDs, in order of ID, as found by {@code findById}. A record that is selected both ways is only
+     * returned once. Every selected index must be within {@code list}, and every selected ID must be found.
+     */
+    public <T> List<T> select(List<T> list, IntFunction<Optional<T>> findById) {
+        requireAllNonNull(list, findById);
+        assert findFirstOutside(list.size()).isEmpty() : "Selected indexes must be within the list";
+        List<T> selected = new ArrayList<>();
+        if (isAll()) {
+            selected.addAll(list);
+        } else {
+            for (int i = 0; i < bounds.length; i += 2) {
+                selected.addAll(list.subList(bounds[i], bounds[i + 1]));
+            }
+        }
+        if (ids.length == 0) {
+            return selected;
+        }
+
+        Set<T> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        seen.addAll(selected);
+        for (int id : ids) {
+            T item = findById.apply(id).orElseThrow(() -> new AssertionError("Selected IDs must be found"));
+            if (seen.add(item)) {
+                selected.add(item);
+            }
+        }
+        return selected;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexSelection)) {
+            return false;
+        }
+
+        IndexSelection otherSelection = (IndexSelection) other;
+        return Arrays.equals(bounds, otherSelection.bounds)
+                && Arrays.equals(ids, otherSelection.ids);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(bounds) + Arrays.hashCode(ids);
+    }
+
+    /**
+     * Returns the selection as it is written by the user, such as {@code 1-3,7}, {@code all} or {@code 2,#15}.
+     */
+    public String toOneBasedString() {
+        StringJoiner parts = new StringJoiner(",");
+        if (isAll()) {
+            parts.add("all");
+        } else {
+            for (int i = 0; i < bounds.length; i += 2) {
+                int first = bounds[i] + 1;
+                int last = bounds[i + 1];
+                parts.add(first == last ? String.valueOf(first) : first + "-" + last);
+            }
+        }
+        for (int id : ids) {
+            parts.add(ID_PREFIX + id);
+        }
+        return parts.toString();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("indexes", toOneBasedString()).toString();
+    }
+}
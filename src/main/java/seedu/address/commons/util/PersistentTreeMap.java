@@ -0,0 +1,245 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable map whose keys are kept in their natural order, and whose values can also be found by their position
+ * in that order. Keys and values must not be null.
+ *
+ * The map is a balanced binary search tree. Putting or removing a key returns a new map that shares all but
+ * O(log n) of the nodes of the old map, so it takes O(log n) time and leaves the old map as it was.
+ */
+public final class PersistentTreeMap<K extends Comparable<? super K>, V> implements Iterable<V> {
+
+    private static final PersistentTreeMap<?, ?> EMPTY = new PersistentTreeMap<>(null);
+
+    private final Node<K, V> root;
+
+    private PersistentTreeMap(Node<K, V> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K extends Comparable<? super K>, V> PersistentTreeMap<K, V> empty() {
+        return (PersistentTreeMap<K, V>) EMPTY;
+    }
+
+    public int size() {
+        return Node.size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if the map does not contain {@code key}.
+     */
+    public V get(K key) {
+        requireNonNull(key);
+        Node<K, V> node = root;
+        while (node != null) {
+            int order = key.compareTo(node.key);
+            if (order == 0) {
+                return node.value;
+            }
+            node = order < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    public boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns the value at position {@code index} in the order of the keys.
+     */
+    public V getAt(int index) {
+        Objects.checkIndex(index, size());
+        Node<K, V> node = root;
+        int remaining = index;
+        while (true) {
+            int leftSize = Node.size(node.left);
+            if (remaining == leftSize) {
+                return node.value;
+            }
+            if (remaining < leftSize) {
+                node = node.left;
+            } else {
+                remaining -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a map with the mappings of this map, in which {@code key} is mapped to {@code value}.
+     */
+    public PersistentTreeMap<K, V> put(K key, V value) {
+        requireAllNonNull(key, value);
+        return new PersistentTreeMap<>(put(root, key, value));
+    }
+
+    /**
+     * Returns a map with the mappings of this map other than that of {@code key}.
+     * Returns this map if it does not contain {@code key}.
+     */
+    public PersistentTreeMap<K, V> remove(K key) {
+        requireNonNull(key);
+        Node<K, V> newRoot = remove(root, key);
+        return newRoot == root ? this : new PersistentTreeMap<>(newRoot);
+    }
+
+    /**
+     * Returns an iterator over the values, in the order of their keys.
+     */
+    @Override
+    public Iterator<V> iterator() {
+        return new ValueIterator<>(root);
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> put(Node<K, V> node, K key, V value) {
+        if (node == null) {
+            return new Node<>(key, value, null, null);
+        }
+        int order = key.compareTo(node.key);
+        if (order < 0) {
+            return balance(node.key, node.value, put(node.left, key, value), node.right);
+        }
+        if (order > 0) {
+            return balance(node.key, node.value, node.left, put(node.right, key, value));
+        }
+        return new Node<>(key, value, node.left, node.right);
+    }
+
+    /**
+     * Returns {@code node} itself if the subtree does not contain {@code key}.
+     */
+    private static <K extends Comparable<? super K>, V> Node<K, V> remove(Node<K, V> node, K key) {
+        if (node == null) {
+            return null;
+        }
+        int order = key.compareTo(node.key);
+        if (order < 0) {
+            Node<K, V> left = remove(node.left, key);
+            return left == node.left ? node : balance(node.key, node.value, left, node.right);
+        }
+        if (order > 0) {
+            Node<K, V> right = remove(node.right, key);
+            return right == node.right ? node : balance(node.key, node.value, node.left, right);
+        }
+
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node<K, V> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.key, successor.value, node.left, removeFirst(node.right));
+    }
+
+    private static <K, V> Node<K, V> removeFirst(Node<K, V> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.key, node.value, removeFirst(node.left), node.right);
+    }
+
+    /**
+     * Returns a node with the given contents, rotated so that the heights of its subtrees differ by at most one.
+     * The heights of {@code left} and {@code right} must differ by at most two.
+     */
+    private static <K, V> Node<K, V> balance(K key, V value, Node<K, V> left, Node<K, V> right) {
+        int difference = Node.height(left) - Node.height(right);
+        if (difference > 1) {
+            if (Node.height(left.left) >= Node.height(left.right)) {
+                return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+            }
+            Node<K, V> middle = left.right;
+            return new Node<>(middle.key, middle.value, new Node<>(left.key, left.value, left.left, middle.left),
+                    new Node<>(key, value, middle.right, right));
+        }
+        if (difference < -1) {
+            if (Node.height(right.right) >= Node.height(right.left)) {
+                return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+            }
+            Node<K, V> middle = right.left;
+            return new Node<>(middle.key, middle.value, new Node<>(key, value, left, middle.left),
+                    new Node<>(right.key, right.value, middle.right, right.right));
+        }
+        return new Node<>(key, value, left, right);
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final Node<K, V> left;
+        private final Node<K, V> right;
+        private final int height;
+        private final int size;
+
+        private Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+
+        private static int height(Node<?, ?> node) {
+            return node == null ? 0 : node.height;
+        }
+
+        private static int size(Node<?, ?> node) {
+            return node == null ? 0 : node.size;
+        }
+    }
+
+    /**
+     * Iterates over the values of a tree in order, keeping the nodes whose values are still to come on a stack.
+     */
+    private static final class ValueIterator<K, V> implements Iterator<V> {
+        private final Deque<Node<K, V>> path = new ArrayDeque<>();
+
+        private ValueIterator(Node<K, V> root) {
+            pushLeftmost(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public V next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<K, V> node = path.pop();
+            pushLeftmost(node.right);
+            return node.value;
+        }
+
+        private void pushLeftmost(Node<K, V> node) {
+            for (Node<K, V> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+    }
+}
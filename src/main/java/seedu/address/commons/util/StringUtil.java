@@ -38,6 +38,56 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code s} with leading and trailing whitespace removed, each run of whitespace in between replaced by
+     * a single space, and each word capitalised with the rest of it in lower case.
+     * Returns {@code s} itself if it is already in that form, so names that are already normalised are not copied.
+     *   <br>examples:<pre>
+     *       capitalizeWords("  math   EXERCISE 1 ") == "Math Exercise 1"
+     *       capitalizeWords("Math Exercise 1") == "Math Exercise 1"
+     *       </pre>
+     * @param s cannot be null
+     */
+    public static String capitalizeWords(String s) {
+        requireNonNull(s);
+
+        StringBuilder capitalized = null; // only created once the result differs from s
+        int length = 0;
+        boolean isStartOfWord = true;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (Character.isWhitespace(c)) {
+                isStartOfWord = true;
+                continue;
+            }
+            if (isStartOfWord && length > 0) {
+                capitalized = append(capitalized, s, length++, ' ');
+            }
+            capitalized = append(capitalized, s, length++,
+                    isStartOfWord ? Character.toUpperCase(c) : Character.toLowerCase(c));
+            isStartOfWord = false;
+        }
+
+        if (capitalized != null) {
+            return capitalized.toString();
+        }
+        return length == s.length() ? s : s.substring(0, length);
+    }
+
+    /**
+     * Appends {@code c} as the character at {@code index} of the result of {@link #capitalizeWords(String)}.
+     * Returns null as long as the result so far is the same as the start of {@code s}.
+     */
+    private static StringBuilder append(StringBuilder capitalized, String s, int index, char c) {
+        if (capitalized == null) {
+            if (s.charAt(index) == c) {
+                return null;
+            }
+            capitalized = new StringBuilder(s.length()).append(s, 0, index);
+        }
+        return capitalized.append(c);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
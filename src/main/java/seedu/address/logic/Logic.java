@@ -1,12 +1,15 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ListChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.student.Student;
@@ -24,6 +27,21 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on the model thread and returns its result when it completes.
+     * Commands are executed one at a time, in the order they are submitted, so the caller does not have to wait
+     * for the model to be updated and saved.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution, completed exceptionally with a {@code CommandException} or
+     *     {@code ParseException} if the command could not be executed.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Stops accepting commands, and waits for the commands that were already submitted to finish.
+     */
+    void shutdown();
+
     /**
      * Returns the AddressBook.
      *
@@ -31,14 +49,39 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
-    /** Returns an unmodifiable view of the filtered list of students */
-    ObservableList<Student> getFilteredStudentList();
+    /**
+     * Returns an unmodifiable snapshot of the filtered list of students.
+     * Use {@link #addFilteredStudentListListener(Consumer)} to be told of the changes made after the snapshot.
+     */
+    List<Student> getFilteredStudentList();
+
+    /**
+     * Returns an unmodifiable snapshot of the filtered list of lessons.
+     * Use {@link #addFilteredLessonListListener(Consumer)} to be told of the changes made after the snapshot.
+     */
+    List<Lesson> getFilteredLessonList();
+
+    /**
+     * Adds a listener that is told of the changes to the filtered list of students, on the thread that made them.
+     */
+    void addFilteredStudentListListener(Consumer<List<ListChange<Student>>> listener);
+
+    /**
+     * Adds a listener that is told of the changes to the filtered list of lessons, on the thread that made them.
+     */
+    void addFilteredLessonListListener(Consumer<List<ListChange<Lesson>>> listener);
+
+    /**
+     * Adds a listener that is told of the message of each save of the data file that fails after the command that
+     * requested it has completed, on the thread that ran the save.
+     */
+    void addSaveFailureListener(Consumer<String> listener);
 
-    /** Returns an unmodifiable view of the filtered list of lessons */
-    ObservableList<Lesson> getFilteredLessonList();
+    /** Returns an unmodifiable snapshot of the current list on display */
+    List<?> getFilteredCurrList();
 
-    /** Returns the current list on display */
-    ObservableList<?> getFilteredCurrList();
+    /** Returns true if the current list on display is the student list. May be called from any thread. */
+    boolean isStudentView();
 
     /**
      * Returns the user prefs' address book file path.
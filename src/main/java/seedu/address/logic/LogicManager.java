@@ -3,9 +3,14 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
@@ -13,6 +18,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ListChange;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.lesson.Lesson;
@@ -21,6 +27,11 @@ import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * Each command runs in a model transaction, which is rolled back if the command fails, and the address book is
+ * saved once for each command that changes it. A save that is written after its command has completed does not
+ * fail a command, and is reported to the save failure listeners instead.
+ * The filtered lists of the model are given out as snapshots, and their changes are passed on to the listeners
+ * added through this class as {@code ListChange}s.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
@@ -34,6 +45,9 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    // Guarded by this. Created when the first command is submitted through executeAsync.
+    private ExecutorService modelExecutor;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -48,38 +62,105 @@ public class LogicManager implements Logic {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
+        boolean hasChanges;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        synchronized (addressBook) {
+            model.beginTransaction();
+            try {
+                commandResult = command.execute(model);
+            } catch (CommandException | RuntimeException e) {
+                // a command that fails part way leaves the address book as it was
+                model.rollbackTransaction();
+                throw e;
+            }
+            hasChanges = model.commitTransaction();
+        }
+
+        assert command.isMutating() || !hasChanges : "Only mutating commands can change the address book";
+        if (!hasChanges) {
+            return commandResult;
+        }
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            storage.requestSaveAddressBook(addressBook);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(describeSaveFailure(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        getModelExecutor().execute(() -> {
+            try {
+                result.complete(execute(commandText));
+            } catch (CommandException | ParseException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void shutdown() {
+        ExecutorService executor;
+        synchronized (this) {
+            executor = modelExecutor;
+        }
+        if (executor == null) {
+            return;
+        }
+
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while waiting for commands to finish");
+            Thread.currentThread().interrupt();
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
     }
 
     @Override
-    public ObservableList<Student> getFilteredStudentList() {
-        return model.getFilteredStudentList();
+    public List<Student> getFilteredStudentList() {
+        return List.copyOf(model.getFilteredStudentList());
+    }
+
+    @Override
+    public List<Lesson> getFilteredLessonList() {
+        return List.copyOf(model.getFilteredLessonList());
     }
 
     @Override
-    public ObservableList<Lesson> getFilteredLessonList() {
-        return model.getFilteredLessonList();
+    public void addFilteredStudentListListener(Consumer<List<ListChange<Student>>> listener) {
+        model.addFilteredStudentListListener(listener);
     }
 
     @Override
-    public ObservableList<?> getFilteredCurrList() {
-        return model.getFilteredCurrList();
+    public void addFilteredLessonListListener(Consumer<List<ListChange<Lesson>>> listener) {
+        model.addFilteredLessonListListener(listener);
+    }
+
+    @Override
+    public void addSaveFailureListener(Consumer<String> listener) {
+        storage.addSaveFailureListener(e -> listener.accept(describeSaveFailure(e)));
+    }
+
+    @Override
+    public List<?> getFilteredCurrList() {
+        return List.copyOf(model.getFilteredCurrList());
+    }
+
+    @Override
+    public boolean isStudentView() {
+        return model.isStudentView();
     }
 
     @Override
@@ -96,4 +177,25 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    private static String describeSaveFailure(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
+    /**
+     * Returns the executor of the model thread, which runs one command at a time in the order they are submitted.
+     */
+    private synchronized ExecutorService getModelExecutor() {
+        if (modelExecutor == null) {
+            modelExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "model");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return modelExecutor;
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.logic;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -20,6 +21,8 @@ public class Messages {
         + " provided is out of bounds!";
     public static final String MESSAGE_INDEX_OUT_OF_BOUNDS = "Error: The student index provided is out of bounds!";
     public static final String MESSAGE_INVALID_LESSON_DISPLAYED_INDEX = "Error: The lesson index provided is invalid!";
+    public static final String MESSAGE_UNKNOWN_STUDENT_ID = "Error: There is no student with the ID #%1$d!";
+    public static final String MESSAGE_UNKNOWN_LESSON_ID = "Error: There is no lesson with the ID #%1$d!";
     public static final String MESSAGE_STUDENTS_LISTED_OVERVIEW = "%1$d students listed!";
     public static final String MESSAGE_LESSONS_LISTED_OVERVIEW = "%1$d lessons listed!";
     public static final String MESSAGE_DUPLICATE_FIELDS =
@@ -60,6 +63,15 @@ public class Messages {
         return builder.toString();
     }
 
+    /**
+     * Formats the names of {@code students} for display to the user, separated by commas.
+     */
+    public static String formatNames(List<Student> students) {
+        return students.stream()
+                .map(student -> student.getName().toString())
+                .collect(Collectors.joining(", "));
+    }
+
     /**
      * Formats the {@code Lesson} for display to the user.
      */
@@ -4,13 +4,17 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ASSIGNMENT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -19,17 +23,18 @@ import seedu.address.model.datetimeutil.Date;
 import seedu.address.model.student.Student;
 
 /**
- * Adds an assignment to a student.
+ * Adds an assignment to students.
  */
 public class AddAssignmentCommand extends Command {
 
     public static final String COMMAND_WORD = "add_assignment";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Assigns an assignment to a student.\n"
-            + "Parameters: STUDENT INDEX (must be a positive integer) "
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Assigns an assignment to students.\n"
+            + "Parameters: STUDENT INDEXES (positive integers, ranges such as 1-40 or IDs such as #12, "
+            + "separated by commas, or all) "
             + PREFIX_ASSIGNMENT + "ASSIGNMENT_NAME "
             + PREFIX_DATE + "DUE_DATE\n"
-            + "Example: " + COMMAND_WORD + " 1 "
+            + "Example: " + COMMAND_WORD + " 1,3-5 "
             + PREFIX_ASSIGNMENT + "Math Exercise 1 "
             + PREFIX_DATE + "31-12-2025";
 
@@ -40,7 +45,7 @@ public class AddAssignmentCommand extends Command {
 
     private static final Logger logger = LogsCenter.getLogger(AddAssignmentCommand.class);
 
-    private final Index index;
+    private final IndexSelection indexes;
     private final Assignment assignment;
     private final Date dueDate;
 
@@ -48,62 +53,78 @@ public class AddAssignmentCommand extends Command {
      * Creates an AddAssignmentCommand to add the specified {@code Assignment} to the student at the specified index.
      */
     public AddAssignmentCommand(Index index, Assignment assignment) {
-        requireAllNonNull(index, assignment, assignment.getDueDate());
-        this.index = index;
+        this(IndexSelection.of(index), assignment);
+    }
+
+    /**
+     * Creates an AddAssignmentCommand to add the specified {@code Assignment} to each student at the specified
+     * indexes.
+     */
+    public AddAssignmentCommand(IndexSelection indexes, Assignment assignment) {
+        requireAllNonNull(indexes, assignment, assignment.getDueDate());
+        this.indexes = indexes;
         this.assignment = assignment;
         this.dueDate = assignment.getDueDate();
-        logger.info("AddAssignmentCommand created for student index: " + index.getOneBased()
+        logger.info("AddAssignmentCommand created for student indexes: " + indexes.toOneBasedString()
                 + " with assignment: " + assignment);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        logger.info("Executing AddAssignmentCommand for student index: " + index.getOneBased());
+        logger.info("Executing AddAssignmentCommand for student indexes: " + indexes.toOneBasedString());
 
         List<Student> lastShownList = model.getFilteredStudentList();
 
-        if (lastShownList.isEmpty()) {
+        if (lastShownList.isEmpty() && indexes.hasIndexes()) {
             logger.warning("Attempted to add assignment to empty student list");
             throw new CommandException(MESSAGE_EMPTY_STUDENT_LIST);
         }
 
-        // Check if the index is valid
-        if (index.getZeroBased() >= lastShownList.size()) {
-            logger.warning("Invalid student index: " + index.getOneBased()
+        // Check if the indexes are valid
+        Optional<Index> invalidIndex = indexes.findFirstOutside(lastShownList.size());
+        if (invalidIndex.isPresent()) {
+            logger.warning("Invalid student index: " + invalidIndex.get().getOneBased()
                     + " (list size: " + lastShownList.size() + ")");
             throw new CommandException(Messages.MESSAGE_INDEX_OUT_OF_BOUNDS);
         }
 
-        Student studentToEdit = lastShownList.get(index.getZeroBased());
-        assert studentToEdit != null : "Student should not be null";
-
-        // Check if the assignment already exists
-        if (studentToEdit.getAssignments().contains(assignment)) {
-            logger.warning("Duplicate assignment detected: " + assignment + " for student: "
-                    + studentToEdit.getName());
-            throw new CommandException(MESSAGE_DUPLICATE_ASSIGNMENT);
+        OptionalInt unknownId = indexes.findFirstUnknownId(id -> model.getStudentById(id).isPresent());
+        if (unknownId.isPresent()) {
+            logger.warning("Unknown student ID: " + unknownId.getAsInt());
+            throw new CommandException(String.format(Messages.MESSAGE_UNKNOWN_STUDENT_ID, unknownId.getAsInt()));
         }
 
-        // Add the new assignment to the student
-        if (studentToEdit.hasAssignment(assignment)) {
-            throw new CommandException(MESSAGE_DUPLICATE_ASSIGNMENT);
+        // Check if the assignment already exists, for every student before any of them is edited
+        List<Student> studentsToEdit = indexes.select(lastShownList, model::getStudentById);
+        for (Student studentToEdit : studentsToEdit) {
+            if (studentToEdit.hasAssignment(assignment)) {
+                logger.warning("Duplicate assignment detected: " + assignment + " for student: "
+                        + studentToEdit.getName());
+                throw new CommandException(MESSAGE_DUPLICATE_ASSIGNMENT);
+            }
         }
 
-        Student editedStudent = studentToEdit.addAssignment(assignment);
-        logger.info("Added assignment: " + assignment + " to student: " + studentToEdit.getName());
+        // Each student gets a copy of the assignment, so that it can be marked for one student only
+        Map<Student, Student> editedStudents = new HashMap<>();
+        for (Student studentToEdit : studentsToEdit) {
+            Assignment copy = new Assignment(assignment.getAssignmentName(), dueDate, assignment.isDone());
+            editedStudents.put(studentToEdit, studentToEdit.addAssignment(copy));
+        }
+        logger.info("Added assignment: " + assignment + " to " + studentsToEdit.size() + " students");
 
-        // Update the model with the edited student
-        model.setStudent(studentToEdit, editedStudent);
-        model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        // Update the model with the edited students
+        model.replaceStudents(editedStudents);
+        model.showStudentList();
 
-        String successMessage = generateSuccessMessage(editedStudent);
+        String successMessage = generateSuccessMessage(studentsToEdit);
         logger.info("Success: " + successMessage);
         return new CommandResult(successMessage, true);
     }
 
-    private String generateSuccessMessage(Student editedStudent) {
-        return String.format(Messages.MESSAGE_ADD_ASSIGNMENT_SUCCESS, editedStudent.getName(), assignment);
+    private String generateSuccessMessage(List<Student> editedStudents) {
+        return String.format(Messages.MESSAGE_ADD_ASSIGNMENT_SUCCESS, Messages.formatNames(editedStudents),
+                assignment);
     }
 
     @Override
@@ -118,14 +139,14 @@ public class AddAssignmentCommand extends Command {
         }
 
         AddAssignmentCommand e = (AddAssignmentCommand) other;
-        return index.equals(e.index)
+        return indexes.equals(e.indexes)
                 && assignment.equals(e.assignment)
                 && dueDate.equals(e.dueDate);
     }
 
     @Override
     public String toString() {
-        return getClass().getCanonicalName() + "{index=" + index
+        return getClass().getCanonicalName() + "{indexes=" + indexes
                 + ", assignment=" + assignment
                 + ", dueDate=" + assignment.getDueDate() + "}";
     }
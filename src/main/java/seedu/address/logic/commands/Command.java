@@ -17,4 +17,11 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command may change the address book, in which case it has to be saved.
+     */
+    public boolean isMutating() {
+        return true;
+    }
+
 }
@@ -3,19 +3,18 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.assignment.Assignment;
-import seedu.address.model.datetimeutil.Date;
 import seedu.address.model.student.Student;
 
 /**
@@ -49,9 +48,7 @@ public class DeleteAssignmentCommand extends Command {
     public DeleteAssignmentCommand(Index targetIndex, String assignmentName) {
         requireAllNonNull(targetIndex, assignmentName);
         this.targetIndex = targetIndex;
-        this.assignmentName = Arrays.stream(assignmentName.split("\\s+"))
-                .map(word -> word.substring(0, 1).toUpperCase() + word.substring(1).toLowerCase())
-                .collect(Collectors.joining(" ")).trim();
+        this.assignmentName = StringUtil.capitalizeWords(assignmentName);
         logger.info("DeleteAssignmentCommand created for student index: " + targetIndex.getOneBased()
                 + " and assignment: " + assignmentName);
     }
@@ -79,8 +76,9 @@ public class DeleteAssignmentCommand extends Command {
         Student studentToDeleteAssignment = lastShownList.get(targetIndex.getZeroBased());
         assert studentToDeleteAssignment != null : "Student should not be null";
 
-        Assignment assignmentToDelete = new Assignment(assignmentName, new Date("31-12-9999"));
-        if (!studentToDeleteAssignment.getAssignments().contains(assignmentToDelete)) {
+        Optional<Assignment> assignmentToDelete = studentToDeleteAssignment.getAssignments()
+                .findByName(assignmentName);
+        if (assignmentToDelete.isEmpty()) {
             logger.warning("Assignment not found: " + assignmentName + " for student: "
                     + studentToDeleteAssignment.getName());
             throw new CommandException(MESSAGE_INVALID_ASSIGNMENT_DISPLAYED);
@@ -91,7 +89,7 @@ public class DeleteAssignmentCommand extends Command {
                 + studentToDeleteAssignment.getName());
 
         return new CommandResult(String.format(MESSAGE_DELETE_ASSIGNMENT_SUCCESS,
-                Messages.format(studentToDeleteAssignment, assignmentToDelete)), true);
+                Messages.format(studentToDeleteAssignment, assignmentToDelete.get())), true);
     }
 
     @Override
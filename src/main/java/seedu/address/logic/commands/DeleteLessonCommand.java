@@ -3,10 +3,14 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -14,22 +18,24 @@ import seedu.address.model.Model;
 import seedu.address.model.lesson.Lesson;
 
 /**
- * Deletes a lesson identified using it's displayed index from the address book.
+ * Deletes the lessons identified using their displayed indexes from the address book.
  */
 public class DeleteLessonCommand extends Command {
 
     public static final String COMMAND_WORD = "delete_lesson";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the lesson identified by the index number used in the displayed lesson list.\n"
-            + "Parameters: LESSON INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Deletes the lessons identified by the index numbers used in the displayed lesson list.\n"
+            + "Parameters: LESSON INDEXES (positive integers, ranges such as 1-40 or IDs such as #12, "
+            + "separated by commas, or all)\n"
+            + "Example: " + COMMAND_WORD + " 1,3-5";
 
     public static final String MESSAGE_DELETE_LESSON_SUCCESS = "Deleted Lesson: %1$s";
+    public static final String MESSAGE_DELETE_LESSONS_SUCCESS = "Deleted %1$d Lessons:\n%2$s";
 
     private static final Logger logger = LogsCenter.getLogger(DeleteLessonCommand.class);
 
-    private final Index targetIndex;
+    private final IndexSelection targetIndexes;
 
     /**
      * Creates a DeleteLessonCommand to delete the specified {@code Lesson}.
@@ -37,39 +43,59 @@ public class DeleteLessonCommand extends Command {
      * @param targetIndex of the lesson in the filtered lesson list to delete
      */
     public DeleteLessonCommand(Index targetIndex) {
-        requireNonNull(targetIndex);
-        this.targetIndex = targetIndex;
-        logger.info("DeleteLessonCommand created for index: " + targetIndex.getOneBased());
+        this(IndexSelection.of(requireNonNull(targetIndex)));
+    }
+
+    /**
+     * Creates a DeleteLessonCommand to delete the specified lessons.
+     *
+     * @param targetIndexes of the lessons in the filtered lesson list to delete
+     */
+    public DeleteLessonCommand(IndexSelection targetIndexes) {
+        requireNonNull(targetIndexes);
+        this.targetIndexes = targetIndexes;
+        logger.info("DeleteLessonCommand created for indexes: " + targetIndexes.toOneBasedString());
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        logger.info("Executing DeleteLessonCommand for index: " + targetIndex.getOneBased());
+        logger.info("Executing DeleteLessonCommand for indexes: " + targetIndexes.toOneBasedString());
 
         List<Lesson> lastShownList = model.getFilteredLessonList();
         if (model.isStudentView()) {
             throw new CommandException(Messages.MESSAGE_LESSON_VIEW_REQUIRED);
         }
 
-        if (lastShownList.isEmpty()) {
+        if (lastShownList.isEmpty() && targetIndexes.hasIndexes()) {
             logger.warning("Attempted to delete from empty lesson list");
             throw new CommandException(Messages.MESSAGE_EMPTY_LESSON_LIST);
         }
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            logger.warning("Invalid lesson index: " + targetIndex.getOneBased()
+        Optional<Index> invalidIndex = targetIndexes.findFirstOutside(lastShownList.size());
+        if (invalidIndex.isPresent()) {
+            logger.warning("Invalid lesson index: " + invalidIndex.get().getOneBased()
                     + " (list size: " + lastShownList.size() + ")");
             throw new CommandException(Messages.MESSAGE_INVALID_LESSON_DISPLAYED_INDEX);
         }
 
-        Lesson lessonToDelete = lastShownList.get(targetIndex.getZeroBased());
-        assert lessonToDelete != null : "Lesson to delete should not be null";
+        OptionalInt unknownId = targetIndexes.findFirstUnknownId(id -> model.getLessonById(id).isPresent());
+        if (unknownId.isPresent()) {
+            logger.warning("Unknown lesson ID: " + unknownId.getAsInt());
+            throw new CommandException(String.format(Messages.MESSAGE_UNKNOWN_LESSON_ID, unknownId.getAsInt()));
+        }
 
-        model.deleteLesson(lessonToDelete);
-        logger.info("Successfully deleted lesson: " + lessonToDelete);
+        List<Lesson> lessonsToDelete = targetIndexes.select(lastShownList, model::getLessonById);
+        model.deleteLessons(lessonsToDelete);
+        logger.info("Successfully deleted " + lessonsToDelete.size() + " lessons");
 
-        return new CommandResult(String.format(MESSAGE_DELETE_LESSON_SUCCESS, Messages.format(lessonToDelete)), true);
+        if (lessonsToDelete.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_DELETE_LESSON_SUCCESS,
+                    Messages.format(lessonsToDelete.get(0))), true);
+        }
+        String deletedLessons = lessonsToDelete.stream().map(Messages::format).collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_DELETE_LESSONS_SUCCESS, lessonsToDelete.size(),
+                deletedLessons), true);
     }
 
     @Override
@@ -84,13 +110,13 @@ public class DeleteLessonCommand extends Command {
         }
 
         DeleteLessonCommand otherDeleteLessonCommand = (DeleteLessonCommand) other;
-        return targetIndex.equals(otherDeleteLessonCommand.targetIndex);
+        return targetIndexes.equals(otherDeleteLessonCommand.targetIndexes);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("targetIndexes", targetIndexes)
                 .toString();
     }
 }
@@ -3,35 +3,40 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.lesson.Lesson;
 import seedu.address.model.student.Student;
 
 /**
- * Deletes a student identified using it's displayed index from the address book.
+ * Deletes the students identified using their displayed indexes from the address book.
  */
 public class DeleteStudentCommand extends Command {
 
     public static final String COMMAND_WORD = "delete_student";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the student identified by the index number used in the displayed student list.\n"
-            + "Parameters: STUDENT INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Deletes the students identified by the index numbers used in the displayed student list.\n"
+            + "Parameters: STUDENT INDEXES (positive integers, ranges such as 1-40 or IDs such as #12, "
+            + "separated by commas, or all)\n"
+            + "Example: " + COMMAND_WORD + " 1,3-5";
 
     public static final String MESSAGE_DELETE_STUDENT_SUCCESS =
             "Student %1$s\ndeleted successfully, along with all associated lessons and assignments.";
+    public static final String MESSAGE_DELETE_STUDENTS_SUCCESS =
+            "%1$d students deleted successfully, along with all associated lessons and assignments:\n%2$s";
 
     private static final Logger logger = LogsCenter.getLogger(DeleteStudentCommand.class);
 
-    private final Index targetIndex;
+    private final IndexSelection targetIndexes;
 
     /**
      * Creates a DeleteStudentCommand to delete the specified {@code Student}.
@@ -39,51 +44,63 @@ public class DeleteStudentCommand extends Command {
      * @param targetIndex of the student in the filtered student list to delete
      */
     public DeleteStudentCommand(Index targetIndex) {
-        requireNonNull(targetIndex);
-        this.targetIndex = targetIndex;
-        logger.info("DeleteStudentCommand created for index: " + targetIndex.getOneBased());
+        this(IndexSelection.of(requireNonNull(targetIndex)));
+    }
+
+    /**
+     * Creates a DeleteStudentCommand to delete the specified students.
+     *
+     * @param targetIndexes of the students in the filtered student list to delete
+     */
+    public DeleteStudentCommand(IndexSelection targetIndexes) {
+        requireNonNull(targetIndexes);
+        this.targetIndexes = targetIndexes;
+        logger.info("DeleteStudentCommand created for indexes: " + targetIndexes.toOneBasedString());
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        logger.info("Executing DeleteStudentCommand for index: " + targetIndex.getOneBased());
+        logger.info("Executing DeleteStudentCommand for indexes: " + targetIndexes.toOneBasedString());
 
         List<Student> lastShownList = model.getFilteredStudentList();
         if (!model.isStudentView()) {
             throw new CommandException(Messages.MESSAGE_STUDENT_VIEW_REQUIRED);
         }
 
-        if (lastShownList.isEmpty()) {
+        if (lastShownList.isEmpty() && targetIndexes.hasIndexes()) {
             logger.warning("Attempted to delete from empty student list");
             throw new CommandException(Messages.MESSAGE_EMPTY_STUDENT_LIST);
         }
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            logger.warning("Invalid student index: " + targetIndex.getOneBased());
+        Optional<Index> invalidIndex = targetIndexes.findFirstOutside(lastShownList.size());
+        if (invalidIndex.isPresent()) {
+            logger.warning("Invalid student index: " + invalidIndex.get().getOneBased());
             throw new CommandException(Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
         }
 
-        Student studentToDelete = lastShownList.get(targetIndex.getZeroBased());
-        assert studentToDelete != null : "Student to delete should not be null";
+        OptionalInt unknownId = targetIndexes.findFirstUnknownId(id -> model.getStudentById(id).isPresent());
+        if (unknownId.isPresent()) {
+            logger.warning("Unknown student ID: " + unknownId.getAsInt());
+            throw new CommandException(String.format(Messages.MESSAGE_UNKNOWN_STUDENT_ID, unknownId.getAsInt()));
+        }
 
-        // Delete all lessons associated with the student
-        List<Lesson> lessonsToDelete = model.getFilteredLessonList()
-                .stream()
-                .filter(lesson -> lesson.getStudentName().equals(studentToDelete.getName()))
-                .toList();
+        List<Student> studentsToDelete = targetIndexes.select(lastShownList, model::getStudentById);
 
-        logger.info("Deleting " + lessonsToDelete.size() + " associated lessons");
-        lessonsToDelete.forEach(lesson -> {
-            model.deleteLesson(lesson);
-            logger.fine("Deleted lesson: " + lesson);
-        });
+        // Delete all lessons associated with the students
+        int deletedLessonCount = model.deleteLessonsOf(studentsToDelete);
+        logger.info("Deleting " + deletedLessonCount + " associated lessons");
 
-        // Finally, delete the student
-        model.deleteStudent(studentToDelete);
-        logger.info("Successfully deleted student: " + studentToDelete.getName());
+        // Finally, delete the students
+        model.deleteStudents(studentsToDelete);
+        logger.info("Successfully deleted " + studentsToDelete.size() + " students");
 
-        return new CommandResult(String.format(MESSAGE_DELETE_STUDENT_SUCCESS, Messages.format(studentToDelete)), true);
+        if (studentsToDelete.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_DELETE_STUDENT_SUCCESS,
+                    Messages.format(studentsToDelete.get(0))), true);
+        }
+        return new CommandResult(String.format(MESSAGE_DELETE_STUDENTS_SUCCESS, studentsToDelete.size(),
+                Messages.formatNames(studentsToDelete)), true);
     }
 
     @Override
@@ -98,13 +115,13 @@ public class DeleteStudentCommand extends Command {
         }
 
         DeleteStudentCommand otherDeleteStudentCommand = (DeleteStudentCommand) other;
-        return targetIndex.equals(otherDeleteStudentCommand.targetIndex);
+        return targetIndexes.equals(otherDeleteStudentCommand.targetIndexes);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("targetIndexes", targetIndexes)
                 .toString();
     }
 }
@@ -5,15 +5,14 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ASSIGNMENT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NEW_ASSIGNMENT;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -63,9 +62,7 @@ public class EditAssignmentCommand extends Command {
         requireNonNull(editAssignmentDescriptor);
 
         this.index = index;
-        this.assignmentName = Arrays.stream(assignmentName.split("\\s+"))
-                .map(word -> word.substring(0, 1).toUpperCase() + word.substring(1).toLowerCase())
-                .collect(Collectors.joining(" ")).trim();
+        this.assignmentName = StringUtil.capitalizeWords(assignmentName);
         this.editAssignmentDescriptor = new EditAssignmentDescriptor(editAssignmentDescriptor);
 
         logger.info("EditAssignmentCommand created for student index: " + index.getOneBased()
@@ -110,14 +107,11 @@ public class EditAssignmentCommand extends Command {
             }
         }
 
-        UniqueAssignmentList updatedAssignments = assignmentsToEdit;
-        updatedAssignments.setAssignment(assignmentToEdit, editedAssignment);
-
-        Student editedStudent = new Student(studentToEdit.getName(), studentToEdit.getPhone(), studentToEdit.getEmail(),
-                studentToEdit.getAddress(), studentToEdit.getSubjects(), updatedAssignments);
+        Student editedStudent = studentToEdit.withAssignments(
+                assignmentsToEdit.withReplaced(assignmentToEdit, editedAssignment));
 
         model.setStudent(studentToEdit, editedStudent);
-        model.updateFilteredStudentList(Model.PREDICATE_SHOW_ALL_STUDENTS);
+        model.showStudentList();
 
         logger.info("Assignment successfully edited: " + editedAssignment);
         return new CommandResult(String.format(MESSAGE_EDIT_ASSIGNMENT_SUCCESS,
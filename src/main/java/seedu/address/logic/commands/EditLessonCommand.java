@@ -11,7 +11,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_LESSONS;
 
 import java.util.HashSet;
 import java.util.List;
@@ -115,7 +114,7 @@ public class EditLessonCommand extends Command {
             throw new CommandException(MESSAGE_SUBJECT_MISMATCH);
         }
         model.setLesson(lessonToEdit, editedLesson);
-        model.updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
+        model.showLessonList();
 
         logger.info("Lesson successfully edited: " + editedLesson);
         return new CommandResult(String.format(MESSAGE_EDIT_LESSON_SUCCESS, Messages.format(editedLesson)), true);
@@ -1,8 +1,6 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.logic.commands.EditLessonCommand.EditLessonDescriptor;
-import static seedu.address.logic.commands.EditLessonCommand.createEditedLesson;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
@@ -24,7 +22,6 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.assignment.UniqueAssignmentList;
-import seedu.address.model.lesson.Lesson;
 import seedu.address.model.student.Address;
 import seedu.address.model.student.Email;
 import seedu.address.model.student.Name;
@@ -99,24 +96,13 @@ public class EditStudentCommand extends Command {
         }
 
         // Edit all lessons associated with the student
-        List<Lesson> lessonsToEdit = model.getFilteredLessonList()
-                .stream()
-                .filter(lesson -> lesson.getStudentName().equals(studentToEdit.getName()))
-                .toList();
         if (editStudentDescriptor.getName().isPresent()) {
-            EditLessonDescriptor editLessonDescriptor = new EditLessonDescriptor();
-            editLessonDescriptor.setName(editStudentDescriptor.getName().get());
-
-            logger.info("Editing " + lessonsToEdit.size() + " associated lessons");
-            lessonsToEdit.forEach(lesson -> {
-                Lesson editedLesson = createEditedLesson(lesson, editLessonDescriptor);
-                model.setLesson(lesson, editedLesson);
-                logger.fine("Edited lesson: " + lesson);
-            });
+            int editedLessonCount = model.renameStudentInLessons(studentToEdit, editedStudent.getName());
+            logger.info("Editing " + editedLessonCount + " associated lessons");
         }
 
         model.setStudent(studentToEdit, editedStudent);
-        model.updateFilteredStudentList(Model.PREDICATE_SHOW_ALL_STUDENTS);
+        model.showStudentList();
 
         logger.info("Student successfully edited: " + editedStudent.getName());
         return new CommandResult(String.format(MESSAGE_EDIT_STUDENT_SUCCESS,
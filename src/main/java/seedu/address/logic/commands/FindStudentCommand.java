@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -12,27 +13,43 @@ import seedu.address.model.student.NameContainsKeywordsPredicate;
 
 /**
  * Finds and lists all students in address book whose name contains any of the argument keywords.
- * Keyword matching is case-insensitive.
+ * Keyword matching is case-insensitive. Fuzzy keywords also match name words that start with them after a few typos,
+ * and the closest matches are listed first when there are any fuzzy keywords.
  */
 public class FindStudentCommand extends Command {
 
     public static final String COMMAND_WORD = "find_student";
+    public static final String FUZZY_SUFFIX = "~";
     private static final Logger logger = Logger.getLogger(FindStudentCommand.class.getName());
 
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Keywords ending with " + FUZZY_SUFFIX + " also match names starting with them, allowing for typos, "
+            + "and the closest matches are listed first.\n"
+            + "Parameters: KEYWORD[" + FUZZY_SUFFIX + "] [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " alcie" + FUZZY_SUFFIX;
 
     private final NameContainsKeywordsPredicate predicate;
+    private final List<String> fuzzyKeywords;
 
     /**
      * Constructs new FindStudentCommand with given predicate
      */
     public FindStudentCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, List.of());
+    }
+
+    /**
+     * Constructs new FindStudentCommand with given predicate, which also lists students with a name word that starts
+     * with one of {@code fuzzyKeywords} after a few typos.
+     */
+    public FindStudentCommand(NameContainsKeywordsPredicate predicate, List<String> fuzzyKeywords) {
         this.predicate = predicate;
-        logger.log(Level.FINE, "FindStudentCommand created with predicate: {0}", predicate);
+        this.fuzzyKeywords = fuzzyKeywords;
+        logger.log(Level.FINE, "FindStudentCommand created with predicate: {0}, fuzzy keywords: {1}",
+                new Object[] {predicate, fuzzyKeywords});
     }
 
     @Override
@@ -40,7 +57,11 @@ public class FindStudentCommand extends Command {
         requireNonNull(model);
         logger.log(Level.INFO, "Executing FindStudentCommand with predicate: {0}", predicate);
 
-        model.updateFilteredStudentList(predicate);
+        if (fuzzyKeywords.isEmpty()) {
+            model.updateFilteredStudentListByName(predicate.getKeywords());
+        } else {
+            model.rankFilteredStudentListByName(predicate.getKeywords(), fuzzyKeywords);
+        }
         int filteredListSize = model.getFilteredStudentList().size();
 
         logger.log(Level.INFO, "FindStudentCommand found {0} students matching the criteria", filteredListSize);
@@ -48,6 +69,11 @@ public class FindStudentCommand extends Command {
                 String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getFilteredStudentList().size()), true);
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -60,13 +86,15 @@ public class FindStudentCommand extends Command {
         }
 
         FindStudentCommand otherFindStudentCommand = (FindStudentCommand) other;
-        return predicate.equals(otherFindStudentCommand.predicate);
+        return predicate.equals(otherFindStudentCommand.predicate)
+                && fuzzyKeywords.equals(otherFindStudentCommand.fuzzyKeywords);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("fuzzyKeywords", fuzzyKeywords)
                 .toString();
     }
 }
@@ -42,4 +42,9 @@ public class HelpCommand extends Command {
         logger.info("Showing general help");
         return new CommandResult(GENERAL_HELP_MESSAGE, true, false);
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
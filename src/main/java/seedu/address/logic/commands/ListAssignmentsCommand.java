@@ -0,0 +1,118 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DUE_BY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DUE_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.assignment.StudentAssignment;
+
+/**
+ * Lists the assignments of all students in order of due date.
+ */
+public class ListAssignmentsCommand extends Command {
+
+    public static final String COMMAND_WORD = "list_assignments";
+    public static final String PENDING_KEYWORD = "pending";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the assignments of all students "
+            + "in order of due date. Can optionally list only pending assignments, assignments due within "
+            + "a range of dates, or only the first few assignments.\n"
+            + "Format: " + COMMAND_WORD + " [" + PENDING_KEYWORD + "] [" + PREFIX_DUE_FROM + "DATE] ["
+            + PREFIX_DUE_BY + "DATE] [" + PREFIX_TOP + "COUNT]\n"
+            + "Example: " + COMMAND_WORD + " " + PENDING_KEYWORD + " "
+            + PREFIX_DUE_BY + "31-12-2025 "
+            + PREFIX_TOP + "5";
+
+    public static final String MESSAGE_ASSIGNMENTS_LISTED = "%1$d assignments listed:\n%2$s";
+    public static final String MESSAGE_NO_ASSIGNMENTS_FOUND = "No assignments found matching the criteria";
+
+    private static final Logger logger = LogsCenter.getLogger(ListAssignmentsCommand.class);
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final boolean isPendingOnly;
+    private final int limit;
+
+    /**
+     * Creates a ListAssignmentsCommand to list up to {@code limit} assignments due from {@code from} to
+     * {@code to}, both inclusive. Only assignments that are not done are listed if {@code isPendingOnly} is true.
+     */
+    public ListAssignmentsCommand(LocalDate from, LocalDate to, boolean isPendingOnly, int limit) {
+        requireAllNonNull(from, to);
+        this.from = from;
+        this.to = to;
+        this.isPendingOnly = isPendingOnly;
+        this.limit = limit;
+        logger.info("ListAssignmentsCommand created for assignments due from " + from + " to " + to);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        logger.info("Executing ListAssignmentsCommand");
+
+        List<StudentAssignment> assignments = model.getAssignmentsDue(from, to, isPendingOnly, limit);
+        if (assignments.isEmpty()) {
+            logger.info("No assignments found matching the criteria");
+            return new CommandResult(MESSAGE_NO_ASSIGNMENTS_FOUND);
+        }
+
+        StringBuilder list = new StringBuilder();
+        for (int i = 0; i < assignments.size(); i++) {
+            StudentAssignment studentAssignment = assignments.get(i);
+            Assignment assignment = studentAssignment.getAssignment();
+            list.append(i + 1).append(". ")
+                    .append(Messages.format(studentAssignment.getStudent(), assignment))
+                    .append(", due ").append(assignment.getDueDate())
+                    .append(assignment.isDone() ? " (done)" : " (pending)")
+                    .append("\n");
+        }
+
+        logger.info("Found " + assignments.size() + " assignments matching the criteria");
+        return new CommandResult(String.format(MESSAGE_ASSIGNMENTS_LISTED, assignments.size(),
+                list.toString().trim()));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListAssignmentsCommand otherCommand)) {
+            return false;
+        }
+
+        return from.equals(otherCommand.from)
+                && to.equals(otherCommand.to)
+                && isPendingOnly == otherCommand.isPendingOnly
+                && limit == otherCommand.limit;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .add("isPendingOnly", isPendingOnly)
+                .add("limit", limit)
+                .toString();
+    }
+}
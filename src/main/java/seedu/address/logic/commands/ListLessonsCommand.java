@@ -96,6 +96,11 @@ public class ListLessonsCommand extends Command {
                 true);
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
 
     @Override
     public boolean equals(Object other) {
@@ -40,4 +40,9 @@ public class ListStudentsCommand extends Command {
                 String.format(MESSAGE_SUCCESS, studentCount),
                 true);
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
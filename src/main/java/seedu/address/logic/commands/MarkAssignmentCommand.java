@@ -3,95 +3,119 @@ package seedu.address.logic.commands;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ASSIGNMENT;
 
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.assignment.Assignment;
-import seedu.address.model.datetimeutil.Date;
+import seedu.address.model.assignment.UniqueAssignmentList;
+import seedu.address.model.assignment.expections.AssignmentAlreadyMarkedException;
+import seedu.address.model.assignment.expections.AssignmentNotFoundException;
 import seedu.address.model.student.Student;
 
 /**
- * Marks an assignment of a student identified using it's displayed index from the address book.
+ * Marks an assignment of the students identified using their displayed indexes from the address book.
  */
 public class MarkAssignmentCommand extends Command {
 
     public static final String COMMAND_WORD = "mark_assignment";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Marks the assignment identified by the index number used in the displayed assignment list.\n"
-            + "Parameters: STUDENT INDEX (must be a positive integer) "
+            + ": Marks the assignment of the students identified by the index numbers used in the displayed "
+            + "student list.\n"
+            + "Parameters: STUDENT INDEXES (positive integers, ranges such as 1-40 or IDs such as #12, "
+            + "separated by commas, or all) "
             + PREFIX_ASSIGNMENT + "Assignment Name\n"
-            + "Example: " + COMMAND_WORD + " 1 "
+            + "Example: " + COMMAND_WORD + " 1,3-5 "
             + PREFIX_ASSIGNMENT + "Assignment 1";
 
     public static final String MESSAGE_MARK_ASSIGNMENT_SUCCESS = "Assignment \"%1$s\" marked as completed for %2$s";
     public static final String MESSAGE_EMPTY_STUDENT_LIST = "There are no students in the address book";
 
     private static final Logger logger = LogsCenter.getLogger(MarkAssignmentCommand.class);
-    private final Index studentIndex;
+    private final IndexSelection studentIndexes;
     private final String assignmentName;
 
     /**
-     * Creates a MarkAssignmentCommand to mark the specified assignment as completed.
+     * Creates a MarkAssignmentCommand to mark the specified assignment of one student as completed.
      *
      * @param studentIndex Index of the student in the filtered student list
      * @param assignmentName Name of the assignment to mark
      */
     public MarkAssignmentCommand(Index studentIndex, String assignmentName) {
-        requireAllNonNull(studentIndex, assignmentName);
-        this.studentIndex = studentIndex;
-        this.assignmentName = Arrays.stream(assignmentName.split("\\s+"))
-                .map(word -> word.substring(0, 1).toUpperCase() + word.substring(1).toLowerCase())
-                .collect(Collectors.joining(" ")).trim();
-        logger.info(String.format("Created MarkAssignmentCommand for student index %d, assignment: %s",
-                studentIndex.getOneBased(), assignmentName));
+        this(IndexSelection.of(studentIndex), assignmentName);
+    }
+
+    /**
+     * Creates a MarkAssignmentCommand to mark the specified assignment of several students as completed.
+     *
+     * @param studentIndexes Indexes of the students in the filtered student list
+     * @param assignmentName Name of the assignment to mark
+     */
+    public MarkAssignmentCommand(IndexSelection studentIndexes, String assignmentName) {
+        requireAllNonNull(studentIndexes, assignmentName);
+        this.studentIndexes = studentIndexes;
+        this.assignmentName = StringUtil.capitalizeWords(assignmentName);
+        logger.info(String.format("Created MarkAssignmentCommand for student indexes %s, assignment: %s",
+                studentIndexes.toOneBasedString(), assignmentName));
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        List<Student> lastShownList = model.getFilteredStudentList();
         logger.info("Executing MarkAssignmentCommand");
 
         List<Student> studentList = model.getFilteredStudentList();
 
-        if (studentList.isEmpty()) {
+        if (studentList.isEmpty() && studentIndexes.hasIndexes()) {
             logger.warning("Attempted to mark assignment in empty student list");
             throw new CommandException(MESSAGE_EMPTY_STUDENT_LIST);
         }
 
-        if (studentIndex.getZeroBased() >= studentList.size()) {
+        Optional<Index> invalidIndex = studentIndexes.findFirstOutside(studentList.size());
+        if (invalidIndex.isPresent()) {
             logger.warning(String.format("Invalid student index: %d (list size: %d)",
-                    studentIndex.getOneBased(), studentList.size()));
+                    invalidIndex.get().getOneBased(), studentList.size()));
             throw new CommandException(Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
         }
 
-        Student student = studentList.get(studentIndex.getZeroBased());
-        assert student != null : "Student should not be null";
-
-        Assignment targetAssignment = new Assignment(assignmentName, new Date("31-12-9999"));
-        if (!student.getAssignments().contains(targetAssignment)) {
-            logger.warning(String.format("Assignment not found: %s for student %s",
-                    assignmentName, student.getName()));
-            throw new CommandException(String.format(Messages.MESSAGE_ASSIGNMENT_NOT_FOUND, assignmentName));
+        OptionalInt unknownId = studentIndexes.findFirstUnknownId(id -> model.getStudentById(id).isPresent());
+        if (unknownId.isPresent()) {
+            logger.warning("Unknown student ID: " + unknownId.getAsInt());
+            throw new CommandException(String.format(Messages.MESSAGE_UNKNOWN_STUDENT_ID, unknownId.getAsInt()));
         }
 
-        // Mark the assignment
-        Student updatedStudent = student.markAssignment(assignmentName);
-        model.setStudent(student, updatedStudent);
-        model.updateFilteredStudentList(Model.PREDICATE_SHOW_ALL_STUDENTS);
+        // The students are only replaced once every assignment is marked, so that none are marked if any cannot be
+        List<Student> students = studentIndexes.select(studentList, model::getStudentById);
+        Map<Student, Student> updatedStudents = new HashMap<>();
+        for (Student student : students) {
+            try {
+                updatedStudents.put(student, student.markAssignment(assignmentName));
+            } catch (AssignmentNotFoundException e) {
+                logger.warning(String.format("Assignment not found: %s for student %s",
+                        assignmentName, student.getName()));
+                throw new CommandException(String.format(Messages.MESSAGE_ASSIGNMENT_NOT_FOUND, assignmentName));
+            } catch (AssignmentAlreadyMarkedException e) {
+                throw new CommandException(UniqueAssignmentList.MESSAGE_ALREADY_MARKED);
+            }
+        }
+        model.replaceStudents(updatedStudents);
+        model.showStudentList();
 
-        logger.info(String.format("Successfully marked assignment %s for student %s",
-                assignmentName, student.getName()));
+        logger.info(String.format("Successfully marked assignment %s for %d students",
+                assignmentName, students.size()));
         return new CommandResult(
-                String.format(MESSAGE_MARK_ASSIGNMENT_SUCCESS, assignmentName, student.getName()),
+                String.format(MESSAGE_MARK_ASSIGNMENT_SUCCESS, assignmentName, Messages.formatNames(students)),
                 true);
     }
 
@@ -107,14 +131,14 @@ public class MarkAssignmentCommand extends Command {
         }
 
         MarkAssignmentCommand otherCommand = (MarkAssignmentCommand) other;
-        return studentIndex.equals(otherCommand.studentIndex)
+        return studentIndexes.equals(otherCommand.studentIndexes)
                 && assignmentName.equals(otherCommand.assignmentName);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("studentIndex", studentIndex)
+                .add("studentIndexes", studentIndexes)
                 .add("assignmentName", assignmentName)
                 .toString();
     }
@@ -0,0 +1,36 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Makes the changes undone by the latest undo command again.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Redoes the latest undone command.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Redid the latest undone change.";
+    public static final String MESSAGE_NOTHING_TO_REDO = "There is no undone change to redo.";
+
+    private static final Logger logger = LogsCenter.getLogger(RedoCommand.class);
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canRedo()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_REDO);
+        }
+
+        model.redo();
+        logger.info("Redid the latest undone change");
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -7,7 +7,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.AddAssignmentCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.assignment.Assignment;
@@ -38,7 +38,7 @@ public class AddAssignmentCommandParser implements Parser<AddAssignmentCommand>
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ASSIGNMENT, PREFIX_DATE);
 
         try {
-            Index index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            IndexSelection indexes = ParserUtil.parseIndexes(argMultimap.getPreamble());
             String assignmentName = ParserUtil.parseAssignmentName(argMultimap.getValue(PREFIX_ASSIGNMENT).orElse(""));
             Date dueDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).orElse(""));
 
@@ -46,9 +46,9 @@ public class AddAssignmentCommandParser implements Parser<AddAssignmentCommand>
             assert dueDate != null : "Due date cannot be null";
 
             Assignment assignment = new Assignment(assignmentName, dueDate);
-            logger.info("Successfully parsed AddAssignmentCommand with index: " + index.getOneBased()
+            logger.info("Successfully parsed AddAssignmentCommand with indexes: " + indexes.toOneBasedString()
                     + ", assignment: " + assignment);
-            return new AddAssignmentCommand(index, assignment);
+            return new AddAssignmentCommand(indexes, assignment);
         } catch (ParseException pe) {
             logger.warning("Error parsing AddAssignmentCommand: " + pe.getMessage());
             throw pe;
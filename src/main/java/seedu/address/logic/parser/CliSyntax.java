@@ -15,5 +15,8 @@ public class CliSyntax {
     public static final Prefix PREFIX_DATE = new Prefix("d/");
     public static final Prefix PREFIX_TIME = new Prefix("t/");
     public static final Prefix PREFIX_NEW_ASSIGNMENT = new Prefix("nas/");
+    public static final Prefix PREFIX_DUE_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_DUE_BY = new Prefix("by/");
+    public static final Prefix PREFIX_TOP = new Prefix("top/");
 
 }
@@ -5,7 +5,7 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.DeleteLessonCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -38,10 +38,10 @@ public class DeleteLessonCommandParser implements Parser<DeleteLessonCommand> {
                         String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteLessonCommand.MESSAGE_USAGE));
             }
 
-            Index index = ParserUtil.parseIndex(argMultimap.getPreamble());
-            logger.info("Successfully parsed DeleteLessonCommand for lesson index: " + index.getOneBased());
+            IndexSelection indexes = ParserUtil.parseIndexes(argMultimap.getPreamble());
+            logger.info("Successfully parsed DeleteLessonCommand for lesson indexes: " + indexes.toOneBasedString());
 
-            return new DeleteLessonCommand(index);
+            return new DeleteLessonCommand(indexes);
         } catch (ParseException pe) {
             logger.warning("Failed to parse index in DeleteLessonCommand: " + pe.getMessage());
             throw new ParseException(
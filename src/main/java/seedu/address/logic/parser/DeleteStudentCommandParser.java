@@ -5,7 +5,7 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.DeleteStudentCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -30,9 +30,9 @@ public class DeleteStudentCommandParser implements Parser<DeleteStudentCommand>
         }
 
         try {
-            Index index = ParserUtil.parseIndex(args.trim());
-            logger.info("Successfully parsed DeleteStudentCommand for student index: " + index.getOneBased());
-            return new DeleteStudentCommand(index);
+            IndexSelection indexes = ParserUtil.parseIndexes(args.trim());
+            logger.info("Successfully parsed DeleteStudentCommand for student indexes: " + indexes.toOneBasedString());
+            return new DeleteStudentCommand(indexes);
         } catch (ParseException pe) {
             logger.warning("Failed to parse index in DeleteStudentCommand: " + pe.getMessage());
             throw new ParseException(
@@ -2,7 +2,9 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -32,13 +34,29 @@ public class FindStudentCommandParser implements Parser<FindStudentCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindStudentCommand.MESSAGE_USAGE));
         }
 
-        try {
-            String[] nameKeywords = trimmedArgs.split("\\s+");
-            assert nameKeywords != null && nameKeywords.length > 0 : "Keywords array cannot be null or empty";
+        String[] nameKeywords = trimmedArgs.split("\\s+");
+        assert nameKeywords.length > 0 : "Keywords array cannot be empty";
+
+        List<String> exactKeywords = new ArrayList<>();
+        List<String> fuzzyKeywords = new ArrayList<>();
+        for (String keyword : nameKeywords) {
+            if (!keyword.endsWith(FindStudentCommand.FUZZY_SUFFIX)) {
+                exactKeywords.add(keyword);
+                continue;
+            }
+            String fuzzyKeyword = keyword.substring(0, keyword.length() - FindStudentCommand.FUZZY_SUFFIX.length());
+            if (fuzzyKeyword.isEmpty()) {
+                logger.warning("Fuzzy keyword without any characters provided to FindStudentCommand");
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindStudentCommand.MESSAGE_USAGE));
+            }
+            fuzzyKeywords.add(fuzzyKeyword);
+        }
 
+        try {
             logger.info("Successfully parsed FindStudentCommand with keywords: "
                     + Arrays.toString(nameKeywords));
-            return new FindStudentCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+            return new FindStudentCommand(new NameContainsKeywordsPredicate(exactKeywords), fuzzyKeywords);
         } catch (NullPointerException npe) {
             logger.severe("Null value encountered while parsing FindStudentCommand");
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
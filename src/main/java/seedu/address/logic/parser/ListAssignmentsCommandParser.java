@@ -0,0 +1,67 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DUE_BY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DUE_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.ListAssignmentsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ListAssignmentsCommand object
+ */
+public class ListAssignmentsCommandParser implements Parser<ListAssignmentsCommand> {
+
+    public static final String MESSAGE_INVALID_DATE_RANGE = "Error: The " + PREFIX_DUE_FROM
+            + " date must not be after the " + PREFIX_DUE_BY + " date";
+
+    private static final Logger logger = LogsCenter.getLogger(ListAssignmentsCommandParser.class);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListAssignmentsCommand
+     * and returns a ListAssignmentsCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public ListAssignmentsCommand parse(String args) throws ParseException {
+        assert args != null : "Input arguments string cannot be null";
+        logger.info("Parsing ListAssignmentsCommand with arguments: " + args);
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DUE_FROM, PREFIX_DUE_BY, PREFIX_TOP);
+
+        String preamble = argMultimap.getPreamble();
+        if (!preamble.isEmpty() && !preamble.equalsIgnoreCase(ListAssignmentsCommand.PENDING_KEYWORD)) {
+            logger.warning("Invalid command format for ListAssignmentsCommand - unexpected preamble: " + args);
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ListAssignmentsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DUE_FROM, PREFIX_DUE_BY, PREFIX_TOP);
+        LocalDate from = parseOptionalDate(argMultimap.getValue(PREFIX_DUE_FROM)).orElse(LocalDate.MIN);
+        LocalDate to = parseOptionalDate(argMultimap.getValue(PREFIX_DUE_BY)).orElse(LocalDate.MAX);
+        if (from.isAfter(to)) {
+            logger.warning("Invalid date range for ListAssignmentsCommand: " + args);
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+
+        int limit = Integer.MAX_VALUE;
+        if (argMultimap.getValue(PREFIX_TOP).isPresent()) {
+            limit = ParserUtil.parseCount(argMultimap.getValue(PREFIX_TOP).get());
+        }
+
+        logger.info("Successfully parsed ListAssignmentsCommand");
+        return new ListAssignmentsCommand(from, to, !preamble.isEmpty(), limit);
+    }
+
+    private static Optional<LocalDate> parseOptionalDate(Optional<String> date) throws ParseException {
+        if (date.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(ParserUtil.parseQueryDate(date.get()));
+    }
+}
@@ -6,7 +6,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ASSIGNMENT;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.MarkAssignmentCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -34,14 +34,14 @@ public class MarkAssignmentCommandParser implements Parser<MarkAssignmentCommand
 
         try {
             argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ASSIGNMENT);
-            Index index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            IndexSelection indexes = ParserUtil.parseIndexes(argMultimap.getPreamble());
             String assignmentName = ParserUtil.parseAssignmentName(argMultimap.getValue(PREFIX_ASSIGNMENT).get());
 
             assert assignmentName != null && !assignmentName.isEmpty() : "Assignment name cannot be null or empty";
 
-            logger.info("Successfully parsed MarkAssignmentCommand for index: "
-                    + index.getOneBased() + " and assignment: " + assignmentName);
-            return new MarkAssignmentCommand(index, assignmentName);
+            logger.info("Successfully parsed MarkAssignmentCommand for indexes: "
+                    + indexes.toOneBasedString() + " and assignment: " + assignmentName);
+            return new MarkAssignmentCommand(indexes, assignmentName);
         } catch (ParseException pe) {
             logger.warning("Error parsing MarkAssignmentCommand: " + pe.getMessage());
             throw pe;
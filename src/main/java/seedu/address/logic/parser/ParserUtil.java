@@ -2,11 +2,14 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.assignment.Assignment;
@@ -24,6 +27,13 @@ import seedu.address.model.subject.Subject;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Error: Index must be a positive integer (1 or greater)";
+    public static final String MESSAGE_INVALID_INDEX_RANGE = "Error: Index ranges must be written as FIRST-LAST, "
+            + "where FIRST is not greater than LAST (e.g., 1-40)";
+    public static final String MESSAGE_INVALID_ID = "Error: ID must be a positive integer after # (e.g., #12)";
+    public static final String ALL_INDEXES = "all";
+    public static final String MESSAGE_INVALID_COUNT = "Error: Count must be a positive integer (1 or greater)";
+    public static final String MESSAGE_INVALID_QUERY_DATE = "Error: Date must be a valid date, "
+            + "in DD-MM-YYYY or D-M-YYYY format (e.g., 05-10-2023 or 5-10-2023)";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -38,6 +48,59 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code id}, such as {@code #12}, into the ID of a student or lesson and returns it. Leading and trailing
+     * whitespaces will be trimmed.
+     * @throws ParseException if the specified ID is invalid (not a non-zero unsigned integer after {@code #}).
+     */
+    public static int parseId(String id) throws ParseException {
+        requireNonNull(id);
+        String trimmedId = id.trim();
+        if (!trimmedId.startsWith(IndexSelection.ID_PREFIX)
+                || !StringUtil.isNonZeroUnsignedInteger(trimmedId.substring(IndexSelection.ID_PREFIX.length()))) {
+            throw new ParseException(MESSAGE_INVALID_ID);
+        }
+        return Integer.parseInt(trimmedId.substring(IndexSelection.ID_PREFIX.length()));
+    }
+
+    /**
+     * Parses {@code oneBasedIndexes} into an {@code IndexSelection} and returns it. The indexes are separated by
+     * commas, and each is a single index such as {@code 3}, an inclusive range such as {@code 1-40}, or the ID of a
+     * student or lesson such as {@code #12}.
+     * {@code all} selects every index of the list. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if any of the specified indexes, ranges or IDs is invalid.
+     */
+    public static IndexSelection parseIndexes(String oneBasedIndexes) throws ParseException {
+        requireNonNull(oneBasedIndexes);
+        String trimmedIndexes = oneBasedIndexes.trim();
+        if (trimmedIndexes.equalsIgnoreCase(ALL_INDEXES)) {
+            return IndexSelection.all();
+        }
+
+        IndexSelection selection = null;
+        for (String part : trimmedIndexes.split(",", -1)) {
+            if (part.trim().startsWith(IndexSelection.ID_PREFIX)) {
+                IndexSelection id = IndexSelection.ofId(parseId(part));
+                selection = selection == null ? id : selection.union(id);
+                continue;
+            }
+
+            String[] ends = part.split("-", -1);
+            if (ends.length > 2) {
+                throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+            }
+            Index first = parseIndex(ends[0]);
+            Index last = ends.length == 2 ? parseIndex(ends[1]) : first;
+            if (first.getZeroBased() > last.getZeroBased()) {
+                throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+            }
+
+            IndexSelection range = IndexSelection.ofRange(first, last);
+            selection = selection == null ? range : selection.union(range);
+        }
+        return selection;
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -113,6 +176,36 @@ public class ParserUtil {
         return new Date(trimmedDate);
     }
 
+    /**
+     * Parses a {@code String date} to search by into a {@code LocalDate}.
+     * Unlike {@link #parseDate(String)}, the date may be in the past.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static LocalDate parseQueryDate(String date) throws ParseException {
+        requireNonNull(date);
+        try {
+            return LocalDate.parse(date.trim(), Date.VALID_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_QUERY_DATE);
+        }
+    }
+
+    /**
+     * Parses {@code count} into a positive {@code int}. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code count} is not a positive integer.
+     */
+    public static int parseCount(String count) throws ParseException {
+        requireNonNull(count);
+        String trimmedCount = count.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedCount)) {
+            throw new ParseException(MESSAGE_INVALID_COUNT);
+        }
+        return Integer.parseInt(trimmedCount);
+    }
+
     /**
      * Parses a {@code String time} into a {@code Time}.
      * Leading and trailing whitespaces will be trimmed.
@@ -6,7 +6,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ASSIGNMENT;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.UnmarkAssignmentCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -35,7 +35,7 @@ public class UnmarkAssignmentCommandParser implements Parser<UnmarkAssignmentCom
         try {
             argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ASSIGNMENT);
 
-            Index index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            IndexSelection indexes = ParserUtil.parseIndexes(argMultimap.getPreamble());
             String assignmentName = ParserUtil.parseAssignmentName(
                     argMultimap.getValue(PREFIX_ASSIGNMENT).orElseThrow(() -> {
                         logger.warning("Missing assignment name prefix");
@@ -43,9 +43,9 @@ public class UnmarkAssignmentCommandParser implements Parser<UnmarkAssignmentCom
                                 UnmarkAssignmentCommand.MESSAGE_USAGE));
                     }));
 
-            logger.info("Successfully parsed UnmarkAssignmentCommand for student " + index.getOneBased()
+            logger.info("Successfully parsed UnmarkAssignmentCommand for students " + indexes.toOneBasedString()
                     + ", assignment: " + assignmentName);
-            return new UnmarkAssignmentCommand(index, assignmentName);
+            return new UnmarkAssignmentCommand(indexes, assignmentName);
         } catch (ParseException pe) {
             logger.warning("Parse error in UnmarkAssignmentCommand: " + pe.getMessage());
             throw pe;
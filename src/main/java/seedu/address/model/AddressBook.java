@@ -3,13 +3,24 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.assignment.DueDateIndex;
+import seedu.address.model.assignment.StudentAssignment;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.lesson.UniqueLessonList;
+import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
 import seedu.address.model.student.UniqueStudentList;
 import seedu.address.model.subject.Subject;
@@ -17,11 +28,45 @@ import seedu.address.model.subject.Subject;
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSameStudent and .isSameLesson comparison)
+ * The assignments of all students are indexed by due date, and the index is updated from the changes to the
+ * student list.
+ * Changes made in a transaction are passed on to listeners together when the transaction is committed, and can
+ * instead be undone by rolling the transaction back.
+ *
+ * The changes of the latest committed transactions are kept as a history, so that they can be undone and redone.
+ * As students and lessons are immutable, a change only refers to the records it replaced and added, so the history
+ * takes memory in proportion to the size of the changes rather than to the size of the address book.
+ *
+ * Students and lessons can be looked up by ID. Each lesson is linked to its student by the student's ID when it is
+ * added or edited, so that the lessons of a student are found without comparing names.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    public static final int DEFAULT_HISTORY_DEPTH = 20;
+
     private final UniqueStudentList students;
     private final UniqueLessonList lessons;
+    private final DueDateIndex assignmentsByDueDate;
+
+    private final List<Consumer<List<ListChange<Student>>>> studentListeners = new ArrayList<>();
+    private final List<Consumer<List<ListChange<Lesson>>>> lessonListeners = new ArrayList<>();
+
+    // Changes not yet passed on to listeners, and the steps that undo the changes of the current transaction
+    private final List<ListChange<Student>> pendingStudentChanges = new ArrayList<>();
+    private final List<ListChange<Lesson>> pendingLessonChanges = new ArrayList<>();
+    private final List<Runnable> undoSteps = new ArrayList<>();
+    private boolean isInTransaction;
+    private boolean isRollingBack;
+    // True while setStudents replaces the whole student list, so the due date index is rebuilt rather than updated
+    private boolean isReplacingStudents;
+
+    // The committed transactions that can be undone and redone, the latest first
+    private final Deque<Edit> undoableEdits = new ArrayDeque<>();
+    private final Deque<Edit> redoableEdits = new ArrayDeque<>();
+    private int historyDepth = DEFAULT_HISTORY_DEPTH;
+    // The edit undone or redone in the current transaction, if any
+    private Edit steppedEdit;
+    private boolean isUndoing;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -33,6 +78,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         lessons = new UniqueLessonList();
         students = new UniqueStudentList();
+        assignmentsByDueDate = new DueDateIndex();
+        students.addListener(this::studentsChanged);
+        lessons.addListener(this::lessonsChanged);
     }
 
     public AddressBook() {}
@@ -52,25 +100,43 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code students} must not contain duplicate students.
      */
     public void setStudents(List<Student> students) {
-        this.students.setStudents(students);
+        isReplacingStudents = true;
+        try {
+            this.students.setStudents(students);
+        } finally {
+            isReplacingStudents = false;
+        }
     }
 
     /**
-     * Replaces the contents of the lesson list with {@code students}.
-     * {@code lessons} must not contain duplicate students.
+     * Replaces the contents of the lesson list with {@code lessons}, linking each to its student.
+     * {@code lessons} must not contain duplicate lessons.
      */
     public void setLessons(List<Lesson> lessons) {
-        this.lessons.setLessons(lessons);
+        requireAllNonNull(lessons);
+        this.lessons.setLessons(lessons.stream().map(this::linkToStudent).toList());
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * IDs not yet given out by {@code newData} are not given out by this address book either.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setLessons(newData.getLessonList());
+        // students first, so that the lessons can be linked to them
         setStudents(newData.getStudentList());
+        setLessons(newData.getLessonList());
+        reserveIdsBelow(newData.getNextStudentId(), newData.getNextLessonId());
+    }
+
+    /**
+     * Makes sure that students and lessons added from now on are not given IDs below {@code nextStudentId} and
+     * {@code nextLessonId} respectively.
+     */
+    public void reserveIdsBelow(int nextStudentId, int nextLessonId) {
+        students.reserveIdsBelow(nextStudentId);
+        lessons.reserveIdsBelow(nextLessonId);
     }
 
     //// student-level operations
@@ -83,6 +149,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         return students.contains(student);
     }
 
+    /**
+     * Returns the student with the ID {@code id}, if there is one.
+     */
+    public Optional<Student> getStudentById(int id) {
+        return students.findById(id);
+    }
+
     /**
      * Returns true if a student has a subject.
      */
@@ -111,6 +184,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         students.setStudent(target, editedStudent);
     }
 
+    /**
+     * Replaces each student that is a key of {@code editedStudents} with its value.
+     * @see UniqueStudentList#replaceStudents(Map)
+     */
+    public void replaceStudents(Map<Student, Student> editedStudents) {
+        students.replaceStudents(editedStudents);
+    }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
@@ -119,12 +200,46 @@ public class AddressBook implements ReadOnlyAddressBook {
         students.remove(key);
     }
 
+    /**
+     * Removes {@code keys} from this {@code AddressBook}.
+     * Every student in {@code keys} must exist in the address book.
+     */
+    public void removeStudents(Collection<Student> keys) {
+        students.removeAll(keys);
+    }
+
+    /**
+     * Returns a predicate that accepts the students in the address book whose name contains any of {@code keywords}.
+     * @see UniqueStudentList#nameMatcher(Collection)
+     */
+    public Predicate<Student> getStudentNameMatcher(Collection<String> keywords) {
+        return students.nameMatcher(keywords);
+    }
+
+    /**
+     * Returns the students in the address book whose name matches any of {@code exactKeywords} or
+     * {@code fuzzyKeywords}, mapped to the number of typos in the closest match.
+     * @see UniqueStudentList#rankByName(Collection, Collection)
+     */
+    public Map<Student, Integer> rankStudentsByName(Collection<String> exactKeywords,
+            Collection<String> fuzzyKeywords) {
+        return students.rankByName(exactKeywords, fuzzyKeywords);
+    }
+
     //// Assignment-level operations
 
     public void deleteAssignment(Student student, String assignmentName) {
         students.deleteAssignment(student, assignmentName);
     }
 
+    /**
+     * Returns up to {@code limit} assignments of all students due from {@code from} to {@code to}, both inclusive,
+     * in order of due date. Only assignments that are not done are returned if {@code isPendingOnly} is true.
+     */
+    public List<StudentAssignment> getAssignmentsDue(LocalDate from, LocalDate to, boolean isPendingOnly, int limit) {
+        return assignmentsByDueDate.getAssignmentsDue(from, to, isPendingOnly, limit);
+    }
+
     //// lesson-level methods
 
     /**
@@ -144,11 +259,19 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Adds a lesson to the address book.
+     * Returns the lesson with the ID {@code id}, if there is one.
+     */
+    public Optional<Lesson> getLessonById(int id) {
+        return lessons.findById(id);
+    }
+
+    /**
+     * Adds a lesson to the address book, linking it to its student.
      * The lesson must not already exist in the address book.
      */
     public void addLesson(Lesson lesson) {
-        lessons.add(lesson);
+        requireNonNull(lesson);
+        lessons.add(linkToStudent(lesson));
     }
 
     /**
@@ -159,16 +282,320 @@ public class AddressBook implements ReadOnlyAddressBook {
         lessons.remove(lesson);
     }
 
+    /**
+     * Removes {@code toRemove} from this {@code AddressBook}.
+     * Every lesson in {@code toRemove} must exist in the address book.
+     */
+    public void removeLessons(Collection<Lesson> toRemove) {
+        lessons.removeAll(toRemove);
+    }
+
     /**
      * Replaces the given lesson {@code target} in the list with {@code editedLesson}.
      * {@code target} must exist in the address book.
      * The lesson identity of {@code editedLesson} must not be the same as
      * another existing lesson in the address book.
+     * {@code editedLesson} is linked to its student, which may differ from the student of {@code target}.
      */
     public void setLesson(Lesson target, Lesson editedLesson) {
         requireNonNull(editedLesson);
 
-        lessons.setLesson(target, editedLesson);
+        lessons.setLesson(target, linkToStudent(editedLesson));
+    }
+
+    /**
+     * Removes all lessons of {@code student} from this {@code AddressBook}.
+     * {@code student} must exist in the address book. Returns the number of lessons removed.
+     */
+    public int removeLessonsOf(Student student) {
+        requireNonNull(student);
+        return lessons.removeLessonsOf(students.getIdOf(student));
+    }
+
+    /**
+     * Removes all lessons of {@code studentsToClear} from this {@code AddressBook}.
+     * Every student must exist in the address book. Returns the number of lessons removed.
+     */
+    public int removeLessonsOf(Collection<Student> studentsToClear) {
+        requireAllNonNull(studentsToClear);
+        return lessons.removeLessonsOf(studentsToClear.stream().map(students::getIdOf).toList());
+    }
+
+    /**
+     * Renames the student of all lessons of {@code student} to {@code newName}.
+     * {@code student} must exist in the address book. Returns the number of lessons renamed.
+     */
+    public int renameStudentInLessons(Student student, Name newName) {
+        requireAllNonNull(student, newName);
+        return lessons.renameStudentInLessons(students.getIdOf(student), newName);
+    }
+
+    /**
+     * Returns {@code lesson} linked by ID to the student of the address book with the student name of the lesson,
+     * or to no student if there is no such student. A lesson already linked to that student is returned as it is.
+     */
+    private Lesson linkToStudent(Lesson lesson) {
+        Optional<Student> linked = students.findById(lesson.getStudentId());
+        if (linked.isPresent() && linked.get().getName().equals(lesson.getStudentName())) {
+            return lesson;
+        }
+        int studentId = students.findByName(lesson.getStudentName()).map(Student::getId).orElse(Student.NO_ID);
+        return studentId == lesson.getStudentId() ? lesson : lesson.withStudentId(studentId);
+    }
+
+    //// transactions
+
+    /**
+     * Starts a transaction. Until it is committed or rolled back, changes to the address book are held back from
+     * listeners, and can be undone by {@link #rollbackTransaction()}.
+     * Transactions cannot be nested.
+     */
+    public void beginTransaction() {
+        assert !isInTransaction : "Transactions cannot be nested";
+        isInTransaction = true;
+    }
+
+    /**
+     * Ends the transaction, telling listeners of all the changes made in it at once.
+     * Returns true if the address book was changed in the transaction.
+     */
+    public boolean commitTransaction() {
+        assert isInTransaction : "There is no transaction to commit";
+        isInTransaction = false;
+        undoSteps.clear();
+        boolean hasChanges = !pendingStudentChanges.isEmpty() || !pendingLessonChanges.isEmpty();
+        if (hasChanges) {
+            recordEdit(new Edit(pendingStudentChanges, pendingLessonChanges));
+        }
+        steppedEdit = null;
+        tellListeners(studentListeners, pendingStudentChanges);
+        tellListeners(lessonListeners, pendingLessonChanges);
+        return hasChanges;
+    }
+
+    /**
+     * Ends the transaction, undoing the changes made in it from the last to the first.
+     * Listeners are told of neither the changes nor their undoing.
+     */
+    public void rollbackTransaction() {
+        assert isInTransaction : "There is no transaction to roll back";
+        isRollingBack = true;
+        try {
+            for (int i = undoSteps.size() - 1; i >= 0; i--) {
+                undoSteps.get(i).run();
+            }
+        } finally {
+            isRollingBack = false;
+            isInTransaction = false;
+            undoSteps.clear();
+            pendingStudentChanges.clear();
+            pendingLessonChanges.clear();
+            if (steppedEdit != null) {
+                (isUndoing ? undoableEdits : redoableEdits).push(steppedEdit);
+                steppedEdit = null;
+            }
+        }
+    }
+
+    //// history
+
+    /**
+     * Sets the number of committed transactions that can be undone. Older transactions are forgotten, and a depth
+     * of 0 turns undoing off.
+     */
+    public void setHistoryDepth(int historyDepth) {
+        assert historyDepth >= 0 : "The history depth cannot be negative";
+        this.historyDepth = historyDepth;
+        while (undoableEdits.size() > historyDepth) {
+            undoableEdits.removeLast();
+        }
+        while (redoableEdits.size() > historyDepth) {
+            redoableEdits.removeLast();
+        }
+    }
+
+    public boolean canUndo() {
+        return !undoableEdits.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoableEdits.isEmpty();
+    }
+
+    /**
+     * Undoes the changes of the latest committed transaction that has not been undone, from the last to the first.
+     * Listeners are told of the changes that undo them. If called in a transaction, the undoing is part of it and
+     * is itself undone if the transaction is rolled back; otherwise it is made in a transaction of its own.
+     * There must be a transaction to undo, and only one transaction can be undone or redone in a transaction.
+     */
+    public void undo() {
+        assert canUndo() : "There is nothing to undo";
+        stepThroughHistory(true, () -> {
+            List<ListChange<Student>> studentChanges = steppedEdit.studentChanges;
+            List<ListChange<Lesson>> lessonChanges = steppedEdit.lessonChanges;
+            for (int i = studentChanges.size() - 1; i >= 0; i--) {
+                students.revert(studentChanges.get(i));
+            }
+            for (int i = lessonChanges.size() - 1; i >= 0; i--) {
+                lessons.revert(lessonChanges.get(i));
+            }
+        });
+    }
+
+    /**
+     * Makes the changes of the latest undone transaction again, in order.
+     * Transactions are handled as in {@link #undo()}. There must be a transaction to redo.
+     */
+    public void redo() {
+        assert canRedo() : "There is nothing to redo";
+        // reverting the inverse of a change makes the change again
+        stepThroughHistory(false, () -> {
+            steppedEdit.studentChanges.forEach(change -> students.revert(change.inverse()));
+            steppedEdit.lessonChanges.forEach(change -> lessons.revert(change.inverse()));
+        });
+    }
+
+    /**
+     * Takes the latest edit to undo or redo, and makes the changes that undo or redo it with {@code step}.
+     */
+    private void stepThroughHistory(boolean isUndo, Runnable step) {
+        boolean isOwnTransaction = !isInTransaction;
+        if (isOwnTransaction) {
+            beginTransaction();
+        }
+        assert steppedEdit == null : "Only one transaction can be undone or redone in a transaction";
+        isUndoing = isUndo;
+        steppedEdit = (isUndo ? undoableEdits : redoableEdits).pop();
+        try {
+            step.run();
+        } catch (RuntimeException e) {
+            if (isOwnTransaction) {
+                rollbackTransaction();
+            }
+            throw e;
+        }
+        if (isOwnTransaction) {
+            commitTransaction();
+        }
+    }
+
+    /**
+     * Records {@code edit}, the changes of a transaction that has just been committed, in the history.
+     * An edit that undoes or redoes another moves that edit to the other side of the history instead.
+     */
+    private void recordEdit(Edit edit) {
+        if (steppedEdit != null) {
+            (isUndoing ? redoableEdits : undoableEdits).push(steppedEdit);
+            return;
+        }
+        redoableEdits.clear();
+        if (historyDepth == 0) {
+            return;
+        }
+        if (undoableEdits.size() == historyDepth) {
+            undoableEdits.removeLast();
+        }
+        undoableEdits.push(edit);
+    }
+
+    private void clearHistory() {
+        undoableEdits.clear();
+        redoableEdits.clear();
+    }
+
+    //// listeners
+
+    /**
+     * Adds a listener that is told of the changes to the student list, in the order they were made.
+     * Outside of a transaction, the listener is told of the changes of each operation once it is done.
+     */
+    @Override
+    public void addStudentListener(Consumer<List<ListChange<Student>>> listener) {
+        requireNonNull(listener);
+        studentListeners.add(listener);
+    }
+
+    @Override
+    public void removeStudentListener(Consumer<List<ListChange<Student>>> listener) {
+        studentListeners.remove(listener);
+    }
+
+    /**
+     * Adds a listener that is told of the changes to the lesson list, in the order they were made.
+     * Outside of a transaction, the listener is told of the changes of each operation once it is done.
+     */
+    @Override
+    public void addLessonListener(Consumer<List<ListChange<Lesson>>> listener) {
+        requireNonNull(listener);
+        lessonListeners.add(listener);
+    }
+
+    @Override
+    public void removeLessonListener(Consumer<List<ListChange<Lesson>>> listener) {
+        lessonListeners.remove(listener);
+    }
+
+    private void studentsChanged(List<ListChange<Student>> changes) {
+        changes.forEach(this::updateDueDateIndex);
+        if (isRollingBack) {
+            return;
+        }
+        pendingStudentChanges.addAll(changes);
+        if (isInTransaction) {
+            changes.forEach(change -> undoSteps.add(() -> students.revert(change)));
+        } else {
+            // the history can only be undone from the state it left the address book in
+            clearHistory();
+            tellListeners(studentListeners, pendingStudentChanges);
+        }
+    }
+
+    private void lessonsChanged(List<ListChange<Lesson>> changes) {
+        if (isRollingBack) {
+            return;
+        }
+        pendingLessonChanges.addAll(changes);
+        if (isInTransaction) {
+            changes.forEach(change -> undoSteps.add(() -> lessons.revert(change)));
+        } else {
+            clearHistory();
+            tellListeners(lessonListeners, pendingLessonChanges);
+        }
+    }
+
+    /**
+     * Tells {@code listeners} of the {@code pendingChanges}, if there are any, then clears them.
+     */
+    private static <T> void tellListeners(List<Consumer<List<ListChange<T>>>> listeners,
+            List<ListChange<T>> pendingChanges) {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        List<ListChange<T>> changes = List.copyOf(pendingChanges);
+        pendingChanges.clear();
+        listeners.forEach(listener -> listener.accept(changes));
+    }
+
+    private void updateDueDateIndex(ListChange<Student> change) {
+        if (isReplacingStudents) {
+            assignmentsByDueDate.setStudents(students.asUnmodifiableList());
+            return;
+        }
+        change.getRemoved().forEach(student -> assignmentsByDueDate.remove(student.getId()));
+        change.getAdded().forEach(assignmentsByDueDate::add);
+    }
+
+    /**
+     * The changes to the student and lesson lists made by a committed transaction, in order.
+     */
+    private static class Edit {
+        private final List<ListChange<Student>> studentChanges;
+        private final List<ListChange<Lesson>> lessonChanges;
+
+        private Edit(List<ListChange<Student>> studentChanges, List<ListChange<Lesson>> lessonChanges) {
+            this.studentChanges = List.copyOf(studentChanges);
+            this.lessonChanges = List.copyOf(lessonChanges);
+        }
     }
 
     //// util methods
@@ -182,13 +609,23 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     @Override
-    public ObservableList<Student> getStudentList() {
-        return students.asUnmodifiableObservableList();
+    public List<Student> getStudentList() {
+        return students.asUnmodifiableList();
+    }
+
+    @Override
+    public List<Lesson> getLessonList() {
+        return lessons.asUnmodifiableList();
+    }
+
+    @Override
+    public int getNextStudentId() {
+        return students.getNextId();
     }
 
     @Override
-    public ObservableList<Lesson> getLessonList() {
-        return lessons.asUnmodifiableObservableList();
+    public int getNextLessonId() {
+        return lessons.getNextId();
     }
 
     @Override
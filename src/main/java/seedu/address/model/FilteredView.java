@@ -0,0 +1,343 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * An unmodifiable view of the items of a source list that satisfy a predicate, in the order of the source list or
+ * of a comparator, that is kept up to date from the {@link ListChange}s of the source list.
+ *
+ * Only the items in a change are tested against the predicate, and the view is changed only where those items are
+ * shown, so a change to the source list does not test every item again. Items that the comparator finds equal are
+ * kept in the order of the source list.
+ *
+ * Listeners are told of the changes to the view as {@link ListChange}s, all the changes of each update together.
+ */
+class FilteredView<T> extends AbstractList<T> {
+
+    private final List<? extends T> source;
+    private int sourceSize;
+    private Predicate<? super T> predicate = unused -> true;
+    private Comparator<? super T> comparator;
+
+    private final List<T> items = new ArrayList<>();
+    /** The index in the source list of each item in the view. Only the first {@code items.size()} are used. */
+    private int[] sourceIndexes = new int[0];
+
+    private final List<Consumer<List<ListChange<T>>>> listeners = new ArrayList<>();
+    /** The changes made to the view by the current update, not yet told to listeners. */
+    private final List<ListChange<T>> changes = new ArrayList<>();
+
+    /**
+     * Creates a view of every item of {@code source}, in the order of {@code source}.
+     * The view must then be told of every change to {@code source} through {@link #sourceChanged(List)}.
+     */
+    FilteredView(List<? extends T> source) {
+        this.source = requireNonNull(source);
+        rebuild();
+    }
+
+    /**
+     * Adds a listener that is told of the changes to the view, in the order they were made.
+     */
+    void addListener(Consumer<List<ListChange<T>>> listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    Predicate<? super T> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows the items that satisfy {@code predicate}, in the order of {@code comparator}, or in the order of the
+     * source list if {@code comparator} is null.
+     */
+    void setFilter(Predicate<? super T> predicate, Comparator<? super T> comparator) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        this.comparator = comparator;
+        List<T> oldItems = new ArrayList<>(items);
+        rebuild();
+        if (!oldItems.isEmpty() || !items.isEmpty()) {
+            changes.add(new ListChange<>(0, oldItems, items));
+            tellListeners();
+        }
+    }
+
+    /**
+     * Updates the view from {@code changes}, which have just been made to the source list in order.
+     * Listeners of the view are told of all the changes to the view together.
+     */
+    void sourceChanged(List<? extends ListChange<? extends T>> sourceChanges) {
+        boolean isWholeListReplaced = false;
+        for (ListChange<? extends T> change : sourceChanges) {
+            isWholeListReplaced |= change.getFrom() == 0 && change.getRemoved().size() == sourceSize;
+            sourceSize += change.getAdded().size() - change.getRemoved().size();
+        }
+        assert sourceSize == source.size() : "The view must be told of every change to the source list";
+        if (isWholeListReplaced) {
+            // every item has to be tested anyway, and the source list already holds the items of later changes
+            setFilter(predicate, comparator);
+            return;
+        }
+
+        for (ListChange<? extends T> change : sourceChanges) {
+            List<? extends T> removed = change.getRemoved();
+            List<? extends T> added = change.getAdded();
+            if (removed.size() == added.size()) {
+                for (int i = 0; i < added.size(); i++) {
+                    replaceSourceItem(change.getFrom() + i, removed.get(i), added.get(i));
+                }
+                continue;
+            }
+            if (!removed.isEmpty()) {
+                removeSourceRange(change.getFrom(), removed.size());
+            }
+            if (!added.isEmpty()) {
+                addSourceRange(change.getFrom(), added);
+            }
+        }
+        tellListeners();
+    }
+
+    @Override
+    public T get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Shows the items of the source list that satisfy the predicate, without telling listeners.
+     */
+    private void rebuild() {
+        List<Integer> shown = new ArrayList<>();
+        for (int i = 0; i < source.size(); i++) {
+            if (predicate.test(source.get(i))) {
+                shown.add(i);
+            }
+        }
+        if (comparator != null) {
+            // List.sort is stable, so equal items stay in the order of the source list
+            shown.sort((i, j) -> comparator.compare(source.get(i), source.get(j)));
+        }
+
+        sourceSize = source.size();
+        items.clear();
+        sourceIndexes = new int[Math.max(shown.size(), 16)];
+        for (int i = 0; i < shown.size(); i++) {
+            items.add(source.get(shown.get(i)));
+            sourceIndexes[i] = shown.get(i);
+        }
+    }
+
+    /**
+     * Removes the items shown from {@code count} items of the source list starting at {@code from}, which have just
+     * been removed from the source list.
+     */
+    private void removeSourceRange(int from, int count) {
+        int to = from + count;
+        int start = comparator == null ? findFirstFrom(from) : 0;
+        List<Integer> runStarts = new ArrayList<>();
+        List<List<T>> runs = new ArrayList<>();
+        int kept = start;
+        for (int i = start; i < items.size(); i++) {
+            int sourceIndex = sourceIndexes[i];
+            if (sourceIndex < from || sourceIndex >= to) {
+                items.set(kept, items.get(i));
+                sourceIndexes[kept] = sourceIndex >= to ? sourceIndex - count : sourceIndex;
+                kept++;
+                continue;
+            }
+            if (runStarts.isEmpty() || runStarts.get(runStarts.size() - 1) + runs.get(runs.size() - 1).size() != i) {
+                runStarts.add(i);
+                runs.add(new ArrayList<>());
+            }
+            runs.get(runs.size() - 1).add(items.get(i));
+        }
+        items.subList(kept, items.size()).clear();
+
+        // runs are reported from the last so that the positions of the earlier runs are still those of the view
+        for (int i = runs.size() - 1; i >= 0; i--) {
+            changes.add(new ListChange<>(runStarts.get(i), runs.get(i), List.of()));
+        }
+    }
+
+    /**
+     * Shows those of {@code added} that satisfy the predicate, which have just been added to the source list at
+     * {@code from}.
+     */
+    private void addSourceRange(int from, List<? extends T> added) {
+        int count = added.size();
+        int start = comparator == null ? findFirstFrom(from) : 0;
+        for (int i = start; i < items.size(); i++) {
+            if (sourceIndexes[i] >= from) {
+                sourceIndexes[i] += count;
+            }
+        }
+
+        if (comparator == null) {
+            int position = start;
+            for (int i = 0; i < count; i++) {
+                T item = added.get(i);
+                if (predicate.test(item)) {
+                    insert(position, item, from + i);
+                    position++;
+                }
+            }
+            if (position > start) {
+                changes.add(new ListChange<>(start, List.of(), items.subList(start, position)));
+            }
+            return;
+        }
+
+        for (int i = 0; i < count; i++) {
+            T item = added.get(i);
+            if (predicate.test(item)) {
+                int position = findSortedPosition(item, from + i);
+                insert(position, item, from + i);
+                changes.add(ListChange.added(position, item));
+            }
+        }
+    }
+
+    /**
+     * Shows {@code newItem} in place of {@code oldItem}, which it has just replaced at {@code sourceIndex} of the
+     * source list. If both items are shown at the same position, the item is replaced where it is, so that listeners
+     * are told of a replacement rather than of a removal and an addition.
+     */
+    private void replaceSourceItem(int sourceIndex, T oldItem, T newItem) {
+        int position = findShown(sourceIndex);
+        boolean isOldShown = position >= 0;
+        boolean isNewShown = predicate.test(newItem);
+        if (isOldShown && isNewShown && isInOrderAt(position, newItem, sourceIndex)) {
+            items.set(position, newItem);
+            changes.add(ListChange.replaced(position, oldItem, newItem));
+            return;
+        }
+
+        if (isOldShown) {
+            System.arraycopy(sourceIndexes, position + 1, sourceIndexes, position, items.size() - position - 1);
+            items.remove(position);
+            changes.add(ListChange.removed(position, oldItem));
+        }
+        if (isNewShown) {
+            int newPosition = comparator == null
+                    ? findFirstFrom(sourceIndex)
+                    : findSortedPosition(newItem, sourceIndex);
+            insert(newPosition, newItem, sourceIndex);
+            changes.add(ListChange.added(newPosition, newItem));
+        }
+    }
+
+    /**
+     * Returns true if {@code item} from index {@code sourceIndex} of the source list can be shown at
+     * {@code position} in place of the item there, without breaking the order of the view.
+     */
+    private boolean isInOrderAt(int position, T item, int sourceIndex) {
+        if (comparator == null) {
+            return true;
+        }
+        boolean isAfterPrevious = position == 0
+                || compare(items.get(position - 1), sourceIndexes[position - 1], item, sourceIndex) < 0;
+        boolean isBeforeNext = position == items.size() - 1
+                || compare(item, sourceIndex, items.get(position + 1), sourceIndexes[position + 1]) < 0;
+        return isAfterPrevious && isBeforeNext;
+    }
+
+    /**
+     * Tells listeners of the changes made by the current update, if there are any.
+     */
+    private void tellListeners() {
+        if (changes.isEmpty()) {
+            return;
+        }
+        List<ListChange<T>> madeChanges = List.copyOf(changes);
+        changes.clear();
+        listeners.forEach(listener -> listener.accept(madeChanges));
+    }
+
+    private void insert(int position, T item, int sourceIndex) {
+        int size = items.size();
+        if (size == sourceIndexes.length) {
+            sourceIndexes = Arrays.copyOf(sourceIndexes, size * 2);
+        }
+        System.arraycopy(sourceIndexes, position, sourceIndexes, position + 1, size - position);
+        sourceIndexes[position] = sourceIndex;
+        items.add(position, item);
+    }
+
+    /**
+     * Returns the position of the item from index {@code sourceIndex} of the source list, or -1 if it is not shown.
+     */
+    private int findShown(int sourceIndex) {
+        if (comparator == null) {
+            int position = findFirstFrom(sourceIndex);
+            return position < items.size() && sourceIndexes[position] == sourceIndex ? position : -1;
+        }
+
+        // an item that is not shown may not be comparable, so the item is found by its index in the source list
+        for (int i = 0; i < items.size(); i++) {
+            if (sourceIndexes[i] == sourceIndex) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the position of the first item shown from index {@code sourceIndex} of the source list onwards,
+     * when the view is in the order of the source list.
+     */
+    private int findFirstFrom(int sourceIndex) {
+        int low = 0;
+        int high = items.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sourceIndexes[middle] < sourceIndex) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position at which to show {@code item} from index {@code sourceIndex} of the source list, when the
+     * view is in the order of the comparator.
+     */
+    private int findSortedPosition(T item, int sourceIndex) {
+        int low = 0;
+        int high = items.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(items.get(middle), sourceIndexes[middle], item, sourceIndex) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Compares two items by the comparator, or by their indexes in the source list if the comparator finds them
+     * equal.
+     */
+    private int compare(T item, int sourceIndex, T otherItem, int otherSourceIndex) {
+        int order = comparator.compare(item, otherItem);
+        return order != 0 ? order : Integer.compare(sourceIndex, otherSourceIndex);
+    }
+}
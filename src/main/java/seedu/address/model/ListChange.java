@@ -0,0 +1,126 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A change to a list of students or lessons, in which the items from index {@code from} of the list were replaced
+ * by other items. Either side may be empty, so a change adds, removes or replaces a range of items.
+ * Indexes are those of the list just before the change.
+ */
+public class ListChange<T> {
+
+    /**
+     * The kinds of changes to a list.
+     */
+    public enum Type {
+        ADDED, REMOVED, REPLACED
+    }
+
+    private final int from;
+    private final List<T> removed;
+    private final List<T> added;
+
+    /**
+     * Every item must be present and non-null, and {@code removed} and {@code added} must not both be empty.
+     */
+    public ListChange(int from, List<T> removed, List<T> added) {
+        requireNonNull(removed);
+        requireNonNull(added);
+        assert from >= 0 : "Changes must start within the list";
+        assert !removed.isEmpty() || !added.isEmpty() : "Changes must add or remove items";
+
+        this.from = from;
+        this.removed = List.copyOf(removed);
+        this.added = List.copyOf(added);
+    }
+
+    /**
+     * Returns a change that adds {@code item} at index {@code from}.
+     */
+    public static <T> ListChange<T> added(int from, T item) {
+        return new ListChange<>(from, List.of(), List.of(item));
+    }
+
+    /**
+     * Returns a change that removes {@code item} from index {@code from}.
+     */
+    public static <T> ListChange<T> removed(int from, T item) {
+        return new ListChange<>(from, List.of(item), List.of());
+    }
+
+    /**
+     * Returns a change that replaces {@code oldItem} at index {@code from} with {@code newItem}.
+     */
+    public static <T> ListChange<T> replaced(int from, T oldItem, T newItem) {
+        return new ListChange<>(from, List.of(oldItem), List.of(newItem));
+    }
+
+    /**
+     * Returns the change that undoes this change, made just after it.
+     */
+    public ListChange<T> inverse() {
+        return new ListChange<>(from, added, removed);
+    }
+
+    public Type getType() {
+        if (removed.isEmpty()) {
+            return Type.ADDED;
+        }
+        return added.isEmpty() ? Type.REMOVED : Type.REPLACED;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the index just after the last item added, in the list just after the change.
+     */
+    public int getTo() {
+        return from + added.size();
+    }
+
+    public List<T> getRemoved() {
+        return removed;
+    }
+
+    public List<T> getAdded() {
+        return added;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListChange<?> otherChange)) {
+            return false;
+        }
+
+        return from == otherChange.from
+                && removed.equals(otherChange.removed)
+                && added.equals(otherChange.added);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, removed, added);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", getType())
+                .add("from", from)
+                .add("removed", removed)
+                .add("added", added)
+                .toString();
+    }
+}
@@ -1,11 +1,18 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.assignment.StudentAssignment;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
 import seedu.address.model.subject.Subject;
 
@@ -57,11 +64,61 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Starts a transaction. Changes to the address book made until the transaction is committed or rolled back are
+     * only passed on to the filtered lists when it is committed.
+     * Transactions cannot be nested.
+     */
+    void beginTransaction();
+
+    /**
+     * Ends the transaction, updating the filtered lists from all of its changes at once.
+     * Returns true if the address book was changed in the transaction.
+     */
+    boolean commitTransaction();
+
+    /**
+     * Ends the transaction, restoring the address book to what it was when the transaction began.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Sets the number of commands whose changes to the address book can be undone.
+     */
+    void setHistoryDepth(int historyDepth);
+
+    /**
+     * Returns true if there are changes to the address book that can be undone.
+     */
+    boolean canUndo();
+
+    /**
+     * Returns true if there are undone changes to the address book that can be redone.
+     */
+    boolean canRedo();
+
+    /**
+     * Undoes the changes to the address book made by the latest command whose changes have not been undone.
+     * There must be changes to undo.
+     */
+    void undo();
+
+    /**
+     * Makes the changes to the address book undone by the latest undo again.
+     * There must be changes to redo.
+     */
+    void redo();
+
     /**
      * Returns true if a student with the same identity as {@code student} exists in the address book.
      */
     boolean hasStudent(Student student);
 
+    /**
+     * Returns the student with the ID {@code id}, if there is one in the address book.
+     */
+    Optional<Student> getStudentById(int id);
+
     /**
      * Returns true if a student has a subject.
      */
@@ -73,6 +130,12 @@ public interface Model {
      */
     void deleteStudent(Student target);
 
+    /**
+     * Deletes the given students in a single change to the student list.
+     * The students must exist in the address book.
+     */
+    void deleteStudents(Collection<Student> targets);
+
     /**
      * Adds the given student.
      * {@code student} must not already exist in the address book.
@@ -87,12 +150,26 @@ public interface Model {
      */
     void setStudent(Student target, Student editedStudent);
 
+    /**
+     * Replaces each student that is a key of {@code editedStudents} with its value, in a single pass over the
+     * student list. Every key must exist in the address book.
+     * The student identities of the values must not be the same as each other or as another existing student in
+     * the address book.
+     */
+    void replaceStudents(Map<Student, Student> editedStudents);
+
     /**
      * Deletes the given assignment to the student
      * {@code assignment} must not already exist in the student
      */
     void deleteAssignment(Student student, String assignmentName);
 
+    /**
+     * Returns up to {@code limit} assignments of all students due from {@code from} to {@code to}, both inclusive,
+     * in order of due date. Only assignments that are not done are returned if {@code isPendingOnly} is true.
+     */
+    List<StudentAssignment> getAssignmentsDue(LocalDate from, LocalDate to, boolean isPendingOnly, int limit);
+
     /**
      * Adds the given lesson
      * {@code lesson} must not already exist in the address book
@@ -105,11 +182,22 @@ public interface Model {
      */
     void deleteLesson(Lesson lesson);
 
+    /**
+     * Deletes the given lessons in a single change to the lesson list.
+     * The lessons must exist in the address book.
+     */
+    void deleteLessons(Collection<Lesson> lessons);
+
     /**
      * Returns true if a lesson with the same identity as {@code lesson} exists in the address book
      */
     boolean hasLesson(Lesson lesson);
 
+    /**
+     * Returns the lesson with the ID {@code id}, if there is one in the address book.
+     */
+    Optional<Lesson> getLessonById(int id);
+
     /**
      * Returns true if a lesson with the same date and time as {@code lesson} exists in the address book
      */
@@ -123,8 +211,35 @@ public interface Model {
      */
     void setLesson(Lesson target, Lesson editedLesson);
 
-    /** Returns an unmodifiable view of the filtered student list */
-    ObservableList<Student> getFilteredStudentList();
+    /**
+     * Deletes all lessons of the given student, which must exist in the address book.
+     * Returns the number of lessons deleted.
+     */
+    int deleteLessonsOf(Student student);
+
+    /**
+     * Deletes all lessons of the given students in a single change to the lesson list.
+     * The students must exist in the address book. Returns the number of lessons deleted.
+     */
+    int deleteLessonsOf(Collection<Student> students);
+
+    /**
+     * Replaces the student name of all lessons of the given student with {@code newName}.
+     * The student must exist in the address book. Returns the number of lessons renamed.
+     */
+    int renameStudentInLessons(Student student, Name newName);
+
+    /**
+     * Returns an unmodifiable view of the filtered student list.
+     * The list keeps its filter as students are added, edited or removed.
+     */
+    List<Student> getFilteredStudentList();
+
+    /**
+     * Adds a listener that is told of the changes to the filtered student list, including those made by filtering
+     * it again, in the order they were made.
+     */
+    void addFilteredStudentListListener(Consumer<List<ListChange<Student>>> listener);
 
     /**
      * Updates the filter of the filtered student list to filter by the given {@code predicate}.
@@ -132,8 +247,32 @@ public interface Model {
      */
     void updateFilteredStudentList(Predicate<Student> predicate);
 
+    /**
+     * Updates the filter of the filtered student list to show the students whose name contains any of
+     * {@code keywords}, as a {@code NameContainsKeywordsPredicate} would, using the name index of the address book.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updateFilteredStudentListByName(List<String> keywords);
+
+    /**
+     * Updates the filtered student list to show the students with a name word that is one of {@code keywords}, or
+     * that starts with one of {@code fuzzyKeywords} after a few typos, with the closest matches first.
+     * The order is kept until the filter of the filtered student list is next updated.
+     * @throws NullPointerException if {@code keywords} or {@code fuzzyKeywords} is null.
+     */
+    void rankFilteredStudentListByName(List<String> keywords, List<String> fuzzyKeywords);
+
+    /** Displays the filtered student list, keeping its filter */
+    void showStudentList();
+
     /** Returns an unmodifiable view of the filtered lesson list */
-    ObservableList<Lesson> getFilteredLessonList();
+    List<Lesson> getFilteredLessonList();
+
+    /**
+     * Adds a listener that is told of the changes to the filtered lesson list, including those made by filtering
+     * it again, in the order they were made.
+     */
+    void addFilteredLessonListListener(Consumer<List<ListChange<Lesson>>> listener);
 
     /**
      * Returns the current predicate of the filtered lesson list
@@ -146,8 +285,11 @@ public interface Model {
      */
     void updateFilteredLessonList(Predicate<Lesson> predicate);
 
+    /** Displays the filtered lesson list, keeping its filter */
+    void showLessonList();
+
     /**
      * Returns the current list on display
      */
-    ObservableList<?> getFilteredCurrList();
+    List<?> getFilteredCurrList();
 }
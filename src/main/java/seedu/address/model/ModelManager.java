@@ -4,28 +4,49 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.assignment.StudentAssignment;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.UniqueStudentList;
 import seedu.address.model.subject.Subject;
 
 /**
  * Represents the in-memory model of the address book data.
+ * The filtered lists are updated from the changes to the address book, and keep their filters until they are
+ * filtered again.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Student> filteredStudents;
-    private final FilteredList<Lesson> filteredLessons;
-    private FilteredList<?> filteredCurr;
+    private final FilteredView<Student> filteredStudents;
+    private final FilteredView<Lesson> filteredLessons;
+    // Set by commands on the model thread, and read by the Ui on the JavaFX application thread
+    private volatile List<?> filteredCurr;
+
+    // The search the filtered students are ranked by, with the distance of each student found, or null if the
+    // filtered students are not ranked
+    private List<String> rankKeywords;
+    private List<String> rankFuzzyKeywords;
+    private Map<Student, Integer> rankDistances;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -36,9 +57,11 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredStudents = new FilteredList<>(this.addressBook.getStudentList());
-        filteredLessons = new FilteredList<>(this.addressBook.getLessonList());
+        filteredStudents = new FilteredView<>(this.addressBook.getStudentList());
+        filteredLessons = new FilteredView<>(this.addressBook.getLessonList());
         filteredCurr = filteredStudents;
+        this.addressBook.addStudentListener(this::studentsChanged);
+        this.addressBook.addLessonListener(filteredLessons::sourceChanged);
     }
 
     public ModelManager() {
@@ -92,12 +115,57 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public void beginTransaction() {
+        addressBook.beginTransaction();
+    }
+
+    @Override
+    public boolean commitTransaction() {
+        return addressBook.commitTransaction();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        addressBook.rollbackTransaction();
+    }
+
+    @Override
+    public void setHistoryDepth(int historyDepth) {
+        addressBook.setHistoryDepth(historyDepth);
+    }
+
+    @Override
+    public boolean canUndo() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedo() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void undo() {
+        addressBook.undo();
+    }
+
+    @Override
+    public void redo() {
+        addressBook.redo();
+    }
+
     @Override
     public boolean hasStudent(Student student) {
         requireNonNull(student);
         return addressBook.hasStudent(student);
     }
 
+    @Override
+    public Optional<Student> getStudentById(int id) {
+        return addressBook.getStudentById(id);
+    }
+
     @Override
     public boolean hasStudentSubject(Student student, Subject subject) {
         requireAllNonNull(student, subject);
@@ -107,14 +175,21 @@ public class ModelManager implements Model {
     @Override
     public void deleteStudent(Student target) {
         addressBook.removeStudent(target);
-        updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        showStudentList();
+    }
+
+    @Override
+    public void deleteStudents(Collection<Student> targets) {
+        requireNonNull(targets);
+        addressBook.removeStudents(targets);
+        showStudentList();
     }
 
 
     @Override
     public void addStudent(Student student) {
         addressBook.addStudent(student);
-        updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        showStudentList();
     }
 
     @Override
@@ -123,10 +198,23 @@ public class ModelManager implements Model {
         addressBook.setStudent(target, editedStudent);
     }
 
+    @Override
+    public void replaceStudents(Map<Student, Student> editedStudents) {
+        requireNonNull(editedStudents);
+        addressBook.replaceStudents(editedStudents);
+    }
+
     @Override
     public void deleteAssignment(Student target, String assignmentName) {
         addressBook.deleteAssignment(target, assignmentName);
-        updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        showStudentList();
+    }
+
+    @Override
+    public List<StudentAssignment> getAssignmentsDue(LocalDate from, LocalDate to, boolean isPendingOnly,
+                                                     int limit) {
+        requireAllNonNull(from, to);
+        return addressBook.getAssignmentsDue(from, to, isPendingOnly, limit);
     }
 
     @Override
@@ -135,6 +223,11 @@ public class ModelManager implements Model {
         return addressBook.hasLesson(lesson);
     }
 
+    @Override
+    public Optional<Lesson> getLessonById(int id) {
+        return addressBook.getLessonById(id);
+    }
+
     @Override
     public boolean hasLessonConflict(Lesson lesson) {
         requireNonNull(lesson);
@@ -145,14 +238,21 @@ public class ModelManager implements Model {
     public void addLesson(Lesson lesson) {
         requireNonNull(lesson);
         addressBook.addLesson(lesson);
-        updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
+        showLessonList();
     }
 
     @Override
     public void deleteLesson(Lesson lesson) {
         requireNonNull(lesson);
         addressBook.removeLesson(lesson);
-        updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
+        showLessonList();
+    }
+
+    @Override
+    public void deleteLessons(Collection<Lesson> lessons) {
+        requireNonNull(lessons);
+        addressBook.removeLessons(lessons);
+        showLessonList();
     }
 
     @Override
@@ -161,6 +261,24 @@ public class ModelManager implements Model {
         addressBook.setLesson(target, editedLesson);
     }
 
+    @Override
+    public int deleteLessonsOf(Student student) {
+        requireNonNull(student);
+        return addressBook.removeLessonsOf(student);
+    }
+
+    @Override
+    public int deleteLessonsOf(Collection<Student> students) {
+        requireNonNull(students);
+        return addressBook.removeLessonsOf(students);
+    }
+
+    @Override
+    public int renameStudentInLessons(Student student, Name newName) {
+        requireAllNonNull(student, newName);
+        return addressBook.renameStudentInLessons(student, newName);
+    }
+
     //=========== Filtered Student List Accessors =============================================================
 
     /**
@@ -168,40 +286,103 @@ public class ModelManager implements Model {
      * {@code versionedAddressBook}
      */
     @Override
-    public ObservableList<Student> getFilteredStudentList() {
+    public List<Student> getFilteredStudentList() {
         return filteredStudents;
     }
 
+    @Override
+    public void addFilteredStudentListListener(Consumer<List<ListChange<Student>>> listener) {
+        filteredStudents.addListener(listener);
+    }
+
     @Override
     public void updateFilteredStudentList(Predicate<Student> predicate) {
         requireNonNull(predicate);
-        filteredStudents.setPredicate(predicate);
+        rankDistances = null;
+        filteredStudents.setFilter(predicate, null);
         filteredCurr = filteredStudents;
     }
+
+    @Override
+    public void updateFilteredStudentListByName(List<String> keywords) {
+        requireNonNull(keywords);
+        updateFilteredStudentList(addressBook.getStudentNameMatcher(keywords));
+    }
+
+    @Override
+    public void rankFilteredStudentListByName(List<String> keywords, List<String> fuzzyKeywords) {
+        requireAllNonNull(keywords, fuzzyKeywords);
+        Map<Student, Integer> distances = addressBook.rankStudentsByName(keywords, fuzzyKeywords);
+        filteredStudents.setFilter(distances::containsKey, Comparator.comparingInt(distances::get));
+        filteredCurr = filteredStudents;
+        rankKeywords = List.copyOf(keywords);
+        rankFuzzyKeywords = List.copyOf(fuzzyKeywords);
+        rankDistances = distances;
+    }
+
+    @Override
+    public void showStudentList() {
+        filteredCurr = filteredStudents;
+    }
+
+    /**
+     * Updates the filtered students from {@code changes}, ranking the students they add if the filtered students are
+     * ranked by a search.
+     * The distances of the students that {@code changes} remove are only forgotten once the filtered students have
+     * been updated, as the filtered students may still be compared with them until then.
+     */
+    private void studentsChanged(List<ListChange<Student>> changes) {
+        if (rankDistances == null) {
+            filteredStudents.sourceChanged(changes);
+            return;
+        }
+
+        Set<Student> removedStudents = new HashSet<>();
+        for (ListChange<Student> change : changes) {
+            removedStudents.addAll(change.getRemoved());
+            for (Student student : change.getAdded()) {
+                removedStudents.remove(student);
+                OptionalInt distance = UniqueStudentList.getNameDistance(student, rankKeywords, rankFuzzyKeywords);
+                distance.ifPresent(value -> rankDistances.put(student, value));
+            }
+        }
+        filteredStudents.sourceChanged(changes);
+        removedStudents.forEach(rankDistances::remove);
+    }
     //=========== Filtered Lesson List Acessors ===============================================================
     /**
      * Returns an unmodifiable view of the list of {@code Lesson} backed by the internal list of
      * {@code versionedAddressBook}
      */
     @Override
-    public ObservableList<Lesson> getFilteredLessonList() {
+    public List<Lesson> getFilteredLessonList() {
         return filteredLessons;
     }
 
+    @Override
+    public void addFilteredLessonListListener(Consumer<List<ListChange<Lesson>>> listener) {
+        filteredLessons.addListener(listener);
+    }
+
     @Override
     public void updateFilteredLessonList(Predicate<Lesson> predicate) {
         requireNonNull(predicate);
-        filteredLessons.setPredicate(predicate);
+        filteredLessons.setFilter(predicate, null);
+        filteredCurr = filteredLessons;
+    }
+
+    @Override
+    public void showLessonList() {
         filteredCurr = filteredLessons;
     }
 
     @Override
     public boolean isStudentView() {
-        return filteredCurr.equals(filteredStudents);
+        return filteredCurr == filteredStudents;
     }
 
     @Override
-    public ObservableList<?> getFilteredCurrList() {
+    public List<?> getFilteredCurrList() {
         return filteredCurr;
     }
 
@@ -1,6 +1,8 @@
 package seedu.address.model;
 
-import javafx.collections.ObservableList;
+import java.util.List;
+import java.util.function.Consumer;
+
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.student.Student;
 
@@ -13,12 +15,44 @@ public interface ReadOnlyAddressBook {
      * Returns an unmodifiable view of the students list.
      * This list will not contain any duplicate students.
      */
-    ObservableList<Student> getStudentList();
+    List<Student> getStudentList();
 
     /**
      * Returns an unmodifiable view of the lessons list.
      * This list will not contain any duplicate lessons.
      */
-    ObservableList<Lesson> getLessonList();
+    List<Lesson> getLessonList();
+
+    /**
+     * Returns the ID that the next student added without one will be given.
+     * Every student in the address book has a lower ID.
+     */
+    int getNextStudentId();
+
+    /**
+     * Returns the ID that the next lesson added without one will be given.
+     * Every lesson in the address book has a lower ID.
+     */
+    int getNextLessonId();
+
+    /**
+     * Adds a listener that is told of the changes to the student list, in the order they were made.
+     */
+    void addStudentListener(Consumer<List<ListChange<Student>>> listener);
+
+    /**
+     * Removes a listener added by {@link #addStudentListener(Consumer)}.
+     */
+    void removeStudentListener(Consumer<List<ListChange<Student>>> listener);
+
+    /**
+     * Adds a listener that is told of the changes to the lesson list, in the order they were made.
+     */
+    void addLessonListener(Consumer<List<ListChange<Lesson>>> listener);
+
+    /**
+     * Removes a listener added by {@link #addLessonListener(Consumer)}.
+     */
+    void removeLessonListener(Consumer<List<ListChange<Lesson>>> listener);
 
 }
@@ -3,10 +3,7 @@ package seedu.address.model.assignment;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Arrays;
-import java.util.Objects;
-import java.util.stream.Collectors;
-
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.datetimeutil.Date;
 
 /**
@@ -26,7 +23,9 @@ public class Assignment implements Comparable<Assignment> {
 
     // Data fields
     public final Date dueDate;
-    private boolean isDone;
+    private final boolean isDone;
+
+    private final int hash;
 
     /**
      * Constructs a {@code Assignment} that is not done.
@@ -35,14 +34,7 @@ public class Assignment implements Comparable<Assignment> {
      * @param dueDate    A valid due date.
      */
     public Assignment(String assignment, Date dueDate) {
-        requireAllNonNull(assignment, dueDate);
-        checkArgument(isValidAssignmentName(assignment), MESSAGE_CONSTRAINTS);
-        this.assignmentName = Arrays.stream(assignment.trim().split("\\s+"))
-                .map(word -> word.isEmpty() ? word
-                        : Character.toUpperCase(word.charAt(0)) + word.substring(1).toLowerCase())
-                .collect(Collectors.joining(" "));
-        this.dueDate = dueDate;
-        this.isDone = false;
+        this(assignment, dueDate, false);
     }
 
     /**
@@ -55,12 +47,17 @@ public class Assignment implements Comparable<Assignment> {
     public Assignment(String assignment, Date dueDate, boolean isDone) {
         requireAllNonNull(assignment, dueDate);
         checkArgument(isValidAssignmentName(assignment), MESSAGE_CONSTRAINTS);
-        this.assignmentName = Arrays.stream(assignment.trim().split("\\s+"))
-                .map(word -> word.isEmpty() ? word
-                        : Character.toUpperCase(word.charAt(0)) + word.substring(1).toLowerCase())
-                .collect(Collectors.joining(" "));
+        this.assignmentName = StringUtil.capitalizeWords(assignment);
         this.dueDate = dueDate;
         this.isDone = isDone;
+        this.hash = assignmentName.hashCode();
+    }
+
+    private Assignment(Assignment assignment, boolean isDone) {
+        this.assignmentName = assignment.assignmentName;
+        this.dueDate = assignment.dueDate;
+        this.isDone = isDone;
+        this.hash = assignment.hash;
     }
 
     @Override
@@ -84,7 +81,8 @@ public class Assignment implements Comparable<Assignment> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(assignmentName, dueDate);
+        // computed once, as assignments are immutable; only the name is hashed, as only the name is compared
+        return hash;
     }
 
     public static boolean isValidAssignmentName(String value) {
@@ -107,13 +105,11 @@ public class Assignment implements Comparable<Assignment> {
         return dueDate;
     }
 
-    public Assignment setDone() {
-        isDone = true;
-        return this;
-    }
-
-    public void setUndone() {
-        isDone = false;
+    /**
+     * Returns a copy of this assignment that is done if {@code isDone} is true, or this assignment if it already is.
+     */
+    public Assignment withDone(boolean isDone) {
+        return isDone == this.isDone ? this : new Assignment(this, isDone);
     }
 
     public boolean isDone() {
@@ -0,0 +1,131 @@
+package seedu.address.model.assignment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import seedu.address.model.student.Student;
+
+/**
+ * An index of the assignments of all students, ordered by due date.
+ * Assignments due on the same day are ordered as in {@link Assignment#compareTo(Assignment)}, then by student name.
+ *
+ * Pending assignments are also kept in an index of their own, so that listing the next {@code k} assignments due,
+ * whether pending or not, only visits those {@code k} assignments.
+ * Students are identified by their IDs, so a student's entries can be removed whatever the student has been renamed
+ * to since.
+ */
+public class DueDateIndex {
+
+    private static final Comparator<StudentAssignment> SAME_DAY_ORDER =
+            Comparator.comparing(StudentAssignment::getAssignment)
+                    .thenComparing(studentAssignment -> studentAssignment.getStudent().getName().fullName)
+                    .thenComparingInt(studentAssignment -> studentAssignment.getStudent().getId());
+
+    /** Assignments grouped by due date. Each day holds at least one assignment. */
+    private final NavigableMap<LocalDate, NavigableSet<StudentAssignment>> allByDueDate = new TreeMap<>();
+    private final NavigableMap<LocalDate, NavigableSet<StudentAssignment>> pendingByDueDate = new TreeMap<>();
+
+    /** The entries added for each student, so that they can be removed after the student's assignments change. */
+    private final Map<Integer, List<StudentAssignment>> entriesByStudent = new HashMap<>();
+
+    /**
+     * Adds the assignments of {@code student} to the index.
+     * {@code student} must have an ID, and must not already be in the index.
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+        assert student.hasId() : "Students in the index must have IDs";
+        List<StudentAssignment> entries = new ArrayList<>();
+        for (Assignment assignment : student.getAssignments()) {
+            StudentAssignment entry = new StudentAssignment(student, assignment);
+            entries.add(entry);
+            addToDay(allByDueDate, entry);
+            if (!assignment.isDone()) {
+                addToDay(pendingByDueDate, entry);
+            }
+        }
+        if (!entries.isEmpty()) {
+            entriesByStudent.put(student.getId(), entries);
+        }
+    }
+
+    /**
+     * Removes the assignments of the student with the ID {@code studentId} from the index,
+     * as they were when the student was added.
+     */
+    public void remove(int studentId) {
+        List<StudentAssignment> entries = entriesByStudent.remove(studentId);
+        if (entries == null) {
+            return;
+        }
+        for (StudentAssignment entry : entries) {
+            removeFromDay(allByDueDate, entry);
+            removeFromDay(pendingByDueDate, entry);
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the assignments of {@code students}.
+     */
+    public void setStudents(Collection<Student> students) {
+        requireNonNull(students);
+        allByDueDate.clear();
+        pendingByDueDate.clear();
+        entriesByStudent.clear();
+        students.forEach(this::add);
+    }
+
+    /**
+     * Returns up to {@code limit} assignments due from {@code from} to {@code to}, both inclusive, in order of
+     * due date. Only assignments that are not done are returned if {@code isPendingOnly} is true.
+     */
+    public List<StudentAssignment> getAssignmentsDue(LocalDate from, LocalDate to, boolean isPendingOnly, int limit) {
+        requireAllNonNull(from, to);
+        List<StudentAssignment> result = new ArrayList<>();
+        if (from.isAfter(to) || limit <= 0) {
+            return result;
+        }
+
+        NavigableMap<LocalDate, NavigableSet<StudentAssignment>> days = isPendingOnly
+                ? pendingByDueDate : allByDueDate;
+        for (NavigableSet<StudentAssignment> day : days.subMap(from, true, to, true).values()) {
+            for (StudentAssignment entry : day) {
+                result.add(entry);
+                if (result.size() == limit) {
+                    return result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void addToDay(NavigableMap<LocalDate, NavigableSet<StudentAssignment>> days,
+                                 StudentAssignment entry) {
+        days.computeIfAbsent(getDueDay(entry), unused -> new TreeSet<>(SAME_DAY_ORDER)).add(entry);
+    }
+
+    private static void removeFromDay(NavigableMap<LocalDate, NavigableSet<StudentAssignment>> days,
+                                      StudentAssignment entry) {
+        LocalDate dueDay = getDueDay(entry);
+        NavigableSet<StudentAssignment> day = days.get(dueDay);
+        if (day != null && day.remove(entry) && day.isEmpty()) {
+            days.remove(dueDay);
+        }
+    }
+
+    private static LocalDate getDueDay(StudentAssignment entry) {
+        return entry.getAssignment().getDueDate().toLocalDate();
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.model.assignment;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.student.Student;
+
+/**
+ * Represents an assignment together with the student it belongs to.
+ */
+public class StudentAssignment {
+
+    private final Student student;
+    private final Assignment assignment;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public StudentAssignment(Student student, Assignment assignment) {
+        requireAllNonNull(student, assignment);
+        this.student = student;
+        this.assignment = assignment;
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    public Assignment getAssignment() {
+        return assignment;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StudentAssignment otherStudentAssignment)) {
+            return false;
+        }
+
+        return student.equals(otherStudentAssignment.student)
+                && assignment.equals(otherStudentAssignment.assignment);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(student, assignment);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("student", student.getName())
+                .add("assignment", assignment)
+                .toString();
+    }
+}
@@ -3,14 +3,17 @@ package seedu.address.model.assignment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.AbstractList;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.commons.util.PersistentTreeMap;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.assignment.expections.AssignmentAlreadyMarkedException;
 import seedu.address.model.assignment.expections.AssignmentNotFoundException;
+import seedu.address.model.assignment.expections.AssignmentNotMarkedException;
 import seedu.address.model.assignment.expections.DuplicateAssignmentException;
 
 /**
@@ -20,47 +23,117 @@ import seedu.address.model.assignment.expections.DuplicateAssignmentException;
  * #isSameAssignment(Assignment) for equality to ensure that the assignment being added or updated is
  * unique in terms of identity in the UniqueAssignmentList.
  *
+ * The list is immutable: adding, replacing, marking and deleting an assignment returns a new list, which shares
+ * most of its structure with the old one, so each change takes O(log n) time however many assignments there are.
+ * Assignments are kept in the order they were added, and are also indexed by their normalised name, so that looking
+ * up an assignment by name takes O(log n) time too. This is slower than the constant time of a hash index by name,
+ * which the list used to keep, but a hash index would have to be copied in full on every change to keep the old list
+ * as it was. A student has few assignments, so the difference is small.
  **/
-public class UniqueAssignmentList implements Iterable<Assignment>, Comparator<Assignment> {
+public final class UniqueAssignmentList implements Iterable<Assignment>, Comparator<Assignment> {
 
     public static final String MESSAGE_ALREADY_MARKED = "Error: Assignment is already marked";
     public static final String MESSAGE_ALREADY_UNMARKED = "Error: Assignment is already unmarked";
 
+    /** The assignments, keyed by the order in which they were added. */
+    private final PersistentTreeMap<Long, Assignment> assignmentsByOrder;
+
+    /** The key of each assignment in {@code assignmentsByOrder}, by name. */
+    private final PersistentTreeMap<String, Long> ordersByName;
+
+    private final long nextOrder;
+
+    /** The sum of the hash codes of the assignments, kept up to date as the list is changed. */
+    private final int hash;
+
+    private final List<Assignment> unmodifiableList = new AbstractList<>() {
+        @Override
+        public Assignment get(int index) {
+            return assignmentsByOrder.getAt(index);
+        }
+
+        @Override
+        public int size() {
+            return assignmentsByOrder.size();
+        }
+
+        @Override
+        public Iterator<Assignment> iterator() {
+            return assignmentsByOrder.iterator();
+        }
+    };
+
+    /**
+     * Creates an empty list.
+     */
+    public UniqueAssignmentList() {
+        this(PersistentTreeMap.empty(), PersistentTreeMap.empty(), 0, 0);
+    }
+
+    private UniqueAssignmentList(PersistentTreeMap<Long, Assignment> assignmentsByOrder,
+                                 PersistentTreeMap<String, Long> ordersByName, long nextOrder, int hash) {
+        this.assignmentsByOrder = assignmentsByOrder;
+        this.ordersByName = ordersByName;
+        this.nextOrder = nextOrder;
+        this.hash = hash;
+    }
+
+    /**
+     * Returns a list of {@code assignments}, in order.
+     * {@code assignments} must not contain duplicate assignments.
+     */
+    public static UniqueAssignmentList of(List<Assignment> assignments) {
+        requireAllNonNull(assignments);
+        UniqueAssignmentList list = new UniqueAssignmentList();
+        for (Assignment assignment : assignments) {
+            list = list.withAdded(assignment);
+        }
+        return list;
+    }
 
-    private final ObservableList<Assignment> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Assignment> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
     /**
      * Returns true if the list contains an equivalent assignment as the given argument.
      */
     public boolean contains(Assignment toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameAssignment);
+        return ordersByName.containsKey(toCheck.getAssignmentName());
     }
 
     /**
-     * Adds an assignment to the list.
+     * Returns the assignment named {@code assignmentName}, if any.
+     * The name is normalised as in {@link StringUtil#capitalizeWords(String)} before looking it up.
+     */
+    public Optional<Assignment> findByName(String assignmentName) {
+        requireNonNull(assignmentName);
+        Long order = ordersByName.get(StringUtil.capitalizeWords(assignmentName));
+        return order == null ? Optional.empty() : Optional.of(assignmentsByOrder.get(order));
+    }
+
+    /**
+     * Returns a list with the assignments of this list followed by {@code toAdd}.
      * The assignment must not already exist in the list.
      */
-    public void add(Assignment toAdd) {
+    public UniqueAssignmentList withAdded(Assignment toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateAssignmentException();
         }
-        internalList.add(toAdd);
+        return new UniqueAssignmentList(assignmentsByOrder.put(nextOrder, toAdd),
+                ordersByName.put(toAdd.getAssignmentName(), nextOrder), nextOrder + 1, hash + toAdd.hashCode());
     }
 
     /**
-     * Replaces the assignment {@code target} in the list with {@code editedAssignment}.
+     * Returns a list with the assignments of this list, in which the assignment {@code target} is replaced with
+     * {@code editedAssignment}.
      * {@code target} must exist in the list.
      * The assignment identity of {@code editedAssignment} must not be the same as another
      * existing assignment in the list.
      */
-    public void setAssignment(Assignment target, Assignment editedAssignment) {
+    public UniqueAssignmentList withReplaced(Assignment target, Assignment editedAssignment) {
         requireAllNonNull(target, editedAssignment);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Long order = ordersByName.get(target.getAssignmentName());
+        if (order == null) {
             throw new AssignmentNotFoundException();
         }
 
@@ -68,16 +141,76 @@ public class UniqueAssignmentList implements Iterable<Assignment>, Comparator<As
             throw new DuplicateAssignmentException();
         }
 
-        internalList.set(index, editedAssignment);
+        Assignment replaced = assignmentsByOrder.get(order);
+        return new UniqueAssignmentList(assignmentsByOrder.put(order, editedAssignment),
+                ordersByName.remove(replaced.getAssignmentName()).put(editedAssignment.getAssignmentName(), order),
+                nextOrder, hash - replaced.hashCode() + editedAssignment.hashCode());
+    }
+
+    /**
+     * Returns a list with the assignments of this list, in which the assignment named {@code assignmentName} is
+     * done.
+     *
+     * @throws AssignmentNotFoundException if there is no such assignment.
+     * @throws AssignmentAlreadyMarkedException if the assignment is already done.
+     */
+    public UniqueAssignmentList withMarked(String assignmentName) {
+        Assignment assignment = findByName(assignmentName).orElseThrow(AssignmentNotFoundException::new);
+        if (assignment.isDone()) {
+            throw new AssignmentAlreadyMarkedException();
+        }
+        return withReplaced(assignment, assignment.withDone(true));
+    }
+
+    /**
+     * Returns a list with the assignments of this list, in which the assignment named {@code assignmentName} is
+     * not done.
+     *
+     * @throws AssignmentNotFoundException if there is no such assignment.
+     * @throws AssignmentNotMarkedException if the assignment is already not done.
+     */
+    public UniqueAssignmentList withUnmarked(String assignmentName) {
+        Assignment assignment = findByName(assignmentName).orElseThrow(AssignmentNotFoundException::new);
+        if (!assignment.isDone()) {
+            throw new AssignmentNotMarkedException();
+        }
+        return withReplaced(assignment, assignment.withDone(false));
+    }
+
+    /**
+     * Returns a list with the assignments of this list other than the one named {@code assignmentName}.
+     *
+     * @throws AssignmentNotFoundException if there is no such assignment.
+     */
+    public UniqueAssignmentList withDeleted(String assignmentName) {
+        Assignment assignment = findByName(assignmentName).orElseThrow(AssignmentNotFoundException::new);
+        String name = assignment.getAssignmentName();
+        return new UniqueAssignmentList(assignmentsByOrder.remove(ordersByName.get(name)), ordersByName.remove(name),
+                nextOrder, hash - assignment.hashCode());
+    }
+
+    /**
+     * Returns a specified assignment from the list, or null if there is no such assignment.
+     * @param assignmentName
+     */
+    public Assignment getAssignment(String assignmentName) {
+        return findByName(assignmentName).orElse(null);
+    }
+
+    public int size() {
+        return assignmentsByOrder.size();
     }
 
-    public ObservableList<Assignment> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
+    /**
+     * Returns the assignments as an unmodifiable {@code List}, in the order they were added.
+     */
+    public List<Assignment> asUnmodifiableList() {
+        return unmodifiableList;
     }
 
     @Override
     public Iterator<Assignment> iterator() {
-        return internalList.iterator();
+        return assignmentsByOrder.iterator();
     }
 
     @Override
@@ -92,95 +225,22 @@ public class UniqueAssignmentList implements Iterable<Assignment>, Comparator<As
         }
 
         UniqueAssignmentList otherUniqueAssignmentList = (UniqueAssignmentList) other;
-        return internalList.equals(otherUniqueAssignmentList.internalList);
+        return hash == otherUniqueAssignmentList.hash
+                && unmodifiableList.equals(otherUniqueAssignmentList.unmodifiableList);
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return hash;
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
-    }
-
-    private boolean assignmentsAreUnique(List<Assignment> assignments) {
-        for (int i = 0; i < assignments.size(); i++) {
-            for (int j = i + 1; j < assignments.size(); j++) {
-                if (assignments.get(i).isSameAssignment(assignments.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return unmodifiableList.toString();
     }
 
     @Override
     public int compare(Assignment o1, Assignment o2) {
         return o1.compareTo(o2);
     }
-
-    /**
-     * Marks an assignment as done.
-     */
-    public void markAssignment(String assignmentName) throws CommandException {
-        requireNonNull(assignmentName);
-        for (Assignment assignment : internalList) {
-            if (assignment.getAssignmentName().equals(assignmentName)) {
-                if (assignment.isDone()) {
-                    throw new CommandException(MESSAGE_ALREADY_MARKED);
-                }
-                assignment.setDone();
-            }
-        }
-    }
-
-    /**
-     * Marks an assignment as undone.
-     */
-    public void unmarkAssignment(String assignmentName) throws CommandException {
-        requireNonNull(assignmentName);
-        for (Assignment assignment : internalList) {
-            if (assignment.getAssignmentName().equals(assignmentName)) {
-                if (!assignment.isDone()) {
-                    throw new CommandException(MESSAGE_ALREADY_UNMARKED);
-                }
-                assignment.setUndone();
-            }
-        }
-    }
-
-    /**
-     * Deletes an assignment from the list.
-     */
-    public void deleteAssignment(String assignmentName) {
-        requireNonNull(assignmentName);
-        Iterator<Assignment> iterator = internalList.iterator();
-        while (iterator.hasNext()) {
-            Assignment assignment = iterator.next();
-            if (assignment.getAssignmentName().equals(assignmentName)) {
-                iterator.remove();
-                break;
-            }
-        }
-    }
-
-    /**
-     * Returns a specified assignment from the list.
-     * @param assignmentName
-     */
-    public Assignment getAssignment(String assignmentName) {
-        requireNonNull(assignmentName);
-        for (Assignment assignment : internalList) {
-            if (assignment.getAssignmentName().equals(assignmentName)) {
-                return assignment;
-            }
-        }
-        return null;
-    }
-
-    public void clear() {
-        internalList.clear();
-    }
 }
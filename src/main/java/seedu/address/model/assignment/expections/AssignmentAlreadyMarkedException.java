@@ -0,0 +1,10 @@
+package seedu.address.model.assignment.expections;
+
+/**
+ * Signals that the operation would mark an assignment that is already done.
+ */
+public class AssignmentAlreadyMarkedException extends RuntimeException {
+    public AssignmentAlreadyMarkedException() {
+        super("This assignment is already marked");
+    }
+}
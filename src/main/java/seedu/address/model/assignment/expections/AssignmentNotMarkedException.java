@@ -0,0 +1,10 @@
+package seedu.address.model.assignment.expections;
+
+/**
+ * Signals that the operation would unmark an assignment that is not done.
+ */
+public class AssignmentNotMarkedException extends RuntimeException {
+    public AssignmentNotMarkedException() {
+        super("This assignment is not marked");
+    }
+}
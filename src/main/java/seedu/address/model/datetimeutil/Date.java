@@ -19,9 +19,14 @@ public class Date implements Comparable<Date> {
             + "\nand must be a future date (after today)";
     public static final DateTimeFormatter VALID_FORMAT = DateTimeFormatter.ofPattern("d-M-uuuu")
             .withResolverStyle(ResolverStyle.STRICT);
+    public static final DateTimeFormatter DISPLAY_FORMAT = DateTimeFormatter.ofPattern("dd MMM yyyy");
 
     public final String date;
 
+    // Parsed once on construction; comparisons and hashing work on this value instead of the raw string.
+    private final LocalDate localDate;
+    private String displayString;
+
     /**
      * Constructs a {@code Date}.
      *
@@ -29,26 +34,48 @@ public class Date implements Comparable<Date> {
      */
     public Date(String date) {
         requireNonNull(date);
-        checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
+        LocalDate parsedDate = parse(date);
+        checkArgument(parsedDate != null && isFutureDate(parsedDate), MESSAGE_CONSTRAINTS);
         this.date = date;
+        this.localDate = parsedDate;
     }
 
     /**
      * Returns true if a given string is a valid date.
      */
     public static boolean isValidDate(String test) {
-        LocalDate parsedDate;
+        LocalDate parsedDate = parse(test);
+        return parsedDate != null && isFutureDate(parsedDate);
+    }
+
+    /**
+     * Returns the date represented by {@code date}, or null if it is not in a valid format.
+     */
+    private static LocalDate parse(String date) {
         try {
-            parsedDate = LocalDate.parse(test, VALID_FORMAT);
-            return parsedDate.isAfter(LocalDate.now());
+            return LocalDate.parse(date, VALID_FORMAT);
         } catch (DateTimeParseException e) {
-            return false;
+            return null;
         }
     }
 
+    private static boolean isFutureDate(LocalDate date) {
+        return date.isAfter(LocalDate.now());
+    }
+
+    /**
+     * Returns this date as a {@code LocalDate}.
+     */
+    public LocalDate toLocalDate() {
+        return localDate;
+    }
+
     @Override
     public String toString() {
-        return DateTimeFormatter.ofPattern("dd MMM yyyy").format(LocalDate.parse(date, VALID_FORMAT));
+        if (displayString == null) {
+            displayString = DISPLAY_FORMAT.format(localDate);
+        }
+        return displayString;
     }
 
     @Override
@@ -62,15 +89,16 @@ public class Date implements Comparable<Date> {
             return false;
         }
 
-        return LocalDate.parse(this.date, VALID_FORMAT).equals(LocalDate.parse(otherDate.date, VALID_FORMAT));
+        return localDate.equals(otherDate.localDate);
     }
 
     @Override
     public int hashCode() {
-        return date.hashCode();
+        // hash the parsed value so that "5-10-2027" and "05-10-2027" hash alike, consistent with equals
+        return localDate.hashCode();
     }
 
     public int compareTo(Date dueDate) {
-        return LocalDate.parse(this.date, VALID_FORMAT).compareTo(LocalDate.parse(dueDate.date, VALID_FORMAT));
+        return localDate.compareTo(dueDate.localDate);
     }
 }
@@ -18,6 +18,9 @@ public class Time {
     public static final DateTimeFormatter VALID_FORMAT = DateTimeFormatter.ofPattern("H:m");
     public final String time;
 
+    // Parsed once on construction; comparisons and hashing work on this value instead of the raw string.
+    private final LocalTime localTime;
+
     /**
      * Constructs a {@code Time}.
      *
@@ -25,21 +28,35 @@ public class Time {
      */
     public Time(String time) {
         requireNonNull(time);
-        checkArgument(isValidTime(time), MESSAGE_CONSTRAINTS);
+        LocalTime parsedTime = parse(time);
+        checkArgument(parsedTime != null, MESSAGE_CONSTRAINTS);
         this.time = time;
+        this.localTime = parsedTime;
     }
 
     /**
      * Returns true if a given string is a valid time.
      */
     public static boolean isValidTime(String test) {
-        LocalTime parsedTime;
+        return parse(test) != null;
+    }
+
+    /**
+     * Returns the time represented by {@code time}, or null if it is not in a valid format.
+     */
+    private static LocalTime parse(String time) {
         try {
-            parsedTime = LocalTime.parse(test, VALID_FORMAT);
+            return LocalTime.parse(time, VALID_FORMAT);
         } catch (DateTimeParseException e) {
-            return false;
+            return null;
         }
-        return true;
+    }
+
+    /**
+     * Returns this time as a {@code LocalTime}.
+     */
+    public LocalTime toLocalTime() {
+        return localTime;
     }
 
     @Override
@@ -58,11 +75,12 @@ public class Time {
             return false;
         }
 
-        return LocalTime.parse(this.time, VALID_FORMAT).equals(LocalTime.parse(otherTime.time, VALID_FORMAT));
+        return localTime.equals(otherTime.localTime);
     }
 
     @Override
     public int hashCode() {
-        return time.hashCode();
+        // hash the parsed value so that "9:00" and "09:00" hash alike, consistent with equals
+        return localTime.hashCode();
     }
 }
@@ -2,20 +2,28 @@ package seedu.address.model.lesson;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
 import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.datetimeutil.Date;
 import seedu.address.model.datetimeutil.Time;
 import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
 import seedu.address.model.subject.Subject;
 
 /**
  * Represents a Lesson in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * A lesson kept in an address book has an ID, like a {@link Student}, and refers to its student by the student's
+ * ID as well as by name. Neither ID is part of the equality of lessons.
  */
 public class Lesson {
 
+    private final int id;
+    private final int studentId;
+
     // Identity fields
     private final Name studentName;
     private final Subject subject;
@@ -28,12 +36,60 @@ public class Lesson {
      * This is the original constructor for lesson from AB3
      */
     public Lesson(Subject subject, Name studentName, Date date, Time time) {
+        this(Student.NO_ID, Student.NO_ID, subject, studentName, date, time);
+    }
+
+    private Lesson(int id, int studentId, Subject subject, Name studentName, Date date, Time time) {
         requireAllNonNull(subject, studentName, date, time);
+        assert id >= Student.NO_ID && studentId >= Student.NO_ID : "IDs must not be negative";
+        this.id = id;
+        this.studentId = studentId;
         this.studentName = studentName;
         this.date = date;
         this.time = time;
         this.subject = subject;
+    }
+
+    /**
+     * Returns the ID of the lesson, or {@link Student#NO_ID} if it has not been added to an address book yet.
+     */
+    public int getId() {
+        return id;
+    }
+
+    public boolean hasId() {
+        return id != Student.NO_ID;
+    }
+
+    /**
+     * Returns a copy of this lesson with the ID {@code id}.
+     */
+    public Lesson withId(int id) {
+        assert id > Student.NO_ID : "IDs must be positive";
+        return new Lesson(id, studentId, subject, studentName, date, time);
+    }
 
+    /**
+     * Returns the ID of the student of this lesson, or {@link Student#NO_ID} if the lesson has not been linked to a
+     * student of the address book.
+     */
+    public int getStudentId() {
+        return studentId;
+    }
+
+    /**
+     * Returns a copy of this lesson that refers to the student with the ID {@code studentId}, which may be
+     * {@link Student#NO_ID} if the lesson has no student in the address book.
+     */
+    public Lesson withStudentId(int studentId) {
+        return new Lesson(id, studentId, subject, studentName, date, time);
+    }
+
+    /**
+     * Returns a copy of this lesson for the student named {@code studentName}, keeping both IDs.
+     */
+    public Lesson withStudentName(Name studentName) {
+        return new Lesson(id, studentId, subject, studentName, date, time);
     }
 
     public Name getStudentName() {
@@ -52,6 +108,13 @@ public class Lesson {
         return subject;
     }
 
+    /**
+     * Returns the date and time at which this lesson starts.
+     */
+    public LocalDateTime getStartDateTime() {
+        return LocalDateTime.of(date.toLocalDate(), time.toLocalTime());
+    }
+
     /**
      * Returns true if both lessons have same date and time
      */
@@ -3,13 +3,26 @@ package seedu.address.model.lesson;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.address.model.ListChange;
 import seedu.address.model.lesson.exceptions.DuplicateLessonException;
 import seedu.address.model.lesson.exceptions.LessonNotFoundException;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
 
 /**
  * A list of lessons that enforces uniqueness between its elements and does not allow nulls.
@@ -22,20 +35,42 @@ import seedu.address.model.lesson.exceptions.LessonNotFoundException;
  * to ensure that the lesson with exactly the same fields will be removed.
  * Supports a minimal set of list operations.
  *
+ * A schedule index ordered by each lesson's start date and time is kept in sync with the internal list,
+ * so that conflict checks only look at the lessons around the time of the lesson being checked.
+ * Lessons are also indexed by the ID of their student, so that all lessons of a student can be removed or renamed
+ * in a single list mutation.
+ *
+ * Every lesson in the list has an ID, allocated in the same way as the IDs of a {@link UniqueStudentList}, and the
+ * position of each lesson is kept by ID.
+ *
+ * Listeners are told of every change to the list as a {@link ListChange}, so that views of the list can be updated
+ * from the lessons that changed.
+ *
  * @see Lesson#equals(Object)
  */
 public class UniqueLessonList implements Iterable<Lesson> {
 
-    private final ObservableList<Lesson> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Lesson> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final List<Lesson> internalList = new ArrayList<>();
+    private final List<Lesson> internalUnmodifiableList = Collections.unmodifiableList(internalList);
+
+    /** Lessons grouped by start date and time. Each slot holds at least one lesson. */
+    private final NavigableMap<LocalDateTime, List<Lesson>> schedule = new TreeMap<>();
+
+    /** Lessons grouped by the ID of their student. Each entry holds at least one lesson. */
+    private final Map<Integer, List<Lesson>> lessonsByStudent = new HashMap<>();
+
+    private final Map<Integer, Integer> positionById = new HashMap<>();
+    private int nextId = Student.NO_ID + 1;
+
+    private final List<Consumer<List<ListChange<Lesson>>>> listeners = new ArrayList<>();
 
     /**
      * Returns true if the list contains an equivalent lesson as the given argument.
      */
     public boolean contains(Lesson toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        List<Lesson> slot = schedule.get(toCheck.getStartDateTime());
+        return slot != null && slot.contains(toCheck);
     }
 
     /**
@@ -43,11 +78,44 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public boolean clashes(Lesson toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isConflict);
+        // Lessons currently occupy a single time slot, so only lessons starting at the same time can clash.
+        // Once lessons have durations, widen this to the lessons starting within the longest duration before
+        // the end of toCheck.
+        List<Lesson> slot = schedule.get(toCheck.getStartDateTime());
+        return slot != null && slot.stream().anyMatch(toCheck::isConflict);
+    }
+
+    /**
+     * Returns the lessons of the student with the ID {@code studentId}.
+     */
+    public List<Lesson> getLessonsOf(int studentId) {
+        return new ArrayList<>(lessonsByStudent.getOrDefault(studentId, List.of()));
+    }
+
+    /**
+     * Returns the lesson in the list with the ID {@code id}, if there is one.
+     */
+    public Optional<Lesson> findById(int id) {
+        Integer position = positionById.get(id);
+        return position == null ? Optional.empty() : Optional.of(internalList.get(position));
+    }
+
+    /**
+     * Returns the ID that the next lesson added without one will be given.
+     */
+    public int getNextId() {
+        return nextId;
+    }
+
+    /**
+     * Makes sure that lessons added from now on are not given an ID below {@code nextId}.
+     */
+    public void reserveIdsBelow(int nextId) {
+        this.nextId = Math.max(this.nextId, nextId);
     }
 
     /**
-     * Adds a lesson to the list.
+     * Adds a lesson to the list, giving it the next ID if it has none or its ID is taken.
      * The lesson must not already exist in the list.
      */
     public void add(Lesson toAdd) {
@@ -55,18 +123,24 @@ public class UniqueLessonList implements Iterable<Lesson> {
         if (contains(toAdd)) {
             throw new DuplicateLessonException();
         }
-        internalList.add(toAdd);
+        Lesson added = toAdd.hasId() && !positionById.containsKey(toAdd.getId()) ? toAdd : toAdd.withId(nextId);
+        reserveIdsBelow(added.getId() + 1);
+        internalList.add(added);
+        positionById.put(added.getId(), internalList.size() - 1);
+        index(added);
+        fireChange(ListChange.added(internalList.size() - 1, added));
     }
 
     /**
      * Replaces the lesson {@code target} in the list with {@code editedLesson}.
      * {@code target} must exist in the list.
      * The lesson identity of {@code editedLesson} must not be the same as another existing lesson in the list.
+     * {@code editedLesson} takes over the ID of {@code target}.
      */
     public void setLesson(Lesson target, Lesson editedLesson) {
         requireAllNonNull(target, editedLesson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new LessonNotFoundException();
         }
@@ -75,7 +149,12 @@ public class UniqueLessonList implements Iterable<Lesson> {
             throw new DuplicateLessonException();
         }
 
-        internalList.set(index, editedLesson);
+        Lesson replaced = internalList.get(index);
+        Lesson edited = editedLesson.getId() == replaced.getId() ? editedLesson : editedLesson.withId(replaced.getId());
+        internalList.set(index, edited);
+        unindex(replaced);
+        index(edited);
+        fireChange(ListChange.replaced(index, replaced, edited));
     }
 
     /**
@@ -84,14 +163,20 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public void remove(Lesson toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new LessonNotFoundException();
         }
+        Lesson removed = internalList.remove(index);
+        unindex(removed);
+        positionById.remove(removed.getId());
+        updatePositions(index);
+        fireChange(ListChange.removed(index, removed));
     }
 
     public void setLessons(UniqueLessonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceAll(replacement.internalList);
     }
 
     /**
@@ -104,13 +189,132 @@ public class UniqueLessonList implements Iterable<Lesson> {
             throw new DuplicateLessonException();
         }
 
-        internalList.setAll(lessons);
+        replaceAll(lessons);
+    }
+
+    /**
+     * Removes the equivalent lessons of {@code toRemove} from the list, in a single pass over the backing list.
+     * Every lesson must exist in the list. Listeners are told of each lesson removed, from the last to the first.
+     */
+    public void removeAll(Collection<Lesson> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Lesson> removed = new HashSet<>(toRemove);
+        List<ListChange<Lesson>> changes = findRemovals(removed);
+        if (changes.size() != removed.size()) {
+            throw new LessonNotFoundException();
+        }
+
+        removeFound(changes);
+        fireChanges(changes);
+    }
+
+    /**
+     * Removes all lessons of the student with the ID {@code studentId} in a single pass over the backing list.
+     * Listeners are told of each lesson removed, from the last to the first.
+     * Returns the number of lessons removed.
+     */
+    public int removeLessonsOf(int studentId) {
+        return removeLessonsOf(List.of(studentId));
+    }
+
+    /**
+     * Removes all lessons of the students with the IDs {@code studentIds} in a single pass over the backing list.
+     * Listeners are told of each lesson removed, from the last to the first, all in one batch.
+     * Returns the number of lessons removed.
+     *
+     * @see #renameStudentInLessons(int, Name)
+     */
+    public int removeLessonsOf(Collection<Integer> studentIds) {
+        requireAllNonNull(studentIds);
+        Set<Lesson> removed = new HashSet<>();
+        for (int studentId : studentIds) {
+            removed.addAll(lessonsByStudent.getOrDefault(studentId, List.of()));
+        }
+        if (removed.isEmpty()) {
+            return 0;
+        }
+
+        List<ListChange<Lesson>> changes = findRemovals(removed);
+        removeFound(changes);
+        fireChanges(changes);
+        return removed.size();
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Replaces the student name of every lesson of the student with the ID {@code studentId} with {@code newName}.
+     * Lessons keep their positions in the list.
+     * Listeners are told of each lesson renamed, all in one batch.
+     * Returns the number of lessons renamed.
+     * The renamed lessons must not be the same as other existing lessons in the list.
+     *
+     * A student's lessons are usually spread over the whole list, so a single change over the range from the first
+     * renamed lesson to the last would also hold most of the lessons in between, which the undo history would then
+     * keep and every listener would have to compare one by one. One change per lesson keeps them to the lessons
+     * renamed, and the filtered lessons and the Ui still get the whole batch as one update, taking O(log n) time for
+     * each lesson.
      */
-    public ObservableList<Lesson> asUnmodifiableObservableList() {
+    public int renameStudentInLessons(int studentId, Name newName) {
+        requireNonNull(newName);
+        List<Lesson> toRename = lessonsByStudent.get(studentId);
+        if (toRename == null) {
+            return 0;
+        }
+
+        // renamed lessons by index in the list
+        NavigableMap<Integer, Lesson> renamed = new TreeMap<>();
+        for (Lesson lesson : toRename) {
+            Lesson renamedLesson = lesson.withStudentName(newName);
+            if (!renamedLesson.equals(lesson) && contains(renamedLesson)) {
+                throw new DuplicateLessonException();
+            }
+            renamed.put(positionById.get(lesson.getId()), renamedLesson);
+        }
+
+        List<ListChange<Lesson>> changes = new ArrayList<>(renamed.size());
+        for (Map.Entry<Integer, Lesson> entry : renamed.entrySet()) {
+            int index = entry.getKey();
+            changes.add(ListChange.replaced(index, internalList.get(index), entry.getValue()));
+            internalList.set(index, entry.getValue());
+        }
+
+        changes.forEach(change -> unindex(change.getRemoved().get(0)));
+        changes.forEach(change -> index(change.getAdded().get(0)));
+        fireChanges(changes);
+        return renamed.size();
+    }
+
+    /**
+     * Reverts {@code change}, which must be the latest change to the list that has not been reverted yet, so that
+     * the list is as it was just before the change. Listeners are told of the change that reverts it.
+     */
+    public void revert(ListChange<Lesson> change) {
+        requireNonNull(change);
+        int from = change.getFrom();
+        List<Lesson> changedRange = internalList.subList(from, change.getTo());
+        assert changedRange.equals(change.getAdded()) : "Only the latest change can be reverted";
+
+        change.getAdded().forEach(this::unindex);
+        change.getAdded().forEach(lesson -> positionById.remove(lesson.getId()));
+        changedRange.clear();
+        internalList.addAll(from, change.getRemoved());
+        change.getRemoved().forEach(this::index);
+        updatePositions(from);
+        fireChange(change.inverse());
+    }
+
+    /**
+     * Adds a listener that is told of every change to the list. The changes made by each operation on the list are
+     * told together, in order, once the operation is done.
+     */
+    public void addListener(Consumer<List<ListChange<Lesson>>> listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    /**
+     * Returns the backing list as an unmodifiable {@code List}.
+     */
+    public List<Lesson> asUnmodifiableList() {
         return internalUnmodifiableList;
     }
 
@@ -143,15 +347,137 @@ public class UniqueLessonList implements Iterable<Lesson> {
         return internalList.toString();
     }
 
+    private void replaceAll(List<Lesson> lessons) {
+        List<Lesson> oldLessons = new ArrayList<>(internalList);
+        List<Lesson> newLessons = withIds(lessons);
+        internalList.clear();
+        internalList.addAll(newLessons);
+        reindex(internalList);
+        if (!oldLessons.isEmpty() || !internalList.isEmpty()) {
+            fireChange(new ListChange<>(0, oldLessons, internalList));
+        }
+    }
+
+    /**
+     * Returns {@code lessons}, with the next IDs given to those that have no ID or the ID of an earlier lesson.
+     */
+    private List<Lesson> withIds(List<Lesson> lessons) {
+        lessons.forEach(lesson -> reserveIdsBelow(lesson.getId() + 1));
+        Set<Integer> ids = new HashSet<>();
+        List<Lesson> lessonsWithIds = new ArrayList<>(lessons.size());
+        for (Lesson lesson : lessons) {
+            lessonsWithIds.add(lesson.hasId() && ids.add(lesson.getId()) ? lesson : lesson.withId(nextId++));
+        }
+        return lessonsWithIds;
+    }
+
+    /**
+     * Returns the index in the list of the lesson equal to {@code lesson}, or -1 if there is none.
+     * A lesson taken from the list is found by its ID, and other lessons are looked for one by one.
+     */
+    private int indexOf(Lesson lesson) {
+        Integer position = positionById.get(lesson.getId());
+        if (position != null && internalList.get(position).equals(lesson)) {
+            return position;
+        }
+        return internalList.indexOf(lesson);
+    }
+
+    /**
+     * Removes the lessons removed by {@code changes}, which must run from the last lesson to the first, from the
+     * list and its indexes.
+     */
+    private void removeFound(List<ListChange<Lesson>> changes) {
+        Set<Integer> removedIndexes = new HashSet<>();
+        for (ListChange<Lesson> change : changes) {
+            Lesson removed = change.getRemoved().get(0);
+            removedIndexes.add(change.getFrom());
+            unindex(removed);
+            positionById.remove(removed.getId());
+        }
+        List<Lesson> kept = new ArrayList<>(internalList.size() - removedIndexes.size());
+        for (int i = 0; i < internalList.size(); i++) {
+            if (!removedIndexes.contains(i)) {
+                kept.add(internalList.get(i));
+            }
+        }
+        internalList.clear();
+        internalList.addAll(kept);
+        updatePositions(changes.get(changes.size() - 1).getFrom());
+    }
+
+    /**
+     * Updates the positions kept by ID of the lessons from index {@code from} of the list onwards.
+     */
+    private void updatePositions(int from) {
+        for (int i = from; i < internalList.size(); i++) {
+            positionById.put(internalList.get(i).getId(), i);
+        }
+    }
+
+    /**
+     * Returns the changes that remove the lessons of the list in {@code removed}, from the last to the first.
+     */
+    private List<ListChange<Lesson>> findRemovals(Set<Lesson> removed) {
+        List<ListChange<Lesson>> changes = new ArrayList<>(removed.size());
+        for (int i = internalList.size() - 1; i >= 0; i--) {
+            Lesson lesson = internalList.get(i);
+            if (removed.contains(lesson)) {
+                changes.add(ListChange.removed(i, lesson));
+            }
+        }
+        return changes;
+    }
+
+    private void fireChange(ListChange<Lesson> change) {
+        fireChanges(List.of(change));
+    }
+
+    private void fireChanges(List<ListChange<Lesson>> changes) {
+        listeners.forEach(listener -> listener.accept(changes));
+    }
+
+    private void index(Lesson lesson) {
+        schedule.computeIfAbsent(lesson.getStartDateTime(), unused -> new ArrayList<>(1)).add(lesson);
+        if (lesson.getStudentId() != Student.NO_ID) {
+            lessonsByStudent.computeIfAbsent(lesson.getStudentId(), unused -> new ArrayList<>()).add(lesson);
+        }
+    }
+
+    private void unindex(Lesson lesson) {
+        removeFromGroup(schedule, lesson.getStartDateTime(), lesson);
+        removeFromGroup(lessonsByStudent, lesson.getStudentId(), lesson);
+    }
+
+    /**
+     * Removes {@code lesson} from the group under {@code key}, dropping the group once it is empty.
+     */
+    private static <K> void removeFromGroup(Map<K, List<Lesson>> groups, K key, Lesson lesson) {
+        List<Lesson> group = groups.get(key);
+        if (group != null && group.remove(lesson) && group.isEmpty()) {
+            groups.remove(key);
+        }
+    }
+
+    /**
+     * Rebuilds the schedule and student indexes from {@code lessons}.
+     */
+    private void reindex(Collection<Lesson> lessons) {
+        schedule.clear();
+        lessonsByStudent.clear();
+        positionById.clear();
+        lessons.forEach(this::index);
+        updatePositions(0);
+    }
+
     /**
      * Returns true if {@code lessons} contains only unique lessons.
      */
     private boolean lessonsAreUnique(List<Lesson> lessons) {
-        for (int i = 0; i < lessons.size() - 1; i++) {
-            for (int j = i + 1; j < lessons.size(); j++) {
-                if (lessons.get(i).equals(lessons.get(j))) {
-                    return false;
-                }
+        Set<Lesson> seen = new HashSet<>();
+        for (Lesson lesson : lessons) {
+            if (!seen.add(lesson)) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,141 @@
+package seedu.address.model.student;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from the trigrams of lower-cased name words to the words, for finding the words that start with a
+ * keyword after a few typos.
+ *
+ * Words are padded at the start, so "amy" has the trigrams "$$a", "$am" and "amy", and a keyword of length n has n
+ * trigrams, all of which are shared by every word that starts with it. A single typo changes at most four of them,
+ * so only words sharing at least {@code n - 4 * maxDistance} trigrams with the keyword can match, and the edit
+ * distance is only computed for those words.
+ */
+class NameTrigramIndex {
+
+    private static final char PADDING = '$';
+
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+    /**
+     * Adds {@code word} to the index.
+     */
+    void add(String word) {
+        for (String trigram : toTrigrams(word)) {
+            wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+        }
+    }
+
+    /**
+     * Removes {@code word} from the index.
+     */
+    void remove(String word) {
+        for (String trigram : toTrigrams(word)) {
+            Set<String> words = wordsByTrigram.get(trigram);
+            if (words != null && words.remove(word) && words.isEmpty()) {
+                wordsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    void clear() {
+        wordsByTrigram.clear();
+    }
+
+    /**
+     * Returns the words in the index that start with {@code keyword} after at most {@link #getMaxDistance(String)}
+     * typos, mapped to the number of typos.
+     */
+    Map<String, Integer> findMatches(String keyword) {
+        int maxDistance = getMaxDistance(keyword);
+        String[] trigrams = toTrigrams(keyword);
+        int minSharedTrigrams = trigrams.length - 4 * maxDistance;
+        assert minSharedTrigrams > 0 : "Keywords must share a trigram with every word they match";
+
+        Map<String, Integer> sharedTrigrams = new HashMap<>();
+        for (String trigram : trigrams) {
+            for (String word : wordsByTrigram.getOrDefault(trigram, Set.of())) {
+                sharedTrigrams.merge(word, 1, Integer::sum);
+            }
+        }
+
+        Map<String, Integer> matches = new HashMap<>();
+        sharedTrigrams.forEach((word, count) -> {
+            if (count < minSharedTrigrams) {
+                return;
+            }
+            int distance = prefixEditDistance(keyword, word, maxDistance);
+            if (distance <= maxDistance) {
+                matches.put(word, distance);
+            }
+        });
+        return matches;
+    }
+
+    /**
+     * Returns the number of typos allowed in {@code keyword}: none for up to 4 characters, one for up to 8, and two
+     * for longer keywords.
+     */
+    static int getMaxDistance(String keyword) {
+        if (keyword.length() <= 4) {
+            return 0;
+        }
+        return keyword.length() <= 8 ? 1 : 2;
+    }
+
+    /**
+     * Returns the least number of single character insertions, deletions, substitutions and swaps of adjacent
+     * characters that turn {@code keyword} into a prefix of {@code word}, or {@code maxDistance + 1} if more than
+     * {@code maxDistance} are needed.
+     */
+    static int prefixEditDistance(String keyword, String word, int maxDistance) {
+        int keywordLength = keyword.length();
+        // prefixes longer than this are more than maxDistance insertions away from the keyword
+        int wordLength = Math.min(word.length(), keywordLength + maxDistance);
+        int[] twoRowsBefore = new int[wordLength + 1];
+        int[] previousRow = new int[wordLength + 1];
+        int[] row = new int[wordLength + 1];
+        for (int j = 0; j <= wordLength; j++) {
+            previousRow[j] = j;
+        }
+
+        for (int i = 1; i <= keywordLength; i++) {
+            row[0] = i;
+            int rowMin = row[0];
+            for (int j = 1; j <= wordLength; j++) {
+                int cost = keyword.charAt(i - 1) == word.charAt(j - 1) ? 0 : 1;
+                row[j] = Math.min(Math.min(row[j - 1] + 1, previousRow[j] + 1), previousRow[j - 1] + cost);
+                if (i > 1 && j > 1 && keyword.charAt(i - 1) == word.charAt(j - 2)
+                        && keyword.charAt(i - 2) == word.charAt(j - 1)) {
+                    row[j] = Math.min(row[j], twoRowsBefore[j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, row[j]);
+            }
+            if (rowMin > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] recycled = twoRowsBefore;
+            twoRowsBefore = previousRow;
+            previousRow = row;
+            row = recycled;
+        }
+
+        int distance = maxDistance + 1;
+        for (int j = 0; j <= wordLength; j++) {
+            distance = Math.min(distance, previousRow[j]);
+        }
+        return distance;
+    }
+
+    private static String[] toTrigrams(String word) {
+        String padded = "" + PADDING + PADDING + word;
+        String[] trigrams = new String[word.length()];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = padded.substring(i, i + 3);
+        }
+        return trigrams;
+    }
+}
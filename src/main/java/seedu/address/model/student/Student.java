@@ -9,17 +9,30 @@ import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.assignment.Assignment;
 import seedu.address.model.assignment.UniqueAssignmentList;
+import seedu.address.model.assignment.expections.AssignmentAlreadyMarkedException;
+import seedu.address.model.assignment.expections.AssignmentNotFoundException;
+import seedu.address.model.assignment.expections.AssignmentNotMarkedException;
 import seedu.address.model.subject.Subject;
 
 /**
  * Represents a Student in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * Changing the assignments of a student returns a new student, which shares the assignments it did not change with
+ * this one. As a student cannot change, its hash code is computed once, when it is created.
+ *
+ * A student kept in an address book has an ID, which is given to it when it is first added and does not change
+ * when the student is edited. The ID is not part of either notion of equality, as it only says which record of the
+ * address book the student is.
  */
 public class Student {
 
+    /** The ID of a student that has not been added to an address book yet. */
+    public static final int NO_ID = 0;
+
+    private final int id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -27,20 +40,17 @@ public class Student {
     private final Address address;
 
     // Data fields
-    private final Set<Subject> subjects = new HashSet<>();
+    private final Set<Subject> subjects;
     private final UniqueAssignmentList assignments;
 
+    private final int hash;
+
 
     /**
      * Every field must be present and not null.
      */
     public Student(Name name, Phone phone, Email email, Address address) {
-        requireAllNonNull(name, phone, email, address);
-        this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.address = address;
-        this.assignments = new UniqueAssignmentList();
+        this(name, phone, email, address, new HashSet<>());
     }
 
     /**
@@ -49,13 +59,7 @@ public class Student {
      */
     public Student(Name name, Phone phone, Email email, Address address,
                    Set<Subject> subjects) {
-        requireAllNonNull(name, phone, email, address, subjects);
-        this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.address = address;
-        this.subjects.addAll(subjects);
-        this.assignments = new UniqueAssignmentList();
+        this(name, phone, email, address, subjects, new UniqueAssignmentList());
     }
 
     /**
@@ -65,16 +69,45 @@ public class Student {
     public Student(Name name, Phone phone, Email email, Address address,
                    Set<Subject> subjects,
                    UniqueAssignmentList assignments) {
+        this(NO_ID, name, phone, email, address, Collections.unmodifiableSet(new HashSet<>(subjects)), assignments);
+    }
+
+    /**
+     * {@code subjects} must not be changed afterwards, as it is shared with other copies of the student.
+     */
+    private Student(int id, Name name, Phone phone, Email email, Address address, Set<Subject> subjects,
+                    UniqueAssignmentList assignments) {
         requireAllNonNull(name, phone, email, address, subjects, assignments);
+        assert id >= NO_ID : "IDs must not be negative";
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.subjects.addAll(subjects);
+        this.subjects = subjects;
         this.assignments = assignments;
+        // assignments are not hashed, as they are not compared in equals
+        this.hash = Objects.hash(name, phone, email, address, subjects);
     }
 
+    /**
+     * Returns the ID of the student, or {@link #NO_ID} if it has not been added to an address book yet.
+     */
+    public int getId() {
+        return id;
+    }
+
+    public boolean hasId() {
+        return id != NO_ID;
+    }
 
+    /**
+     * Returns a copy of this student with the ID {@code id}.
+     */
+    public Student withId(int id) {
+        assert id > NO_ID : "IDs must be positive";
+        return new Student(id, name, phone, email, address, subjects, assignments);
+    }
 
     public Name getName() {
         return name;
@@ -97,7 +130,7 @@ public class Student {
      * if modification is attempted.
      */
     public Set<Subject> getSubjects() {
-        return Collections.unmodifiableSet(subjects);
+        return subjects;
     }
 
     /**
@@ -116,9 +149,7 @@ public class Student {
      */
     public Student addAssignment(Assignment assignment) {
         requireNonNull(assignment);
-        UniqueAssignmentList newAssignments = this.assignments;
-        newAssignments.add(assignment);
-        return new Student(name, phone, email, address, subjects, newAssignments);
+        return withAssignments(assignments.withAdded(assignment));
     }
 
     /**
@@ -167,8 +198,7 @@ public class Student {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, subjects, assignments);
+        return hash;
     }
 
     @Override
@@ -188,11 +218,11 @@ public class Student {
      *
      * @param assignmentName The name of the assignment to mark as completed.
      * @return A new Student instance with the updated assignment status.
-     * @throws CommandException if no assignment with the specified name exists for this student.
+     * @throws AssignmentNotFoundException if no assignment with the specified name exists for this student.
+     * @throws AssignmentAlreadyMarkedException if the assignment is already completed.
      */
-    public Student markAssignment(String assignmentName) throws CommandException {
-        assignments.markAssignment(assignmentName);
-        return new Student(name, phone, email, address, subjects, assignments);
+    public Student markAssignment(String assignmentName) {
+        return withAssignments(assignments.withMarked(assignmentName));
     }
 
     /**
@@ -200,22 +230,29 @@ public class Student {
      *
      * @param assignmentName The name of the assignment to mark as uncompleted.
      * @return A new Student instance with the updated assignment status.
-     * @throws CommandException if no assignment with the specified name exists for this student.
+     * @throws AssignmentNotFoundException if no assignment with the specified name exists for this student.
+     * @throws AssignmentNotMarkedException if the assignment is already uncompleted.
      */
-    public Student unmarkAssignment(String assignmentName) throws CommandException {
-        assignments.unmarkAssignment(assignmentName);
-        return new Student(name, phone, email, address, subjects, assignments);
+    public Student unmarkAssignment(String assignmentName) {
+        return withAssignments(assignments.withUnmarked(assignmentName));
     }
 
-    public void deleteAssignment(String assignmentName) {
-        assignments.deleteAssignment(assignmentName);
-    }
-
-    public Student copy() {
-        return new Student(name, phone, email, address, subjects, assignments);
+    /**
+     * Returns a new student without the assignment named {@code assignmentName}.
+     *
+     * @throws AssignmentNotFoundException if no assignment with the specified name exists for this student.
+     */
+    public Student deleteAssignment(String assignmentName) {
+        return withAssignments(assignments.withDeleted(assignmentName));
     }
 
-    public void clearAssignments() {
-        assignments.clear();
+    /**
+     * Returns a new student with the same details and ID as this student and the assignments {@code assignments},
+     * or this student if it already has those assignments.
+     */
+    public Student withAssignments(UniqueAssignmentList assignments) {
+        requireNonNull(assignments);
+        return assignments == this.assignments ? this
+                : new Student(id, name, phone, email, address, subjects, assignments);
     }
 }
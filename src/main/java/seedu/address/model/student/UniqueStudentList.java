@@ -3,11 +3,24 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.address.model.ListChange;
+import seedu.address.model.assignment.expections.AssignmentNotFoundException;
 import seedu.address.model.student.exceptions.DuplicateStudentException;
 import seedu.address.model.student.exceptions.StudentNotFoundException;
 import seedu.address.model.subject.Subject;
@@ -23,24 +36,87 @@ import seedu.address.model.subject.Subject;
  * to ensure that the student with exactly the same fields will be removed.
  * Supports a minimal set of list operations.
  *
+ * Secondary hash indexes keyed by {@code Name}, {@code Phone} and {@code Email} are kept in sync with the
+ * internal list so that identity checks do not need to scan every student. An inverted index from the lower-cased
+ * words of each student's name to the students with that word is kept in the same way, for searching by name,
+ * along with a {@link NameTrigramIndex} of those words for searching by name with typos.
+ *
+ * Every student in the list has an ID, allocated in increasing order as students without one are added and never
+ * reused by the list, even once the student is removed. The position of each student is kept by ID, so that
+ * students can be looked up by ID, and students taken from the list found again, without scanning the list.
+ *
+ * Listeners are told of every change to the list as a {@link ListChange}, so that views of the list can be updated
+ * from the students that changed.
+ *
  * @see Student#isSameStudent(Student)
  */
 public class UniqueStudentList implements Iterable<Student> {
 
-    private final ObservableList<Student> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Student> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final List<Student> internalList = new ArrayList<>();
+    private final List<Student> internalUnmodifiableList = Collections.unmodifiableList(internalList);
+
+    private final Map<Name, Student> nameIndex = new HashMap<>();
+    private final Map<Phone, Student> phoneIndex = new HashMap<>();
+    private final Map<Email, Student> emailIndex = new HashMap<>();
+    private final Map<String, Set<Student>> nameTokenIndex = new HashMap<>();
+    private final NameTrigramIndex nameTrigramIndex = new NameTrigramIndex();
+    private final Map<Integer, Integer> positionById = new HashMap<>();
+    private int nextId = Student.NO_ID + 1;
+    private final List<Consumer<List<ListChange<Student>>>> listeners = new ArrayList<>();
 
     /**
      * Returns true if the list contains an equivalent student as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+        return findSameStudent(toCheck) != null;
+    }
+
+    /**
+     * Returns the student in the list with the ID {@code id}, if there is one.
+     */
+    public Optional<Student> findById(int id) {
+        Integer position = positionById.get(id);
+        return position == null ? Optional.empty() : Optional.of(internalList.get(position));
+    }
+
+    /**
+     * Returns the student in the list named {@code name}, if there is one.
+     */
+    public Optional<Student> findByName(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(nameIndex.get(name));
     }
 
     /**
-     * Adds a student to the list.
+     * Returns the ID of the student in the list that is equal to {@code student}.
+     * The student must exist in the list.
+     */
+    public int getIdOf(Student student) {
+        requireNonNull(student);
+        int index = indexOf(student);
+        if (index == -1) {
+            throw new StudentNotFoundException();
+        }
+        return internalList.get(index).getId();
+    }
+
+    /**
+     * Returns the ID that the next student added without one will be given.
+     */
+    public int getNextId() {
+        return nextId;
+    }
+
+    /**
+     * Makes sure that students added from now on are not given an ID below {@code nextId}.
+     */
+    public void reserveIdsBelow(int nextId) {
+        this.nextId = Math.max(this.nextId, nextId);
+    }
+
+    /**
+     * Adds a student to the list, giving it the next ID if it has none or its ID is taken.
      * The student must not already exist in the list.
      */
     public void add(Student toAdd) {
@@ -48,27 +124,39 @@ public class UniqueStudentList implements Iterable<Student> {
         if (contains(toAdd)) {
             throw new DuplicateStudentException();
         }
-        internalList.add(toAdd);
+        Student added = toAdd.hasId() && !positionById.containsKey(toAdd.getId()) ? toAdd : toAdd.withId(nextId);
+        reserveIdsBelow(added.getId() + 1);
+        internalList.add(added);
+        positionById.put(added.getId(), internalList.size() - 1);
+        index(added);
+        fireChange(ListChange.added(internalList.size() - 1, added));
     }
 
     /**
      * Replaces the student {@code target} in the list with {@code editedStudent}.
      * {@code target} must exist in the list.
      * The student identity of {@code editedStudent} must not be the same as another existing student in the list.
+     * {@code editedStudent} takes over the ID of {@code target}.
      */
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new StudentNotFoundException();
         }
 
-        if (!target.isSameStudent(editedStudent) && contains(editedStudent)) {
+        Student replaced = internalList.get(index);
+        unindex(replaced);
+        if (contains(editedStudent)) {
+            index(replaced);
             throw new DuplicateStudentException();
         }
 
-        internalList.set(index, editedStudent);
+        Student edited = withIdOf(replaced, editedStudent);
+        internalList.set(index, edited);
+        index(edited);
+        fireChange(ListChange.replaced(index, replaced, edited));
     }
 
     /**
@@ -77,14 +165,100 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new StudentNotFoundException();
         }
+        Student removed = internalList.remove(index);
+        unindex(removed);
+        positionById.remove(removed.getId());
+        updatePositions(index);
+        fireChange(ListChange.removed(index, removed));
+    }
+
+    /**
+     * Replaces each student in the list that is a key of {@code editedStudents} with its value, in a single pass over
+     * the list. Every key must exist in the list.
+     * The student identities of the values must not be the same as each other or as another existing student in the
+     * list. Each value takes over the ID of its key. Listeners are told of each student replaced, in order of index.
+     */
+    public void replaceStudents(Map<Student, Student> editedStudents) {
+        requireAllNonNull(editedStudents.keySet());
+        requireAllNonNull(editedStudents.values());
+
+        List<Integer> indexes = new ArrayList<>(editedStudents.size());
+        for (Student target : editedStudents.keySet()) {
+            int index = indexOf(target);
+            if (index == -1) {
+                throw new StudentNotFoundException();
+            }
+            indexes.add(index);
+        }
+        Collections.sort(indexes);
+
+        indexes.forEach(index -> unindex(internalList.get(index)));
+        List<Student> edited = new ArrayList<>(editedStudents.values());
+        if (!studentsAreUnique(edited) || edited.stream().anyMatch(this::contains)) {
+            indexes.forEach(index -> index(internalList.get(index)));
+            throw new DuplicateStudentException();
+        }
+
+        List<ListChange<Student>> changes = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            Student target = internalList.get(index);
+            Student editedStudent = withIdOf(target, editedStudents.get(target));
+            internalList.set(index, editedStudent);
+            index(editedStudent);
+            changes.add(ListChange.replaced(index, target, editedStudent));
+        }
+        fireChanges(changes);
+    }
+
+    /**
+     * Removes the equivalent students of {@code toRemove} from the list, in a single pass over the backing list.
+     * Every student must exist in the list. Listeners are told of each student removed, from the last to the first.
+     */
+    public void removeAll(Collection<Student> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Integer> indexes = new HashSet<>();
+        for (Student student : toRemove) {
+            int index = indexOf(student);
+            if (index == -1) {
+                throw new StudentNotFoundException();
+            }
+            indexes.add(index);
+        }
+        if (indexes.isEmpty()) {
+            return;
+        }
+
+        List<ListChange<Student>> changes = new ArrayList<>(indexes.size());
+        for (int i = internalList.size() - 1; i >= 0; i--) {
+            if (indexes.contains(i)) {
+                changes.add(ListChange.removed(i, internalList.get(i)));
+            }
+        }
+        List<Student> kept = new ArrayList<>(internalList.size() - indexes.size());
+        for (int i = 0; i < internalList.size(); i++) {
+            if (!indexes.contains(i)) {
+                kept.add(internalList.get(i));
+            }
+        }
+
+        internalList.clear();
+        internalList.addAll(kept);
+        for (ListChange<Student> change : changes) {
+            Student removed = change.getRemoved().get(0);
+            unindex(removed);
+            positionById.remove(removed.getId());
+        }
+        updatePositions(changes.get(changes.size() - 1).getFrom());
+        fireChanges(changes);
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceAll(replacement.internalList);
     }
 
     /**
@@ -97,7 +271,7 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
 
-        internalList.setAll(students);
+        replaceAll(students);
     }
 
     /**
@@ -105,7 +279,7 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public boolean hasStudentSubjects(Student student, Subject subject) {
         requireAllNonNull(student, subject);
-        Student studentFound = internalList.stream().filter(student::isSameStudent).findFirst().orElse(null);
+        Student studentFound = findSameStudent(student);
         if (studentFound == null) {
             throw new StudentNotFoundException();
         }
@@ -116,22 +290,127 @@ public class UniqueStudentList implements Iterable<Student> {
     /**
      * Deletes an assignment from a student.
      * The assignment must belong to a student in the list.
+     * Returns the student in the list that the assignment was deleted from.
+     *
+     * @throws AssignmentNotFoundException if the student has no such assignment, in which case nothing is changed.
      */
-    public void deleteAssignment(Student target, String assignmentName) {
+    public Student deleteAssignment(Student target, String assignmentName) {
         requireAllNonNull(target, assignmentName);
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new StudentNotFoundException();
         }
         Student student = internalList.get(index);
-        student.deleteAssignment(assignmentName);
-        internalList.set(index, student);
+        Student edited = student.deleteAssignment(assignmentName);
+        unindex(student);
+        internalList.set(index, edited);
+        index(edited);
+        fireChange(ListChange.replaced(index, student, edited));
+        return edited;
+    }
+
+    /**
+     * Returns a predicate that accepts the students in the list whose name contains any of {@code keywords} as a
+     * whole word, ignoring case.
+     * The keywords are looked up in the name index each time the predicate is tested, so it accepts the same
+     * students as {@link NameContainsKeywordsPredicate} even after students are added, edited or removed.
+     */
+    public Predicate<Student> nameMatcher(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        List<String> tokens = toNameTokens(keywords);
+        return student -> {
+            // students from outside the list have no ID, and are matched as the equal student in the list
+            Student listed = student.hasId() ? student : nameIndex.get(student.getName());
+            for (String token : tokens) {
+                Set<Student> students = nameTokenIndex.get(token);
+                if (students != null && students.contains(listed) && listed.equals(student)) {
+                    return true;
+                }
+            }
+            return false;
+        };
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the students in the list with a name word matching any of {@code exactKeywords} or
+     * {@code fuzzyKeywords}, mapped to the number of typos in the closest match.
+     * Words match {@code exactKeywords} as they do in {@link #nameMatcher(Collection)}, and match
+     * {@code fuzzyKeywords} if they start with the keyword after a few typos.
      */
-    public ObservableList<Student> asUnmodifiableObservableList() {
+    public Map<Student, Integer> rankByName(Collection<String> exactKeywords, Collection<String> fuzzyKeywords) {
+        requireAllNonNull(exactKeywords, fuzzyKeywords);
+        Map<Student, Integer> distances = new HashMap<>();
+        for (String token : toNameTokens(exactKeywords)) {
+            nameTokenIndex.getOrDefault(token, Collections.emptySet()).forEach(student -> distances.put(student, 0));
+        }
+        for (String token : toNameTokens(fuzzyKeywords)) {
+            nameTrigramIndex.findMatches(token).forEach((word, distance) -> {
+                for (Student student : nameTokenIndex.get(word)) {
+                    distances.merge(student, distance, Math::min);
+                }
+            });
+        }
+        return distances;
+    }
+
+    /**
+     * Returns the number of typos in the closest match of a word in the name of {@code student} to any of
+     * {@code exactKeywords} or {@code fuzzyKeywords}, as in {@link #rankByName(Collection, Collection)}, or an empty
+     * {@code OptionalInt} if no word matches.
+     */
+    public static OptionalInt getNameDistance(Student student, Collection<String> exactKeywords,
+            Collection<String> fuzzyKeywords) {
+        requireAllNonNull(student, exactKeywords, fuzzyKeywords);
+        List<String> words = toNameTokens(student.getName());
+        if (!Collections.disjoint(words, toNameTokens(exactKeywords))) {
+            return OptionalInt.of(0);
+        }
+
+        OptionalInt closest = OptionalInt.empty();
+        for (String keyword : toNameTokens(fuzzyKeywords)) {
+            int maxDistance = NameTrigramIndex.getMaxDistance(keyword);
+            for (String word : words) {
+                int distance = NameTrigramIndex.prefixEditDistance(keyword, word, maxDistance);
+                if (distance <= maxDistance && (closest.isEmpty() || distance < closest.getAsInt())) {
+                    closest = OptionalInt.of(distance);
+                }
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Reverts {@code change}, which must be the latest change to the list that has not been reverted yet, so that
+     * the list is as it was just before the change. Listeners are told of the change that reverts it.
+     */
+    public void revert(ListChange<Student> change) {
+        requireNonNull(change);
+        int from = change.getFrom();
+        List<Student> changedRange = internalList.subList(from, change.getTo());
+        assert changedRange.equals(change.getAdded()) : "Only the latest change can be reverted";
+
+        change.getAdded().forEach(this::unindex);
+        change.getAdded().forEach(student -> positionById.remove(student.getId()));
+        changedRange.clear();
+        internalList.addAll(from, change.getRemoved());
+        change.getRemoved().forEach(this::index);
+        updatePositions(from);
+        fireChange(change.inverse());
+    }
+
+    /**
+     * Adds a listener that is told of every change to the list. The changes made by each operation on the list are
+     * told together, in order, once the operation is done.
+     */
+    public void addListener(Consumer<List<ListChange<Student>>> listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    /**
+     * Returns the backing list as an unmodifiable {@code List}.
+     */
+    public List<Student> asUnmodifiableList() {
         return internalUnmodifiableList;
     }
 
@@ -165,15 +444,153 @@ public class UniqueStudentList implements Iterable<Student> {
         return internalList.toString();
     }
 
+    private void replaceAll(List<Student> students) {
+        List<Student> oldStudents = new ArrayList<>(internalList);
+        List<Student> newStudents = withIds(students);
+        internalList.clear();
+        internalList.addAll(newStudents);
+        reindex();
+        if (!oldStudents.isEmpty() || !internalList.isEmpty()) {
+            fireChange(new ListChange<>(0, oldStudents, internalList));
+        }
+    }
+
+    /**
+     * Returns {@code students}, with the next IDs given to those that have no ID or the ID of an earlier student.
+     */
+    private List<Student> withIds(List<Student> students) {
+        students.forEach(student -> reserveIdsBelow(student.getId() + 1));
+        Set<Integer> ids = new HashSet<>();
+        List<Student> studentsWithIds = new ArrayList<>(students.size());
+        for (Student student : students) {
+            Student withId = student.hasId() && ids.add(student.getId()) ? student : student.withId(nextId++);
+            studentsWithIds.add(withId);
+        }
+        return studentsWithIds;
+    }
+
+    /**
+     * Returns {@code editedStudent} with the ID of {@code target}.
+     */
+    private static Student withIdOf(Student target, Student editedStudent) {
+        return editedStudent.getId() == target.getId() ? editedStudent : editedStudent.withId(target.getId());
+    }
+
+    /**
+     * Returns the index in the list of the student equal to {@code student}, or -1 if there is none.
+     * A student taken from the list is found by its ID. Other students, such as students that are not from this
+     * list or that have no ID, are looked for in the list one by one.
+     */
+    private int indexOf(Student student) {
+        Integer position = positionById.get(student.getId());
+        if (position != null && internalList.get(position).equals(student)) {
+            return position;
+        }
+        return internalList.indexOf(student);
+    }
+
+    /**
+     * Updates the positions kept by ID of the students from index {@code from} of the list onwards.
+     */
+    private void updatePositions(int from) {
+        for (int i = from; i < internalList.size(); i++) {
+            positionById.put(internalList.get(i).getId(), i);
+        }
+    }
+
+    private void fireChange(ListChange<Student> change) {
+        fireChanges(List.of(change));
+    }
+
+    private void fireChanges(List<ListChange<Student>> changes) {
+        listeners.forEach(listener -> listener.accept(changes));
+    }
+
+    /**
+     * Returns the student in the list with the same identity as {@code student}, or null if there is none.
+     * A match on name takes precedence over a match on phone, which takes precedence over a match on email.
+     */
+    private Student findSameStudent(Student student) {
+        Student found = nameIndex.get(student.getName());
+        if (found == null) {
+            found = phoneIndex.get(student.getPhone());
+        }
+        if (found == null) {
+            found = emailIndex.get(student.getEmail());
+        }
+        return found;
+    }
+
+    private void index(Student student) {
+        nameIndex.put(student.getName(), student);
+        phoneIndex.put(student.getPhone(), student);
+        emailIndex.put(student.getEmail(), student);
+        for (String token : toNameTokens(student.getName())) {
+            nameTokenIndex.computeIfAbsent(token, unused -> {
+                nameTrigramIndex.add(token);
+                return Collections.newSetFromMap(new IdentityHashMap<>());
+            }).add(student);
+        }
+    }
+
+    private void unindex(Student student) {
+        nameIndex.remove(student.getName(), student);
+        phoneIndex.remove(student.getPhone(), student);
+        emailIndex.remove(student.getEmail(), student);
+        for (String token : toNameTokens(student.getName())) {
+            Set<Student> students = nameTokenIndex.get(token);
+            if (students != null && students.remove(student) && students.isEmpty()) {
+                nameTokenIndex.remove(token);
+                nameTrigramIndex.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds all identity indexes from the internal list.
+     */
+    private void reindex() {
+        nameIndex.clear();
+        phoneIndex.clear();
+        emailIndex.clear();
+        nameTokenIndex.clear();
+        nameTrigramIndex.clear();
+        positionById.clear();
+        internalList.forEach(this::index);
+        updatePositions(0);
+    }
+
+    private static List<String> toNameTokens(Name name) {
+        return toNameTokens(List.of(name.fullName.split("\\s+")));
+    }
+
+    /**
+     * Returns {@code words} in the lower-cased form used as keys of the name index, ignoring blank words.
+     */
+    private static List<String> toNameTokens(Collection<String> words) {
+        List<String> tokens = new ArrayList<>(words.size());
+        for (String word : words) {
+            String token = word.trim().toLowerCase(Locale.ROOT);
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
     /**
      * Returns true if {@code students} contains only unique students.
+     * Two students clash if they share any of the identity fields used by {@link Student#isSameStudent(Student)}.
      */
     private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        Set<Phone> phones = new HashSet<>();
+        Set<Email> emails = new HashSet<>();
+        for (Student student : students) {
+            if (!names.add(student.getName())
+                    || !phones.add(student.getPhone())
+                    || !emails.add(student.getEmail())) {
+                return false;
             }
         }
         return true;
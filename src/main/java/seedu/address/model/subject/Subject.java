@@ -3,8 +3,7 @@ package seedu.address.model.subject;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.util.Arrays;
-import java.util.stream.Collectors;
+import seedu.address.commons.util.StringUtil;
 
 /**
  * Represents a Subject in the address book.
@@ -28,10 +27,7 @@ public class Subject {
     public Subject(String subjectName) {
         requireNonNull(subjectName);
         checkArgument(isValidSubjectName(subjectName), MESSAGE_CONSTRAINTS);
-        this.subjectName = Arrays.stream(subjectName.trim().split("\\s+"))
-                .map(word -> word.isEmpty() ? word
-                        : Character.toUpperCase(word.charAt(0)) + word.substring(1).toLowerCase())
-                .collect(Collectors.joining(" "));
+        this.subjectName = StringUtil.capitalizeWords(subjectName);
     }
 
     /**
@@ -58,7 +54,7 @@ public class Subject {
 
     @Override
     public int hashCode() {
-        return subjectName.hashCode();
+        return subjectName.toLowerCase().hashCode();
     }
 
     /**
@@ -122,11 +122,7 @@ public class SampleDataUtil {
     }
 
     public static UniqueAssignmentList getAssignmentSet(Assignment... assignments) {
-        UniqueAssignmentList assignmentSet = new UniqueAssignmentList();
-        for (Assignment assignment : assignments) {
-            assignmentSet.add(assignment);
-        }
-        return assignmentSet;
+        return UniqueAssignmentList.of(Arrays.asList(assignments));
     }
 
     public static Assignment getAssignment(String assignment, String dueDate) {
@@ -42,4 +42,27 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Captures the data of {@code addressBook} that {@link #saveAddressBook(ReadOnlyAddressBook)} would write, and
+     * returns the write, which no longer reads {@code addressBook}.
+     * Only this method needs {@code addressBook} to stay unchanged, so a caller that holds off changes to the
+     * address book during the save can let them resume before the data is written.
+     * Prepared saves must be written one at a time, in the order they were prepared.
+     *
+     * @param addressBook cannot be null.
+     */
+    PreparedSave prepareSaveAddressBook(ReadOnlyAddressBook addressBook);
+
+    /**
+     * A save of an address book whose data has been captured, but not yet written.
+     */
+    @FunctionalInterface
+    interface PreparedSave {
+        /**
+         * Writes the captured data.
+         * @throws IOException if there was any problem writing to the file.
+         */
+        void write() throws IOException;
+    }
+
 }
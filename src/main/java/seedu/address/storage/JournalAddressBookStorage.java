@@ -0,0 +1,385 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ListChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.exceptions.DuplicateLessonException;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.exceptions.DuplicateStudentException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal on the hard disk.
+ *
+ * The snapshot has the same format as the file written by {@link JsonAddressBookStorage}. Changes to the address
+ * book since the snapshot was written are appended to a journal file next to it, one line per save, and flushed to
+ * disk once per save. Once the journal holds {@code compactionThreshold} records, the next save compacts it by
+ * writing a new snapshot.
+ *
+ * The first line of the journal holds the checksum of the snapshot it applies to. A new snapshot is always written
+ * before the journal is reset, so a journal left over from an older snapshot is recognised and ignored.
+ *
+ * A save only reads the address book while it captures the changes to append, or the snapshot to write; the file is
+ * written after that. If the write fails, the next save writes a full snapshot.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final String JOURNAL_HEADER_PREFIX = "snapshot-crc32 ";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final int compactionThreshold;
+    private final int prettyPrintLimit;
+
+    private final Consumer<List<ListChange<Student>>> studentListener = this::recordStudentChanges;
+    private final Consumer<List<ListChange<Lesson>>> lessonListener = this::recordLessonChanges;
+
+    // Guarded by this. Changes made to trackedAddressBook since the last save are collected in pendingRecord.
+    private ReadOnlyAddressBook trackedAddressBook;
+    private JsonAdaptedJournalRecord pendingRecord = new JsonAdaptedJournalRecord();
+    private int journalRecordCount;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, JsonAddressBookStorage.DEFAULT_PRETTY_PRINT_LIMIT);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that keeps its snapshot at {@code filePath}, and compacts the
+     * journal into a new snapshot once it holds {@code compactionThreshold} records.
+     * Snapshots are pretty printed as described in {@link JsonAddressBookStorage#JsonAddressBookStorage(Path, int)}.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold, int prettyPrintLimit) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.journalPath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+        this.compactionThreshold = compactionThreshold;
+        this.prettyPrintLimit = prettyPrintLimit;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The journal is only replayed when reading from this storage's own file path.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(filePath), new CRC32())) {
+            AddressBook addressBook = JsonAddressBookLoader.load(in);
+            if (filePath.equals(this.filePath)) {
+                // read the rest of the file so that the checksum covers all of it
+                in.transferTo(OutputStream.nullOutputStream());
+                replayJournal(addressBook, in.getChecksum().getValue());
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a path other than this storage's own file path writes a plain snapshot there.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        prepareSaveAddressBook(addressBook, filePath).write();
+    }
+
+    @Override
+    public PreparedSave prepareSaveAddressBook(ReadOnlyAddressBook addressBook) {
+        return prepareSaveAddressBook(addressBook, filePath);
+    }
+
+    private PreparedSave prepareSaveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+
+        if (!filePath.equals(this.filePath)) {
+            JsonSerializableAddressBook data = new JsonSerializableAddressBook(addressBook);
+            boolean isPrettyPrinted = JsonAddressBookStorage.isPrettyPrinted(addressBook, prettyPrintLimit);
+            return () -> FileUtil.writeAtomically(filePath, out -> JsonUtil.writeJson(data, out, isPrettyPrinted));
+        }
+
+        PreparedSave save;
+        synchronized (this) {
+            if (addressBook != trackedAddressBook) {
+                // Changes made before this address book was tracked are unknown, so start from a full snapshot
+                save = prepareSnapshot(addressBook);
+                track(addressBook);
+            } else if (pendingRecord.isEmpty()) {
+                return () -> { };
+            } else if (journalRecordCount >= compactionThreshold || isLargerThanSnapshot(pendingRecord)) {
+                save = prepareSnapshot(addressBook);
+            } else {
+                JsonAdaptedJournalRecord record = pendingRecord;
+                record.setNextIds(addressBook.getNextStudentId(), addressBook.getNextLessonId());
+                journalRecordCount++;
+                save = () -> appendToJournal(record);
+            }
+            pendingRecord = new JsonAdaptedJournalRecord();
+        }
+
+        return () -> {
+            try {
+                save.write();
+            } catch (IOException e) {
+                // The changes of this save are lost from the journal, so the next save writes a full snapshot
+                untrack();
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * Applies the records in the journal that belong to the snapshot with the given checksum to {@code addressBook}.
+     * A last record that was only partly written is ignored.
+     */
+    private void replayJournal(AddressBook addressBook, long snapshotChecksum)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(Files.newInputStream(journalPath), StandardCharsets.UTF_8))) {
+            if (!(JOURNAL_HEADER_PREFIX + snapshotChecksum).equals(reader.readLine())) {
+                logger.info("Journal " + journalPath + " does not belong to the current snapshot. Ignoring it.");
+                return;
+            }
+
+            List<Student> students = new ArrayList<>(addressBook.getStudentList());
+            List<Lesson> lessons = new ArrayList<>(addressBook.getLessonList());
+            int replayedCount = 0;
+            int nextStudentId = 0;
+            int nextLessonId = 0;
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                JsonAdaptedJournalRecord record;
+                try {
+                    record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+                } catch (IOException e) {
+                    if (nextLine == null) {
+                        logger.warning("Ignoring incomplete last record in journal " + journalPath);
+                        break;
+                    }
+                    throw e;
+                }
+                record.applyTo(students, lessons);
+                nextStudentId = record.getNextStudentId();
+                nextLessonId = record.getNextLessonId();
+                replayedCount++;
+                line = nextLine;
+            }
+
+            if (replayedCount > 0) {
+                setContents(addressBook, students, lessons);
+                addressBook.reserveIdsBelow(nextStudentId, nextLessonId);
+            }
+            logger.info("Replayed " + replayedCount + " records from journal " + journalPath);
+        }
+    }
+
+    private static void setContents(AddressBook addressBook, List<Student> students, List<Lesson> lessons)
+            throws IllegalValueException {
+        try {
+            addressBook.setStudents(students);
+        } catch (DuplicateStudentException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT);
+        }
+        try {
+            addressBook.setLessons(lessons);
+        } catch (DuplicateLessonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_LESSON);
+        }
+    }
+
+    /**
+     * Captures a full snapshot of {@code addressBook}, and returns the write of the snapshot, which then starts a new
+     * journal for it.
+     */
+    private PreparedSave prepareSnapshot(ReadOnlyAddressBook addressBook) {
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(addressBook);
+        boolean isPrettyPrinted = JsonAddressBookStorage.isPrettyPrinted(addressBook, prettyPrintLimit);
+        journalRecordCount = 0;
+        return () -> writeSnapshot(data, isPrettyPrinted);
+    }
+
+    private void writeSnapshot(JsonSerializableAddressBook data, boolean isPrettyPrinted) throws IOException {
+        SaveMeter meter = SaveMeter.start();
+        CRC32 checksum = new CRC32();
+        FileUtil.writeAtomically(filePath, out ->
+                JsonUtil.writeJson(data, new CheckedOutputStream(out, checksum), isPrettyPrinted));
+        String header = JOURNAL_HEADER_PREFIX + checksum.getValue() + System.lineSeparator();
+        FileUtil.writeAtomically(journalPath, out -> out.write(header.getBytes(StandardCharsets.UTF_8)));
+        logger.info("Writing snapshot " + filePath + " " + meter.describe());
+    }
+
+    private void appendToJournal(JsonAdaptedJournalRecord record) throws IOException {
+        SaveMeter meter = SaveMeter.start();
+        byte[] line = (JsonUtil.toCompactJsonString(record) + System.lineSeparator())
+                .getBytes(StandardCharsets.UTF_8);
+        try (FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            journal.write(ByteBuffer.wrap(line));
+            journal.force(false);
+        }
+        logger.fine("Appending to journal " + journalPath + " " + meter.describe());
+    }
+
+    /**
+     * Returns true if {@code record} touches at least as many students and lessons as the tracked address book
+     * holds, in which case writing a snapshot is cheaper than appending the record.
+     */
+    private boolean isLargerThanSnapshot(JsonAdaptedJournalRecord record) {
+        return record.size() >= trackedAddressBook.getStudentList().size()
+                + trackedAddressBook.getLessonList().size();
+    }
+
+    private void track(ReadOnlyAddressBook addressBook) {
+        untrack();
+        trackedAddressBook = addressBook;
+        addressBook.addStudentListener(studentListener);
+        addressBook.addLessonListener(lessonListener);
+    }
+
+    private synchronized void untrack() {
+        if (trackedAddressBook != null) {
+            trackedAddressBook.removeStudentListener(studentListener);
+            trackedAddressBook.removeLessonListener(lessonListener);
+        }
+        trackedAddressBook = null;
+        pendingRecord = new JsonAdaptedJournalRecord();
+    }
+
+    private synchronized void recordStudentChanges(List<ListChange<Student>> changes) {
+        forEachSplice(changes, JsonAdaptedStudent::new, pendingRecord::addStudentSplice);
+    }
+
+    private synchronized void recordLessonChanges(List<ListChange<Lesson>> changes) {
+        forEachSplice(changes, JsonAdaptedLesson::new, pendingRecord::addLessonSplice);
+    }
+
+    /**
+     * Breaks {@code changes} down into splices that only cover the elements that actually changed,
+     * and passes each of them, with the inserted elements converted by {@code adapter}, to {@code consumer}.
+     */
+    private static <E, T> void forEachSplice(List<ListChange<E>> changes, Function<E, T> adapter,
+                                             SpliceConsumer<T> consumer) {
+        for (ListChange<E> change : changes) {
+            int from = change.getFrom();
+
+            // Bulk operations such as setStudents report the whole list as replaced, so skip the unchanged elements
+            List<E> removed = change.getRemoved();
+            List<E> added = change.getAdded();
+            int i = 0;
+            int j = 0;
+            while (i < removed.size() && j < added.size()) {
+                int removedLeft = removed.size() - i;
+                int addedLeft = added.size() - j;
+                if (removed.get(i) == added.get(j)) {
+                    i++;
+                    j++;
+                } else if (removedLeft == addedLeft) {
+                    consumer.accept(from + j, 1, adapt(added.subList(j, j + 1), adapter));
+                    i++;
+                    j++;
+                } else if (removedLeft > addedLeft) {
+                    consumer.accept(from + j, 1, List.of());
+                    i++;
+                } else {
+                    consumer.accept(from + j, 0, adapt(added.subList(j, j + 1), adapter));
+                    j++;
+                }
+            }
+            if (i < removed.size() || j < added.size()) {
+                consumer.accept(from + j, removed.size() - i, adapt(added.subList(j, added.size()), adapter));
+            }
+        }
+    }
+
+    private static <E, T> List<T> adapt(List<? extends E> elements, Function<E, T> adapter) {
+        List<T> adapted = new ArrayList<>(elements.size());
+        for (E element : elements) {
+            adapted.add(adapter.apply(element));
+        }
+        return adapted;
+    }
+
+    /**
+     * Receives a splice of a list: {@code removeCount} elements at {@code at} are replaced with {@code added}.
+     */
+    @FunctionalInterface
+    private interface SpliceConsumer<T> {
+        void accept(int at, int removeCount, List<T> added);
+    }
+}
@@ -0,0 +1,196 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Student;
+
+/**
+ * Jackson-friendly record of the changes made to the student and lesson lists between two saves.
+ * Each change is a splice: at a position, remove some elements and insert others in their place.
+ * The record also holds the IDs that the address book was to give out next when it was saved.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_SPLICE = "Journal record does not match the saved data.";
+
+    private final List<StudentSplice> students = new ArrayList<>();
+    private final List<LessonSplice> lessons = new ArrayList<>();
+    private int nextStudentId;
+    private int nextLessonId;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given changes and next IDs.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("students") List<StudentSplice> students,
+                                    @JsonProperty("lessons") List<LessonSplice> lessons,
+                                    @JsonProperty("nextStudentId") int nextStudentId,
+                                    @JsonProperty("nextLessonId") int nextLessonId) {
+        this.nextStudentId = nextStudentId;
+        this.nextLessonId = nextLessonId;
+        if (students != null) {
+            this.students.addAll(students);
+        }
+        if (lessons != null) {
+            this.lessons.addAll(lessons);
+        }
+    }
+
+    /**
+     * Constructs an empty {@code JsonAdaptedJournalRecord}.
+     */
+    public JsonAdaptedJournalRecord() {}
+
+    /**
+     * Records that {@code removeCount} students at {@code at} were replaced with {@code added}.
+     */
+    public void addStudentSplice(int at, int removeCount, List<JsonAdaptedStudent> added) {
+        if (students.isEmpty() || !students.get(students.size() - 1).merge(at, removeCount, added)) {
+            students.add(new StudentSplice(at, removeCount, added));
+        }
+    }
+
+    /**
+     * Records that {@code removeCount} lessons at {@code at} were replaced with {@code added}.
+     */
+    public void addLessonSplice(int at, int removeCount, List<JsonAdaptedLesson> added) {
+        if (lessons.isEmpty() || !lessons.get(lessons.size() - 1).merge(at, removeCount, added)) {
+            lessons.add(new LessonSplice(at, removeCount, added));
+        }
+    }
+
+    /**
+     * Records the IDs that the address book is to give out next.
+     */
+    public void setNextIds(int nextStudentId, int nextLessonId) {
+        this.nextStudentId = nextStudentId;
+        this.nextLessonId = nextLessonId;
+    }
+
+    public int getNextStudentId() {
+        return nextStudentId;
+    }
+
+    public int getNextLessonId() {
+        return nextLessonId;
+    }
+
+    /**
+     * Returns true if no changes have been recorded.
+     */
+    public boolean isEmpty() {
+        return students.isEmpty() && lessons.isEmpty();
+    }
+
+    /**
+     * Returns the number of students and lessons removed or added by this record.
+     */
+    public int size() {
+        int size = 0;
+        for (Splice<?> splice : students) {
+            size += splice.size();
+        }
+        for (Splice<?> splice : lessons) {
+            size += splice.size();
+        }
+        return size;
+    }
+
+    /**
+     * Applies the recorded changes, in order, to the given lists.
+     *
+     * @throws IllegalValueException if a change does not fit the lists, or an inserted element violates
+     *     data constraints.
+     */
+    public void applyTo(List<Student> studentList, List<Lesson> lessonList) throws IllegalValueException {
+        for (StudentSplice splice : students) {
+            splice.applyTo(studentList, JsonAdaptedStudent::toModelType);
+        }
+        for (LessonSplice splice : lessons) {
+            splice.applyTo(lessonList, JsonAdaptedLesson::toModelType);
+        }
+    }
+
+    /**
+     * Replaces {@code remove} elements at {@code at} with {@code add}.
+     */
+    abstract static class Splice<T> {
+        private final int at;
+        private int remove;
+        private final List<T> add = new ArrayList<>();
+
+        Splice(int at, int remove, List<T> add) {
+            this.at = at;
+            this.remove = remove;
+            if (add != null) {
+                this.add.addAll(add);
+            }
+        }
+
+        /**
+         * Folds a splice that starts right after the elements inserted by this one into this splice.
+         * Returns false if the splices are not adjacent.
+         */
+        boolean merge(int nextAt, int nextRemove, List<T> nextAdd) {
+            if (nextAt != at + add.size()) {
+                return false;
+            }
+            remove += nextRemove;
+            add.addAll(nextAdd);
+            return true;
+        }
+
+        int size() {
+            return remove + add.size();
+        }
+
+        <R> void applyTo(List<R> list, ModelConverter<T, R> converter) throws IllegalValueException {
+            if (at < 0 || remove < 0 || at + remove > list.size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_SPLICE);
+            }
+            List<R> converted = new ArrayList<>(add.size());
+            for (T element : add) {
+                converted.add(converter.toModelType(element));
+            }
+            List<R> replaced = list.subList(at, at + remove);
+            replaced.clear();
+            replaced.addAll(converted);
+        }
+    }
+
+    /**
+     * Converts a Jackson-friendly element into its model type.
+     */
+    @FunctionalInterface
+    interface ModelConverter<T, R> {
+        R toModelType(T element) throws IllegalValueException;
+    }
+
+    /**
+     * A change to the student list.
+     */
+    static class StudentSplice extends Splice<JsonAdaptedStudent> {
+        @JsonCreator
+        StudentSplice(@JsonProperty("at") int at, @JsonProperty("remove") int remove,
+                      @JsonProperty("add") List<JsonAdaptedStudent> add) {
+            super(at, remove, add);
+        }
+    }
+
+    /**
+     * A change to the lesson list.
+     */
+    static class LessonSplice extends Splice<JsonAdaptedLesson> {
+        @JsonCreator
+        LessonSplice(@JsonProperty("at") int at, @JsonProperty("remove") int remove,
+                     @JsonProperty("add") List<JsonAdaptedLesson> add) {
+            super(at, remove, add);
+        }
+    }
+}
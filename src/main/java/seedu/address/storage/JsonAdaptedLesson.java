@@ -8,6 +8,7 @@ import seedu.address.model.datetimeutil.Date;
 import seedu.address.model.datetimeutil.Time;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
 import seedu.address.model.subject.Subject;
 
 /**
@@ -16,19 +17,33 @@ import seedu.address.model.subject.Subject;
 class JsonAdaptedLesson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Lesson's %s field is missing!";
+    public static final String MESSAGE_INVALID_ID = "Lesson's id and studentId must be positive integers!";
 
+    private final Integer id;
+    private final Integer studentId;
     private final String name;
     private final String date;
     private final String time;
     private final String subject;
 
+    /**
+     * Constructs a {@code JsonAdaptedLesson} with the given lesson details and no IDs.
+     */
+    public JsonAdaptedLesson(String subject, String name, String date, String time) {
+        this(null, null, subject, name, date, time);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedLesson} with the given lesson details.
+     * The IDs may be null for lessons saved before lessons had IDs, or lessons without a student.
      */
     @JsonCreator
-    public JsonAdaptedLesson(@JsonProperty("subject") String subject,
+    public JsonAdaptedLesson(@JsonProperty("id") Integer id, @JsonProperty("studentId") Integer studentId,
+                             @JsonProperty("subject") String subject,
                              @JsonProperty("name") String name,
                              @JsonProperty("date") String date, @JsonProperty("time") String time) {
+        this.id = id;
+        this.studentId = studentId;
         this.name = name;
         this.date = date;
         this.time = time;
@@ -39,6 +54,8 @@ class JsonAdaptedLesson {
      * Converts a given {@code Lesson} into this class for Jackson use.
      */
     public JsonAdaptedLesson(Lesson source) {
+        id = source.hasId() ? source.getId() : null;
+        studentId = source.getStudentId() != Student.NO_ID ? source.getStudentId() : null;
         name = source.getStudentName().fullName;
         date = source.getDate().date;
         time = source.getTime().time;
@@ -83,6 +100,13 @@ class JsonAdaptedLesson {
         }
         final Subject modelSubject = new Subject(subject);
 
-        return new Lesson(modelSubject, modelName, modelDate, modelTime);
+        if ((id != null && id <= Student.NO_ID) || (studentId != null && studentId <= Student.NO_ID)) {
+            throw new IllegalValueException(MESSAGE_INVALID_ID);
+        }
+        Lesson modelLesson = new Lesson(modelSubject, modelName, modelDate, modelTime);
+        if (id != null) {
+            modelLesson = modelLesson.withId(id);
+        }
+        return studentId == null ? modelLesson : modelLesson.withStudentId(studentId);
     }
 }
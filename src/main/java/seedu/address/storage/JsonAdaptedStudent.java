@@ -13,6 +13,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.assignment.Assignment;
 import seedu.address.model.assignment.UniqueAssignmentList;
+import seedu.address.model.assignment.expections.DuplicateAssignmentException;
 import seedu.address.model.student.Address;
 import seedu.address.model.student.Email;
 import seedu.address.model.student.Name;
@@ -27,7 +28,9 @@ import seedu.address.model.subject.Subject;
 class JsonAdaptedStudent {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Student's %s field is missing!";
+    public static final String MESSAGE_INVALID_ID = "Student's id must be a positive integer!";
 
+    private final Integer id;
     private final String name;
     private final String phone;
     private final String address;
@@ -35,14 +38,25 @@ class JsonAdaptedStudent {
     private final List<JsonAdaptedSubject> subjects = new ArrayList<>();
     private final List<JsonAdaptedAssignment> assignments;
 
+    /**
+     * Constructs a {@code JsonAdaptedStudent} with the given student details and no ID.
+     */
+    public JsonAdaptedStudent(String name, String phone, String address, String email,
+                              List<JsonAdaptedSubject> subjects, List<JsonAdaptedAssignment> assignments) {
+        this(null, name, phone, address, email, subjects, assignments);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedStudent} with the given student details.
+     * The ID may be null for students saved before students had IDs.
      */
     @JsonCreator
-    public JsonAdaptedStudent(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
+    public JsonAdaptedStudent(@JsonProperty("id") Integer id, @JsonProperty("name") String name,
+                              @JsonProperty("phone") String phone,
                               @JsonProperty("address") String address, @JsonProperty("email") String email,
                               @JsonProperty("subjects") List<JsonAdaptedSubject> subjects,
                               @JsonProperty("assignments") List<JsonAdaptedAssignment> assignments) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.address = address;
@@ -57,6 +71,7 @@ class JsonAdaptedStudent {
      * Converts a given {@code Student} into this class for Jackson use.
      */
     public JsonAdaptedStudent(Student source) {
+        id = source.hasId() ? source.getId() : null;
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -64,7 +79,7 @@ class JsonAdaptedStudent {
         subjects.addAll(source.getSubjects().stream()
                 .map(JsonAdaptedSubject::new)
                 .toList());
-        assignments = source.getAssignments().asUnmodifiableObservableList().stream()
+        assignments = source.getAssignments().asUnmodifiableList().stream()
                 .map(JsonAdaptedAssignment::new)
                 .collect(java.util.stream.Collectors.toList());
     }
@@ -83,14 +98,16 @@ class JsonAdaptedStudent {
         }
 
         // model type for assignments
-        final UniqueAssignmentList studentAssignments = new UniqueAssignmentList();
+        UniqueAssignmentList studentAssignments = new UniqueAssignmentList();
         if (assignments != null) {
+            final List<Assignment> modelAssignments = new ArrayList<>(assignments.size());
             for (JsonAdaptedAssignment assignment : assignments) {
-                Assignment assignmentToAdd = assignment.toModelType();
-                if (studentAssignments.contains(assignmentToAdd)) {
-                    throw new IllegalValueException(MESSAGE_DUPLICATE_ASSIGNMENT);
-                }
-                studentAssignments.add(assignment.toModelType());
+                modelAssignments.add(assignment.toModelType());
+            }
+            try {
+                studentAssignments = UniqueAssignmentList.of(modelAssignments);
+            } catch (DuplicateAssignmentException e) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_ASSIGNMENT);
             }
         }
 
@@ -133,8 +150,15 @@ class JsonAdaptedStudent {
 
         final Set<Subject> modelSubjects = new HashSet<>(studentSubjects);
 
-        return new Student(modelName, modelPhone, modelEmail, modelAddress, modelSubjects,
+        final Student modelStudent = new Student(modelName, modelPhone, modelEmail, modelAddress, modelSubjects,
                 studentAssignments);
+        if (id == null) {
+            return modelStudent;
+        }
+        if (id <= Student.NO_ID) {
+            throw new IllegalValueException(MESSAGE_INVALID_ID);
+        }
+        return modelStudent.withId(id);
     }
 
 }
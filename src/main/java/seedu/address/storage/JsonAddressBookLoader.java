@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.lesson.exceptions.DuplicateLessonException;
+import seedu.address.model.student.exceptions.DuplicateStudentException;
+
+/**
+ * Reads an address book in the format of {@link JsonSerializableAddressBook} one student or lesson at a time.
+ * Each record is converted to a model object and added to the {@code AddressBook} as soon as it is read,
+ * so only one record is held in its JSON-adapted form at any time.
+ */
+class JsonAddressBookLoader {
+
+    private static final String FIELD_STUDENTS = "students";
+    private static final String FIELD_LESSONS = "lessons";
+    private static final String FIELD_NEXT_STUDENT_ID = "nextStudentId";
+    private static final String FIELD_NEXT_LESSON_ID = "nextLessonId";
+
+    private JsonAddressBookLoader() {} // prevents instantiation
+
+    /**
+     * Reads an address book from {@code in}. {@code in} is not closed.
+     *
+     * @throws IOException if {@code in} could not be read or is not in the expected JSON format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook load(InputStream in) throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (FIELD_STUDENTS.equals(field) && value != JsonToken.VALUE_NULL) {
+                    expect(parser, value, JsonToken.START_ARRAY);
+                    loadStudents(parser, addressBook);
+                } else if (FIELD_LESSONS.equals(field) && value != JsonToken.VALUE_NULL) {
+                    expect(parser, value, JsonToken.START_ARRAY);
+                    loadLessons(parser, addressBook);
+                } else if (FIELD_NEXT_STUDENT_ID.equals(field) && value != JsonToken.VALUE_NULL) {
+                    expect(parser, value, JsonToken.VALUE_NUMBER_INT);
+                    addressBook.reserveIdsBelow(parser.getIntValue(), 0);
+                } else if (FIELD_NEXT_LESSON_ID.equals(field) && value != JsonToken.VALUE_NULL) {
+                    expect(parser, value, JsonToken.VALUE_NUMBER_INT);
+                    addressBook.reserveIdsBelow(0, parser.getIntValue());
+                } else {
+                    // unknown fields are ignored, as when reading the whole file at once
+                    parser.skipChildren();
+                }
+            }
+            expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        }
+        return addressBook;
+    }
+
+    private static void loadStudents(JsonParser parser, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        while (hasNextElement(parser)) {
+            JsonAdaptedStudent student = JsonUtil.readValue(parser, JsonAdaptedStudent.class);
+            try {
+                addressBook.addStudent(student.toModelType());
+            } catch (DuplicateStudentException e) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT);
+            }
+        }
+    }
+
+    private static void loadLessons(JsonParser parser, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        while (hasNextElement(parser)) {
+            JsonAdaptedLesson lesson = JsonUtil.readValue(parser, JsonAdaptedLesson.class);
+            try {
+                addressBook.addLesson(lesson.toModelType());
+            } catch (DuplicateLessonException e) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_LESSON);
+            }
+        }
+    }
+
+    /**
+     * Moves {@code parser} to the next element of the array it is in.
+     * Returns false if the end of the array has been reached instead.
+     */
+    private static boolean hasNextElement(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new JsonParseException(parser, "Unexpected end of data");
+        }
+        return token != JsonToken.END_ARRAY;
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -16,15 +18,32 @@ import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ *
+ * The data of the address book is captured first, and then written to a temporary file, which replaces the data
+ * file in one step.
+ * Address books with more students and lessons than the pretty print limit are written on a single line.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final int DEFAULT_PRETTY_PRINT_LIMIT = 1000;
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final int prettyPrintLimit;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_PRETTY_PRINT_LIMIT);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that pretty prints address books holding at most
+     * {@code prettyPrintLimit} students and lessons in total.
+     * Use 0 to never pretty print, or {@code Integer.MAX_VALUE} to always do so.
+     */
+    public JsonAddressBookStorage(Path filePath, int prettyPrintLimit) {
         this.filePath = filePath;
+        this.prettyPrintLimit = prettyPrintLimit;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +64,15 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Optional.of(JsonAddressBookLoader.load(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -70,11 +90,34 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @param filePath location of the data. Cannot be null.
      */
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        requireNonNull(addressBook);
         requireNonNull(filePath);
+        prepareSaveAddressBook(addressBook, filePath).write();
+    }
+
+    @Override
+    public PreparedSave prepareSaveAddressBook(ReadOnlyAddressBook addressBook) {
+        return prepareSaveAddressBook(addressBook, filePath);
+    }
+
+    private PreparedSave prepareSaveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(addressBook);
+        boolean isPrettyPrinted = isPrettyPrinted(addressBook, prettyPrintLimit);
+        return () -> {
+            SaveMeter meter = SaveMeter.start();
+            FileUtil.writeAtomically(filePath, out -> JsonUtil.writeJson(data, out, isPrettyPrinted));
+            logger.info("Saving data file " + filePath + " " + meter.describe());
+        };
+    }
+
+    /**
+     * Returns true if {@code addressBook} holds at most {@code prettyPrintLimit} students and lessons in total,
+     * and is therefore pretty printed when it is saved.
+     */
+    static boolean isPrettyPrinted(ReadOnlyAddressBook addressBook, int prettyPrintLimit) {
+        long size = (long) addressBook.getStudentList().size() + addressBook.getLessonList().size();
+        return size <= prettyPrintLimit;
     }
 
 }
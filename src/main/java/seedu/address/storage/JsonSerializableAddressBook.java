@@ -12,10 +12,14 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.exceptions.DuplicateLessonException;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.exceptions.DuplicateStudentException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * The IDs that the address book is to give out next are saved with it, so that the IDs of removed students and
+ * lessons are not given out again. They are missing from files saved before students and lessons had IDs.
  */
 @JsonRootName(value = "TutorTrack")
 class JsonSerializableAddressBook {
@@ -23,6 +27,8 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_STUDENT = "Students list contains duplicate student(s).";
     public static final String MESSAGE_DUPLICATE_LESSON = "Lessons list contains duplicate lesson(s).";
 
+    private final Integer nextStudentId;
+    private final Integer nextLessonId;
     private final List<JsonAdaptedStudent> students = new ArrayList<>();
     private final List<JsonAdaptedLesson> lessons = new ArrayList<>();
 
@@ -30,8 +36,12 @@ class JsonSerializableAddressBook {
      * Constructs a {@code JsonSerializableAddressBook} with the given students and lessons.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("students") List<JsonAdaptedStudent> students,
+    public JsonSerializableAddressBook(@JsonProperty("nextStudentId") Integer nextStudentId,
+                                       @JsonProperty("nextLessonId") Integer nextLessonId,
+                                       @JsonProperty("students") List<JsonAdaptedStudent> students,
                                        @JsonProperty("lessons") List<JsonAdaptedLesson> lessons) {
+        this.nextStudentId = nextStudentId;
+        this.nextLessonId = nextLessonId;
         this.students.addAll(students);
         this.lessons.addAll(lessons);
     }
@@ -42,6 +52,8 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        nextStudentId = source.getNextStudentId();
+        nextLessonId = source.getNextLessonId();
         students.addAll(source.getStudentList().stream().map(JsonAdaptedStudent::new).collect(Collectors.toList()));
         lessons.addAll(source.getLessonList().stream().map(JsonAdaptedLesson::new).collect(Collectors.toList()));
     }
@@ -53,20 +65,28 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
+
+        List<Student> modelStudents = new ArrayList<>(students.size());
         for (JsonAdaptedStudent jsonAdaptedStudent : students) {
-            Student student = jsonAdaptedStudent.toModelType();
-            if (addressBook.hasStudent(student)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
-            }
-            addressBook.addStudent(student);
+            modelStudents.add(jsonAdaptedStudent.toModelType());
+        }
+        try {
+            addressBook.setStudents(modelStudents);
+        } catch (DuplicateStudentException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
         }
+
+        List<Lesson> modelLessons = new ArrayList<>(lessons.size());
         for (JsonAdaptedLesson jsonAdaptedLesson : lessons) {
-            Lesson lesson = jsonAdaptedLesson.toModelType();
-            if (addressBook.hasLesson(lesson)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_LESSON);
-            }
-            addressBook.addLesson(lesson);
+            modelLessons.add(jsonAdaptedLesson.toModelType());
         }
+        try {
+            addressBook.setLessons(modelLessons);
+        } catch (DuplicateLessonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_LESSON);
+        }
+
+        addressBook.reserveIdsBelow(nextStudentId == null ? 0 : nextStudentId, nextLessonId == null ? 0 : nextLessonId);
         return addressBook;
     }
 
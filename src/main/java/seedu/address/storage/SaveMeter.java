@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures the time taken and the memory allocated by the current thread while saving data, for logging.
+ * Allocation is only reported on JVMs that can measure it per thread.
+ */
+class SaveMeter {
+
+    private static final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+    private final long startNanos;
+    private final long startAllocatedBytes;
+
+    private SaveMeter() {
+        startAllocatedBytes = getAllocatedBytes();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Starts measuring from now.
+     */
+    static SaveMeter start() {
+        return new SaveMeter();
+    }
+
+    /**
+     * Returns a description of the time taken and the memory allocated since this meter was started.
+     */
+    String describe() {
+        long elapsedNanos = Math.max(System.nanoTime() - startNanos, 1);
+        long endAllocatedBytes = getAllocatedBytes();
+        String description = String.format("took %.1f ms", elapsedNanos / 1e6);
+        if (startAllocatedBytes < 0 || endAllocatedBytes < 0) {
+            return description;
+        }
+
+        long allocatedBytes = endAllocatedBytes - startAllocatedBytes;
+        double allocationRate = allocatedBytes / (elapsedNanos / 1e9) / (1 << 20);
+        return description + String.format(", allocated %d KiB (%.1f MiB/s)", allocatedBytes >> 10, allocationRate);
+    }
+
+    /**
+     * Returns the total number of bytes allocated by the current thread, or -1 if it cannot be measured.
+     */
+    private static long getAllocatedBytes() {
+        if (threadBean instanceof com.sun.management.ThreadMXBean allocationBean
+                && allocationBean.isThreadAllocatedMemorySupported()
+                && allocationBean.isThreadAllocatedMemoryEnabled()) {
+            return allocationBean.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,27 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Requests that {@code addressBook} be saved to the data file.
+     * The save may be deferred and coalesced with later requests. A deferred save locks {@code addressBook}
+     * while it captures the data to save, so changes to {@code addressBook} should be made while holding its lock.
+     *
+     * A deferred save that fails does not fail a later request, but is told to the save failure listeners.
+     *
+     * @throws IOException if there was an error saving now.
+     */
+    void requestSaveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Adds a listener that is told of each deferred save that fails, on the thread that ran the save.
+     */
+    void addSaveFailureListener(Consumer<IOException> listener);
+
+    /**
+     * Saves any changes that have been requested but not yet saved, waiting until they are written.
+     *
+     * @throws IOException if there was an error saving any of the changes.
+     */
+    void flushAddressBook() throws IOException;
+
 }
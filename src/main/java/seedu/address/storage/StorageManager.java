@@ -1,11 +1,20 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -13,19 +22,51 @@ import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ *
+ * Changes requested through {@link #requestSaveAddressBook(ReadOnlyAddressBook)} are either saved immediately,
+ * or, when a maximum staleness is given, marked as pending and saved by a single background writer.
+ * All changes made while a save is pending are coalesced into that one save.
+ * With a maximum staleness of {@link #SAVE_ON_FLUSH_ONLY}, requested saves are only written by
+ * {@link #flushAddressBook()}, so that the caller decides when to write.
+ * A background save that fails is told to the save failure listeners, and its changes are saved again by the next
+ * save or flush.
  */
 public class StorageManager implements Storage {
 
+    public static final long SAVE_ON_FLUSH_ONLY = Long.MAX_VALUE;
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final long maxSaveStalenessMillis;
+    private ScheduledExecutorService saveExecutor;
+    private final Object writeLock = new Object();
+
+    private final List<Consumer<IOException>> saveFailureListeners = new CopyOnWriteArrayList<>();
+
+    // Guarded by this. A non-null pendingAddressBook means there are changes that have not been saved yet.
+    private ReadOnlyAddressBook pendingAddressBook;
+    private boolean isSaveScheduled;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Requested address book saves are written immediately.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, 0);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Requested address book saves are written in the background, at most {@code maxSaveStalenessMillis}
+     * after the first unsaved change. A non-positive value writes every requested save immediately.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          long maxSaveStalenessMillis) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.maxSaveStalenessMillis = maxSaveStalenessMillis;
     }
 
     // ================ UserPrefs methods ==============================
@@ -75,4 +116,122 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public PreparedSave prepareSaveAddressBook(ReadOnlyAddressBook addressBook) {
+        return addressBookStorage.prepareSaveAddressBook(addressBook);
+    }
+
+    @Override
+    public void requestSaveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        if (maxSaveStalenessMillis <= 0) {
+            saveAddressBook(addressBook);
+            return;
+        }
+
+        synchronized (this) {
+            if (!isSaveScheduled && maxSaveStalenessMillis != SAVE_ON_FLUSH_ONLY) {
+                getSaveExecutor().schedule(this::savePendingAddressBookInBackground, maxSaveStalenessMillis,
+                        TimeUnit.MILLISECONDS);
+                isSaveScheduled = true;
+            }
+            pendingAddressBook = addressBook;
+        }
+    }
+
+    @Override
+    public void addSaveFailureListener(Consumer<IOException> listener) {
+        saveFailureListeners.add(listener);
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        ScheduledExecutorService executor;
+        synchronized (this) {
+            executor = saveExecutor;
+        }
+
+        if (executor == null) {
+            savePendingAddressBook();
+            return;
+        }
+
+        try {
+            // The executor has a single thread, so this runs after any save that is already in progress.
+            executor.submit(() -> {
+                savePendingAddressBook();
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while saving data file");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Saves the pending address book on the background writer, telling the save failure listeners if it fails.
+     */
+    private void savePendingAddressBookInBackground() {
+        synchronized (this) {
+            isSaveScheduled = false;
+        }
+
+        try {
+            savePendingAddressBook();
+        } catch (IOException e) {
+            logger.warning("Failed to save data file in the background : " + StringUtil.getDetails(e));
+            saveFailureListeners.forEach(listener -> listener.accept(e));
+        }
+    }
+
+    /**
+     * Saves the pending address book, if any.
+     * The address book is only locked while the data to save is captured, so that it is not changed halfway through
+     * the capture. The data is written after the lock is released.
+     * If the save fails, the address book is left pending, so that it is saved again by the next save or flush.
+     */
+    private void savePendingAddressBook() throws IOException {
+        // Saves are prepared and written one at a time, so that they are written in the order they were prepared
+        synchronized (writeLock) {
+            ReadOnlyAddressBook toSave;
+            synchronized (this) {
+                toSave = pendingAddressBook;
+                pendingAddressBook = null;
+            }
+            if (toSave == null) {
+                return;
+            }
+
+            try {
+                PreparedSave save;
+                synchronized (toSave) {
+                    save = prepareSaveAddressBook(toSave);
+                }
+                save.write();
+            } catch (IOException e) {
+                synchronized (this) {
+                    if (pendingAddressBook == null) {
+                        pendingAddressBook = toSave;
+                    }
+                }
+                throw e;
+            }
+        }
+    }
+
+    private synchronized ScheduledExecutorService getSaveExecutor() {
+        if (saveExecutor == null) {
+            saveExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "data-file-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return saveExecutor;
+    }
+
 }
@@ -26,6 +26,13 @@ public class AssignmentCard extends UiPart<HBox> {
      */
     public AssignmentCard(Assignment assignment) {
         super(FXML);
+        show(assignment);
+    }
+
+    /**
+     * Shows {@code assignment} on this card in place of the assignment shown before.
+     */
+    public void show(Assignment assignment) {
         assignmentName.setText(assignment.getAssignmentName());
         dueDate.setText("Due: " + assignment.getDueDate().toString());
 
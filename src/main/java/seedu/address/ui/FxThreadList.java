@@ -0,0 +1,89 @@
+package seedu.address.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.ListChange;
+
+/**
+ * A read-only copy of a list of the model that only changes on the JavaFX application thread, for showing a list
+ * that is changed by commands running on the model thread.
+ * The {@link ListChange}s of the model list are queued as they are made, and replayed on the JavaFX thread with
+ * {@code Platform.runLater}. Each replayed change only replaces its own range of items, and listeners are told of all
+ * the changes replayed together as a single change, so a list view showing the copy only updates the rows of the
+ * items that changed.
+ */
+class FxThreadList<E> extends ObservableListBase<E> {
+
+    private final List<E> items;
+    private final Queue<ListChange<? extends E>> pendingChanges = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isReplayScheduled = new AtomicBoolean();
+
+    /**
+     * Creates a {@code FxThreadList} with the current contents of {@code source}.
+     * The copy must then be told of every change to {@code source} through {@link #sourceChanged(List)}.
+     */
+    FxThreadList(List<? extends E> source) {
+        items = new ArrayList<>(source);
+    }
+
+    /**
+     * Queues {@code changes}, which have just been made to the source list in order, to be made to the copy on the
+     * JavaFX application thread.
+     */
+    void sourceChanged(List<? extends ListChange<? extends E>> changes) {
+        pendingChanges.addAll(changes);
+        if (Platform.isFxApplicationThread()) {
+            replayPendingChanges();
+        } else if (isReplayScheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::replayPendingChanges);
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Makes the queued changes to the copy, in the order they were made to the source list.
+     */
+    private void replayPendingChanges() {
+        // cleared first, so that changes queued from here on are replayed by a later call
+        isReplayScheduled.set(false);
+        beginChange();
+        ListChange<? extends E> change;
+        while ((change = pendingChanges.poll()) != null) {
+            int from = change.getFrom();
+            List<? extends E> removed = change.getRemoved();
+            List<? extends E> added = change.getAdded();
+            if (removed.size() == added.size()) {
+                for (int i = 0; i < added.size(); i++) {
+                    items.set(from + i, added.get(i));
+                }
+            } else {
+                items.subList(from, from + removed.size()).clear();
+                items.addAll(from, added);
+            }
+
+            if (removed.isEmpty()) {
+                nextAdd(from, change.getTo());
+            } else if (added.isEmpty()) {
+                nextRemove(from, removed);
+            } else {
+                nextReplace(from, change.getTo(), removed);
+            }
+        }
+        endChange();
+    }
+}
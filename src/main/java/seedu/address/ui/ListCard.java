@@ -1,20 +1,31 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.index.IndexSelection;
+import seedu.address.model.assignment.Assignment;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.student.Student;
 
 /**
  * A UI component that displays information of a {@code Lesson} or {@code Student}.
+ * A card is loaded for either lessons or students, and can be reused to show another lesson or student of the
+ * same kind without loading its FXML file again.
  */
 public class ListCard extends UiPart<Region> {
 
+    private static final String LESSON_FXML = "LessonListCard.fxml";
+    private static final String STUDENT_FXML = "StudentListCard.fxml";
+
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
      * As a consequence, UI elements' variable names cannot be set to such keywords
@@ -23,9 +34,6 @@ public class ListCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Lesson lesson;
-    public final Student student;
-
     @FXML
     private HBox cardPane;
     @FXML
@@ -33,6 +41,8 @@ public class ListCard extends UiPart<Region> {
     @FXML
     private Label id;
     @FXML
+    private Label recordId;
+    @FXML
     private Label phone;
     @FXML
     private Label address;
@@ -49,14 +59,50 @@ public class ListCard extends UiPart<Region> {
     @FXML
     private FlowPane assignments;
 
+    // Every assignment card created for this card, of which the first few are shown in assignments
+    private final List<AssignmentCard> assignmentCards = new ArrayList<>();
+
+    private ListCard(String fxmlFileName) {
+        super(fxmlFileName);
+    }
+
     /**
      * Creates a {@code LessonCard} with the given {@code Lesson} and index to display.
      */
     public ListCard(Lesson lesson, int displayedIndex) {
-        super("LessonListCard.fxml");
-        this.lesson = lesson;
-        this.student = null;
+        this(LESSON_FXML);
+        show(lesson, displayedIndex);
+    }
+
+    /**
+     * Creates a {@code StudentCard} with the given {@code Student} and index to display.
+     */
+    public ListCard(Student student, int displayedIndex) {
+        this(STUDENT_FXML);
+        show(student, displayedIndex);
+    }
+
+    /**
+     * Creates an empty card for showing lessons with {@link #show(Lesson, int)}.
+     */
+    public static ListCard createLessonCard() {
+        return new ListCard(LESSON_FXML);
+    }
+
+    /**
+     * Creates an empty card for showing students with {@link #show(Student, int)}.
+     */
+    public static ListCard createStudentCard() {
+        return new ListCard(STUDENT_FXML);
+    }
+
+    /**
+     * Shows {@code lesson} and the index to display on this card, which must have been created for lessons.
+     */
+    public void show(Lesson lesson, int displayedIndex) {
+        assert date != null : "Lessons can only be shown on a card created for lessons";
         id.setText(displayedIndex + ". ");
+        recordId.setText(IndexSelection.ID_PREFIX + lesson.getId());
         name.setText(lesson.getStudentName().fullName);
         date.setText(lesson.getDate().toString());
         time.setText(lesson.getTime().time);
@@ -64,23 +110,68 @@ public class ListCard extends UiPart<Region> {
     }
 
     /**
-     * Creates a {@code StudentCard} with the given {@code Student} and index to display.
+     * Shows {@code student} and the index to display on this card, which must have been created for students.
+     * The subject labels and assignment cards already on this card are reused for the new student.
      */
-    public ListCard(Student student, int displayedIndex) {
-        super("StudentListCard.fxml");
-        this.student = student;
-        this.lesson = null;
+    public void show(Student student, int displayedIndex) {
+        assert phone != null : "Students can only be shown on a card created for students";
         id.setText(displayedIndex + ". ");
+        recordId.setText(IndexSelection.ID_PREFIX + student.getId());
         name.setText(student.getName().fullName);
         phone.setText(student.getPhone().value);
         address.setText(student.getAddress().value);
         email.setText(student.getEmail().value);
-        student.getSubjects().stream()
-                .sorted(Comparator.comparing(subject -> subject.subjectName))
-                .forEach(subject -> subjects.getChildren().add(new Label(subject.subjectName)));
-        student.getAssignments().asUnmodifiableObservableList().stream()
+        showSubjects(student.getSubjects().stream()
+                .map(subject -> subject.subjectName)
+                .sorted()
+                .toList());
+        showAssignments(student.getAssignments().asUnmodifiableList().stream()
                 .sorted(Comparator.comparing(assignment -> assignment.dueDate))
-                .forEach(assignment -> assignments.getChildren()
-                        .add(new AssignmentCard(assignment).getRoot()));
+                .toList());
+    }
+
+    /**
+     * Shows one label for each of {@code subjectNames}, relabelling the labels already shown where possible.
+     */
+    private void showSubjects(List<String> subjectNames) {
+        ObservableList<Node> labels = subjects.getChildren();
+        for (int i = 0; i < subjectNames.size(); i++) {
+            if (i == labels.size()) {
+                labels.add(new Label(subjectNames.get(i)));
+                continue;
+            }
+
+            Label label = (Label) labels.get(i);
+            if (!label.getText().equals(subjectNames.get(i))) {
+                label.setText(subjectNames.get(i));
+            }
+        }
+        removeFrom(labels, subjectNames.size());
+    }
+
+    /**
+     * Shows one assignment card for each of {@code assignmentsToShow}, reusing the cards created earlier and only
+     * creating new cards when there are more assignments than ever shown on this card.
+     */
+    private void showAssignments(List<Assignment> assignmentsToShow) {
+        ObservableList<Node> shown = assignments.getChildren();
+        for (int i = 0; i < assignmentsToShow.size(); i++) {
+            if (i == assignmentCards.size()) {
+                assignmentCards.add(new AssignmentCard(assignmentsToShow.get(i)));
+            } else {
+                assignmentCards.get(i).show(assignmentsToShow.get(i));
+            }
+
+            if (i == shown.size()) {
+                shown.add(assignmentCards.get(i).getRoot());
+            }
+        }
+        removeFrom(shown, assignmentsToShow.size());
+    }
+
+    private static void removeFrom(ObservableList<Node> nodes, int fromIndex) {
+        if (fromIndex < nodes.size()) {
+            nodes.remove(fromIndex, nodes.size());
+        }
     }
 }
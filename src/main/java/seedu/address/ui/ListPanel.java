@@ -37,29 +37,31 @@ public class ListPanel extends UiPart<Region> {
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Lesson} or
      * {@code Student} using a {@code ListCard}.
+     * Each cell keeps the cards it has created, and reuses them when it is given another lesson or student.
      */
     class ListViewCell extends ListCell<Object> {
+        private ListCard lessonCard;
+        private ListCard studentCard;
+
         @Override
         protected void updateItem(Object obj, boolean empty) {
-            if (obj instanceof Lesson curr) {
-                super.updateItem(curr, empty);
-                if (empty || curr == null) {
-                    setGraphic(null);
-                    setText(null);
-                } else {
-                    setGraphic(new ListCard(curr, getIndex() + 1).getRoot());
+            super.updateItem(obj, empty);
+            if (empty || obj == null) {
+                setGraphic(null);
+                setText(null);
+            } else if (obj instanceof Lesson curr) {
+                if (lessonCard == null) {
+                    lessonCard = ListCard.createLessonCard();
                 }
+                lessonCard.show(curr, getIndex() + 1);
+                setGraphic(lessonCard.getRoot());
             } else if (obj instanceof Student curr) {
-                super.updateItem(curr, empty);
-                if (empty || curr == null) {
-                    setGraphic(null);
-                    setText(null);
-                } else {
-                    setGraphic(new ListCard(curr, getIndex() + 1).getRoot());
+                if (studentCard == null) {
+                    studentCard = ListCard.createStudentCard();
                 }
+                studentCard.show(curr, getIndex() + 1);
+                setGraphic(studentCard.getRoot());
             }
-
-
         }
     }
 
@@ -1,7 +1,9 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -14,8 +16,8 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Student;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -33,7 +35,8 @@ public class MainWindow extends UiPart<Stage> {
     // Independent Ui parts residing in this Ui container
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
-    private ListPanel listPanel;
+    private ListPanel studentListPanel;
+    private ListPanel lessonListPanel;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -111,11 +114,18 @@ public class MainWindow extends UiPart<Stage> {
      */
     void fillInnerParts() {
 
-        listPanel = new ListPanel(logic.getFilteredCurrList());
-        listPanelPlaceholder.getChildren().add(listPanel.getRoot());
+        FxThreadList<Student> students = new FxThreadList<>(logic.getFilteredStudentList());
+        logic.addFilteredStudentListListener(students::sourceChanged);
+        FxThreadList<Lesson> lessons = new FxThreadList<>(logic.getFilteredLessonList());
+        logic.addFilteredLessonListListener(lessons::sourceChanged);
+        studentListPanel = new ListPanel(students);
+        lessonListPanel = new ListPanel(lessons);
+        listPanelPlaceholder.getChildren().addAll(studentListPanel.getRoot(), lessonListPanel.getRoot());
+        handleUpdateList();
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.addSaveFailureListener(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -164,20 +174,29 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
     }
 
+    /**
+     * Shows the list panel of the list currently on display, keeping the other panel and its scroll position.
+     */
     private void handleUpdateList() {
-        listPanelPlaceholder.getChildren().clear();
-        listPanel = new ListPanel(logic.getFilteredCurrList());
-        listPanelPlaceholder.getChildren().add(listPanel.getRoot());
+        boolean isStudentView = logic.isStudentView();
+        studentListPanel.getRoot().setVisible(isStudentView);
+        lessonListPanel.getRoot().setVisible(!isStudentView);
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command on the model thread, and shows the result on the JavaFX application thread when it
+     * completes. The returned result is completed after the result is shown, on the JavaFX application thread.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return logic.executeAsync(commandText).whenCompleteAsync((commandResult, error) -> {
+            if (error != null) {
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(error.getMessage());
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -192,12 +211,6 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isUpdateList()) {
                 handleUpdateList();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        }, Platform::runLater);
     }
 }
@@ -0,0 +1,109 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class BatchRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+    private StorageManager storage;
+    private final StringWriter output = new StringWriter();
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("tutorTrack.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")), StorageManager.SAVE_ON_FLUSH_ONLY);
+    }
+
+    @Test
+    public void isRequested() {
+        assertTrue(BatchRunner.isRequested(new String[] {"--batch"}));
+        assertTrue(BatchRunner.isRequested(new String[] {"--save-every=5", "--batch=script.txt"}));
+        assertFalse(BatchRunner.isRequested(new String[] {}));
+        assertFalse(BatchRunner.isRequested(new String[] {"--config=config.json"}));
+    }
+
+    @Test
+    public void run_failedCommand_reportedWithLineNumberAndScriptContinues() throws Exception {
+        int failureCount = run("uicfhmowqewca\n\n" + ClearCommand.COMMAND_WORD + "\n", 0);
+
+        assertEquals(1, failureCount);
+        assertEquals(List.of(String.format(BatchRunner.MESSAGE_COMMAND_FAILED, 1, MESSAGE_UNKNOWN_COMMAND),
+                ClearCommand.MESSAGE_SUCCESS), outputLines());
+        assertEquals(new AddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void run_exitCommand_stopsScript() throws Exception {
+        int failureCount = run(ExitCommand.COMMAND_WORD + "\n" + ClearCommand.COMMAND_WORD + "\n", 0);
+
+        assertEquals(0, failureCount);
+        assertEquals(List.of(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), outputLines());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void run_endOfScript_dataFileSaved() throws Exception {
+        run(ClearCommand.COMMAND_WORD, 0);
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void run_saveEvery_dataFileSavedDuringScript() throws Exception {
+        List<Boolean> savedBeforeLine = new ArrayList<>();
+        BufferedReader script = new BufferedReader(new StringReader(ClearCommand.COMMAND_WORD + "\n\n")) {
+            @Override
+            public String readLine() throws IOException {
+                try {
+                    savedBeforeLine.add(storage.readAddressBook().isPresent());
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+                return super.readLine();
+            }
+        };
+
+        new BatchRunner(new LogicManager(model, storage), storage, 1).run(script, new PrintWriter(output));
+        assertEquals(List.of(false, true, true), savedBeforeLine);
+    }
+
+    private int run(String script, int saveEvery) throws IOException {
+        BatchRunner runner = new BatchRunner(new LogicManager(model, storage), storage, saveEvery);
+        return runner.run(new BufferedReader(new StringReader(script)), new PrintWriter(output));
+    }
+
+    private List<String> outputLines() {
+        return output.toString().lines().toList();
+    }
+}
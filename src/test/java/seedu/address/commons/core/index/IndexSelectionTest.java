@@ -0,0 +1,106 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexSelectionTest {
+
+    private static final List<String> LIST = List.of("a", "b", "c", "d", "e");
+
+    @Test
+    public void union_overlappingAndTouchingRanges_merged() {
+        IndexSelection selection = IndexSelection.of(Index.fromOneBased(5))
+                .union(IndexSelection.ofRange(Index.fromOneBased(1), Index.fromOneBased(2)))
+                .union(IndexSelection.ofRange(Index.fromOneBased(2), Index.fromOneBased(3)));
+
+        assertEquals("1-3,5", selection.toOneBasedString());
+        assertEquals(List.of("a", "b", "c", "e"), selection.select(LIST));
+    }
+
+    @Test
+    public void union_all_returnsAll() {
+        IndexSelection selection = IndexSelection.of(Index.fromOneBased(2)).union(IndexSelection.all());
+        assertTrue(selection.isAll());
+        assertEquals("all", selection.toOneBasedString());
+    }
+
+    @Test
+    public void union_ids_selectedAfterIndexes() {
+        IndexSelection selection = IndexSelection.ofId(12)
+                .union(IndexSelection.of(Index.fromOneBased(2)))
+                .union(IndexSelection.ofId(4));
+
+        assertEquals("2,#4,#12", selection.toOneBasedString());
+        assertTrue(selection.hasIndexes());
+        assertFalse(IndexSelection.ofId(4).hasIndexes());
+        assertEquals(List.of("b", "d", "l"),
+                selection.select(LIST, id -> Optional.of(String.valueOf((char) ('a' + id - 1)))));
+    }
+
+    @Test
+    public void select_recordSelectedTwice_returnedOnce() {
+        IndexSelection selection = IndexSelection.of(Index.fromOneBased(2)).union(IndexSelection.ofId(7));
+        assertEquals(List.of("b"), selection.select(LIST, id -> Optional.of(LIST.get(1))));
+    }
+
+    @Test
+    public void findFirstUnknownId() {
+        IndexSelection selection = IndexSelection.ofId(3).union(IndexSelection.ofId(8)).union(IndexSelection.ofId(9));
+        assertEquals(OptionalInt.of(8), selection.findFirstUnknownId(id -> id < 5));
+        assertEquals(OptionalInt.empty(), selection.findFirstUnknownId(id -> true));
+    }
+
+    @Test
+    public void findFirstOutside() {
+        IndexSelection selection = IndexSelection.of(Index.fromOneBased(2))
+                .union(IndexSelection.ofRange(Index.fromOneBased(4), Index.fromOneBased(9)));
+
+        assertEquals(Optional.empty(), selection.findFirstOutside(9));
+        assertEquals(Optional.of(Index.fromOneBased(6)), selection.findFirstOutside(5));
+        assertEquals(Optional.of(Index.fromOneBased(2)), selection.findFirstOutside(1));
+
+        // every index of any list is selected
+        assertEquals(Optional.empty(), IndexSelection.all().findFirstOutside(0));
+    }
+
+    @Test
+    public void select_all_returnsWholeList() {
+        assertEquals(LIST, IndexSelection.all().select(LIST));
+        assertEquals(List.of(), IndexSelection.all().select(List.of()));
+    }
+
+    @Test
+    public void equals() {
+        IndexSelection selection = IndexSelection.ofRange(Index.fromOneBased(1), Index.fromOneBased(2));
+
+        // same values -> returns true
+        assertTrue(selection.equals(IndexSelection.of(Index.fromOneBased(2))
+                .union(IndexSelection.of(Index.fromOneBased(1)))));
+
+        // same object -> returns true
+        assertTrue(selection.equals(selection));
+
+        // null -> returns false
+        assertFalse(selection.equals(null));
+
+        // different types -> returns false
+        assertFalse(selection.equals(5.0f));
+
+        // different indexes -> returns false
+        assertFalse(selection.equals(IndexSelection.of(Index.fromOneBased(1))));
+        assertFalse(selection.equals(IndexSelection.all()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        IndexSelection selection = IndexSelection.ofRange(Index.fromOneBased(1), Index.fromOneBased(2));
+        assertEquals(IndexSelection.class.getCanonicalName() + "{indexes=1-2}", selection.toString());
+    }
+}
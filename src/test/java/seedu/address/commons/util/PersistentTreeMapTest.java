@@ -0,0 +1,107 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentTreeMapTest {
+
+    private final PersistentTreeMap<Integer, String> empty = PersistentTreeMap.empty();
+
+    @Test
+    public void empty_noMappings() {
+        assertTrue(empty.isEmpty());
+        assertEquals(0, empty.size());
+        assertNull(empty.get(1));
+        assertFalse(empty.iterator().hasNext());
+    }
+
+    @Test
+    public void put_newKey_addedInKeyOrder() {
+        PersistentTreeMap<Integer, String> map = empty.put(3, "c").put(1, "a").put(2, "b");
+        assertEquals(3, map.size());
+        assertEquals("b", map.get(2));
+        assertEquals(List.of("a", "b", "c"), toList(map));
+        assertEquals("c", map.getAt(2));
+    }
+
+    @Test
+    public void put_existingKey_valueReplaced() {
+        PersistentTreeMap<Integer, String> map = empty.put(1, "a").put(1, "z");
+        assertEquals(1, map.size());
+        assertEquals("z", map.get(1));
+    }
+
+    @Test
+    public void put_nullKeyOrValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> empty.put(null, "a"));
+        assertThrows(NullPointerException.class, () -> empty.put(1, null));
+    }
+
+    @Test
+    public void putAndRemove_oldMapUnchanged() {
+        PersistentTreeMap<Integer, String> map = empty.put(1, "a").put(2, "b");
+        PersistentTreeMap<Integer, String> removed = map.remove(1);
+        PersistentTreeMap<Integer, String> added = map.put(3, "c");
+
+        assertEquals(List.of("a", "b"), toList(map));
+        assertEquals(List.of("b"), toList(removed));
+        assertEquals(List.of("a", "b", "c"), toList(added));
+    }
+
+    @Test
+    public void remove_missingKey_returnsSameMap() {
+        PersistentTreeMap<Integer, String> map = empty.put(1, "a");
+        assertSame(map, map.remove(2));
+    }
+
+    @Test
+    public void getAt_indexOutsideMap_throwsIndexOutOfBoundsException() {
+        PersistentTreeMap<Integer, String> map = empty.put(1, "a");
+        assertThrows(IndexOutOfBoundsException.class, () -> map.getAt(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> map.getAt(-1));
+    }
+
+    @Test
+    public void randomChanges_sameAsTreeMap() {
+        Random random = new Random(22);
+        TreeMap<Integer, String> expected = new TreeMap<>();
+        PersistentTreeMap<Integer, String> map = empty;
+        for (int i = 0; i < 5000; i++) {
+            int key = random.nextInt(500);
+            if (random.nextBoolean()) {
+                expected.put(key, "v" + i);
+                map = map.put(key, "v" + i);
+            } else {
+                expected.remove(key);
+                map = map.remove(key);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        assertEquals(new ArrayList<>(expected.values()), toList(map));
+        List<String> values = new ArrayList<>(expected.values());
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(values.get(i), map.getAt(i));
+        }
+        for (int key = 0; key < 500; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+
+    private static List<String> toList(PersistentTreeMap<Integer, String> map) {
+        List<String> values = new ArrayList<>();
+        map.forEach(values::add);
+        return values;
+    }
+}
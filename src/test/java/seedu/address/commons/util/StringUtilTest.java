@@ -1,6 +1,8 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -123,6 +125,31 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for capitalizeWords --------------------------------------
+
+    @Test
+    public void capitalizeWords_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.capitalizeWords(null));
+    }
+
+    @Test
+    public void capitalizeWords() {
+        // already capitalized -> same instance returned
+        String capitalized = "Math Exercise 1";
+        assertSame(capitalized, StringUtil.capitalizeWords(capitalized));
+
+        // mixed case words
+        assertEquals("Math Exercise 1", StringUtil.capitalizeWords("mATH exercise 1"));
+
+        // leading, trailing and repeated whitespace
+        assertEquals("Math Exercise 1", StringUtil.capitalizeWords(" \tMath   Exercise 1  "));
+        assertEquals("Math Exercise", StringUtil.capitalizeWords("Math Exercise   "));
+
+        // empty and blank strings
+        assertEquals("", StringUtil.capitalizeWords(""));
+        assertEquals("", StringUtil.capitalizeWords("   "));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -15,6 +15,8 @@ import static seedu.address.testutil.TypicalStudents.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -93,6 +95,49 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommandWithFailingStorage_success() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("ExceptionAddressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                            throws IOException {
+                        throw DUMMY_IO_EXCEPTION;
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        // list commands do not change the address book, so they are not saved
+        assertCommandSuccess(ListStudentsCommand.COMMAND_WORD, ListStudentsCommand.MESSAGE_EMPTY_LIST, model);
+    }
+
+    @Test
+    public void executeAsync_commandsInOrder_success() throws Exception {
+        CompletableFuture<CommandResult> add = logic.executeAsync(AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + SUBJECT_DESC_AMY);
+        CompletableFuture<CommandResult> delete = logic.executeAsync("delete_student 1");
+        CompletableFuture<CommandResult> list = logic.executeAsync(ListStudentsCommand.COMMAND_WORD);
+
+        assertEquals(String.format(AddStudentCommand.MESSAGE_SUCCESS, Messages.format(AMY)),
+                add.get().getFeedbackToUser());
+        delete.get();
+        assertEquals(ListStudentsCommand.MESSAGE_EMPTY_LIST, list.get().getFeedbackToUser());
+        logic.shutdown();
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completedExceptionally() {
+        CompletableFuture<CommandResult> result = logic.executeAsync("delete_student 1");
+        assertThrows(ExecutionException.class, () -> result.get());
+        Throwable cause = result.handle((unused, e) -> e).join();
+        assertEquals(CommandException.class, cause.getClass());
+        assertEquals(MESSAGE_EMPTY_STUDENT_LIST, cause.getMessage());
+        logic.shutdown();
+    }
+
     @Test
     public void getFilteredStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredStudentList().remove(0));
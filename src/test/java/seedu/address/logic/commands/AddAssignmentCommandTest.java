@@ -8,10 +8,13 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
 import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -34,7 +37,7 @@ public class AddAssignmentCommandTest {
     public void execute_duplicateAssignment_throwsCommandException() {
         Student student = model.getFilteredStudentList().get(INDEX_FIRST.getZeroBased());
         Assignment assignment = new Assignment("Assignment 1", new Date("10-04-2025"));
-        student.addAssignment(assignment);
+        model.setStudent(student, student.addAssignment(assignment));
         AddAssignmentCommand addAssignmentCommand = new AddAssignmentCommand(INDEX_FIRST, assignment);
 
         assertThrows(CommandException.class,
@@ -72,12 +75,49 @@ public class AddAssignmentCommandTest {
 
         CommandResult commandResult = addAssignmentCommand.execute(model);
 
-        assertTrue(studentToEdit.getAssignments().contains(assignment));
+        assertTrue(model.getFilteredStudentList().get(INDEX_FIRST.getZeroBased()).hasAssignment(assignment));
+        assertFalse(studentToEdit.getAssignments().contains(assignment));
         assertEquals(String.format(Messages.MESSAGE_ADD_ASSIGNMENT_SUCCESS,
                         studentToEdit.getName(), assignment),
                 commandResult.getFeedbackToUser());
     }
 
+    @Test
+    public void execute_allStudents_addsCopyToEachStudent() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<Student> students = List.copyOf(model.getFilteredStudentList());
+        Assignment assignment = new Assignment("Group Project", new Date("10-04-2025"));
+        AddAssignmentCommand addAssignmentCommand = new AddAssignmentCommand(IndexSelection.all(), assignment);
+
+        CommandResult commandResult = addAssignmentCommand.execute(model);
+
+        assertEquals(String.format(Messages.MESSAGE_ADD_ASSIGNMENT_SUCCESS,
+                        Messages.formatNames(students), assignment),
+                commandResult.getFeedbackToUser());
+        model.getFilteredStudentList().forEach(student -> assertTrue(student.hasAssignment(assignment)));
+
+        // marking the assignment of one student does not mark it for the others
+        new MarkAssignmentCommand(INDEX_FIRST, "Group Project").execute(model);
+        List<Student> updatedStudents = model.getFilteredStudentList();
+        assertTrue(updatedStudents.get(0).getAssignments().findByName("Group Project").get().isDone());
+        assertFalse(updatedStudents.get(1).getAssignments().findByName("Group Project").get().isDone());
+    }
+
+    @Test
+    public void execute_duplicateAssignmentInRange_noStudentChanged() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Assignment assignment = new Assignment("Group Project", new Date("10-04-2025"));
+        Student secondStudent = model.getFilteredStudentList().get(INDEX_SECOND.getZeroBased());
+        model.setStudent(secondStudent, secondStudent.addAssignment(assignment));
+        AddAssignmentCommand addAssignmentCommand =
+                new AddAssignmentCommand(IndexSelection.ofRange(INDEX_FIRST, INDEX_SECOND), assignment);
+
+        assertThrows(CommandException.class,
+                AddAssignmentCommand.MESSAGE_DUPLICATE_ASSIGNMENT, () ->
+                        addAssignmentCommand.execute(model));
+        assertFalse(model.getFilteredStudentList().get(INDEX_FIRST.getZeroBased()).hasAssignment(assignment));
+    }
+
     @Test
     public void equals() {
         Assignment assignment1 = new Assignment("Assignment 1", new Date("10-04-2025"));
@@ -110,7 +150,7 @@ public class AddAssignmentCommandTest {
     public void toStringMethod() {
         Assignment assignment = new Assignment("Assignment 1", new Date("10-04-2025"));
         AddAssignmentCommand addAssignmentCommand = new AddAssignmentCommand(INDEX_FIRST, assignment);
-        String expected = AddAssignmentCommand.class.getCanonicalName() + "{index=" + INDEX_FIRST
+        String expected = AddAssignmentCommand.class.getCanonicalName() + "{indexes=" + IndexSelection.of(INDEX_FIRST)
                 + ", assignment=" + assignment + ", dueDate=" + assignment.getDueDate() + "}";
         assertEquals(expected, addAssignmentCommand.toString());
     }
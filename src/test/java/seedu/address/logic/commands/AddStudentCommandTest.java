@@ -8,21 +8,29 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ListChange;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.assignment.StudentAssignment;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
 import seedu.address.model.subject.Subject;
 import seedu.address.testutil.StudentBuilder;
@@ -111,6 +119,12 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<StudentAssignment> getAssignmentsDue(LocalDate from, LocalDate to, boolean isPendingOnly,
+                                                         int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setGuiSettings(GuiSettings guiSettings) {
             throw new AssertionError("This method should not be called.");
@@ -151,11 +165,21 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deleteStudents(Collection<Student> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setStudent(Student target, Student editedStudent) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void replaceStudents(Map<Student, Student> editedStudents) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasStudentSubject(Student student, Subject subject) {
             throw new AssertionError("This method should not be called.");
@@ -181,22 +205,63 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deleteLessons(Collection<Lesson> lessons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setLesson(Lesson target, Lesson editedLesson) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public ObservableList<Student> getFilteredStudentList() {
+        public int deleteLessonsOf(Student student) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int deleteLessonsOf(Collection<Student> students) {
             throw new AssertionError("This method should not be called.");
         }
+
         @Override
-        public ObservableList<Lesson> getFilteredLessonList() {
+        public int renameStudentInLessons(Student student, Name newName) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public ObservableList<Lesson> getFilteredCurrList() {
+        public Optional<Student> getStudentById(int id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Lesson> getLessonById(int id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Student> getFilteredStudentList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addFilteredStudentListListener(Consumer<List<ListChange<Student>>> listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Lesson> getFilteredLessonList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addFilteredLessonListListener(Consumer<List<ListChange<Lesson>>> listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Lesson> getFilteredCurrList() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -209,6 +274,66 @@ public class AddStudentCommandTest {
         public void updateFilteredStudentList(Predicate<Student> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void updateFilteredStudentListByName(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rankFilteredStudentListByName(List<String> keywords, List<String> fuzzyKeywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setHistoryDepth(int historyDepth) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showStudentList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showLessonList() {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override
         public void updateFilteredLessonList(Predicate<Lesson> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -19,6 +19,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.assignment.Assignment;
+import seedu.address.model.assignment.UniqueAssignmentList;
 import seedu.address.model.student.Student;
 
 public class DeleteAssignmentCommandTest {
@@ -71,14 +72,14 @@ public class DeleteAssignmentCommandTest {
     public void execute_validAssignment_success() throws Exception {
         Student student = model.getFilteredStudentList().get(INDEX_FIRST.getZeroBased());
         Assignment assignmentToDelete = ASSIGNMENT1;
-        student.clearAssignments();
-        student.addAssignment(assignmentToDelete);
+        model.setStudent(student, student.withAssignments(new UniqueAssignmentList().withAdded(assignmentToDelete)));
 
         DeleteAssignmentCommand command = new DeleteAssignmentCommand(INDEX_FIRST,
                 assignmentToDelete.getAssignmentName());
         CommandResult result = command.execute(model);
 
-        assertFalse(student.getAssignments().contains(assignmentToDelete));
+        Student updatedStudent = model.getFilteredStudentList().get(INDEX_FIRST.getZeroBased());
+        assertFalse(updatedStudent.getAssignments().contains(assignmentToDelete));
         assertEquals(String.format(DeleteAssignmentCommand.MESSAGE_DELETE_ASSIGNMENT_SUCCESS,
                         Messages.format(student, assignmentToDelete)),
                 result.getFeedbackToUser());
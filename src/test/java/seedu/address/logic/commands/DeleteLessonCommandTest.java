@@ -10,9 +10,12 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
 import static seedu.address.testutil.TypicalLessons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -42,6 +45,22 @@ public class DeleteLessonCommandTest {
         assertCommandSuccess(deleteLessonCommand, model, expectedResult, expectedModel);
     }
 
+    @Test
+    public void execute_validRangeUnfilteredList_success() {
+        model.updateFilteredLessonList(Model.PREDICATE_SHOW_ALL_LESSONS);
+        List<Lesson> lessonsToDelete = List.copyOf(model.getFilteredLessonList().subList(0, 2));
+        DeleteLessonCommand deleteLessonCommand =
+                new DeleteLessonCommand(IndexSelection.ofRange(INDEX_FIRST, INDEX_SECOND));
+
+        String expectedMessage = String.format(DeleteLessonCommand.MESSAGE_DELETE_LESSONS_SUCCESS, 2,
+                Messages.format(lessonsToDelete.get(0)) + "\n" + Messages.format(lessonsToDelete.get(1)));
+        CommandResult expectedResult = new CommandResult(expectedMessage, true);
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deleteLessons(lessonsToDelete);
+
+        assertCommandSuccess(deleteLessonCommand, model, expectedResult, expectedModel);
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredLessonList().size() + 1);
@@ -64,6 +83,7 @@ public class DeleteLessonCommandTest {
         CommandResult expectedResult = new CommandResult(expectedMessage, true);
 
         Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        showLessonAtIndex(expectedModel, INDEX_FIRST);
         expectedModel.deleteLesson(lessonToDelete);
 
         assertCommandSuccess(deleteLessonCommand, model, expectedResult, expectedModel);
@@ -108,7 +128,8 @@ public class DeleteLessonCommandTest {
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         DeleteLessonCommand deleteLessonCommand = new DeleteLessonCommand(targetIndex);
-        String expected = DeleteLessonCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + "}";
+        String expected = DeleteLessonCommand.class.getCanonicalName()
+                + "{targetIndexes=" + IndexSelection.of(targetIndex) + "}";
         assertEquals(expected, deleteLessonCommand.toString());
     }
 
@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -63,8 +64,32 @@ public class DeleteStudentCommandTest {
         assertCommandSuccess(deleteStudentCommand, model, expectedResult, expectedModel);
 
         // Verify logging
-        assertTrue(testLogHandler.containsMessage("Executing DeleteStudentCommand for index: 1"));
-        assertTrue(testLogHandler.containsMessage("Successfully deleted student: " + studentToDelete.getName()));
+        assertTrue(testLogHandler.containsMessage("Executing DeleteStudentCommand for indexes: 1"));
+        assertTrue(testLogHandler.containsMessage("Successfully deleted 1 students"));
+    }
+
+    @Test
+    public void execute_validRangeUnfilteredList_success() {
+        List<Student> studentsToDelete = List.copyOf(model.getFilteredStudentList().subList(0, 2));
+        DeleteStudentCommand deleteStudentCommand =
+                new DeleteStudentCommand(IndexSelection.ofRange(INDEX_FIRST, INDEX_SECOND));
+
+        String expectedMessage = String.format(DeleteStudentCommand.MESSAGE_DELETE_STUDENTS_SUCCESS, 2,
+                Messages.formatNames(studentsToDelete));
+        CommandResult expectedResult = new CommandResult(expectedMessage, true);
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deleteStudents(studentsToDelete);
+
+        assertCommandSuccess(deleteStudentCommand, model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void execute_rangePastEndOfList_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredStudentList().size() + 1);
+        DeleteStudentCommand deleteStudentCommand =
+                new DeleteStudentCommand(IndexSelection.ofRange(INDEX_FIRST, outOfBoundIndex));
+
+        assertCommandFailure(deleteStudentCommand, model, Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
     }
 
     @Test
@@ -99,6 +124,32 @@ public class DeleteStudentCommandTest {
         assertCommandFailure(deleteStudentCommand, model, Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_idOfStudentNotDisplayed_success() {
+        showStudentAtIndex(model, INDEX_FIRST);
+        Student studentToDelete = model.getAddressBook().getStudentList().get(INDEX_SECOND.getZeroBased());
+        DeleteStudentCommand deleteStudentCommand =
+                new DeleteStudentCommand(IndexSelection.ofId(studentToDelete.getId()));
+
+        String expectedMessage = String.format(DeleteStudentCommand.MESSAGE_DELETE_STUDENT_SUCCESS,
+                Messages.format(studentToDelete));
+        CommandResult expectedResult = new CommandResult(expectedMessage, true);
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        showStudentAtIndex(expectedModel, INDEX_FIRST);
+        expectedModel.deleteStudent(studentToDelete);
+
+        assertCommandSuccess(deleteStudentCommand, model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void execute_unknownId_throwsCommandException() {
+        int unknownId = model.getAddressBook().getNextStudentId();
+        DeleteStudentCommand deleteStudentCommand = new DeleteStudentCommand(IndexSelection.ofId(unknownId));
+
+        assertCommandFailure(deleteStudentCommand, model,
+                String.format(Messages.MESSAGE_UNKNOWN_STUDENT_ID, unknownId));
+    }
+
     @Test
     public void execute_deleteStudentWithLessons_lessonsAlsoDeleted() throws Exception {
         // Add a lesson to the first student
@@ -157,13 +208,14 @@ public class DeleteStudentCommandTest {
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         DeleteStudentCommand deleteStudentCommand = new DeleteStudentCommand(targetIndex);
-        String expected = DeleteStudentCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + "}";
+        String expected = DeleteStudentCommand.class.getCanonicalName()
+                + "{targetIndexes=" + IndexSelection.of(targetIndex) + "}";
         assertEquals(expected, deleteStudentCommand.toString());
     }
 
     @Test
     public void constructor_nullIndex_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new DeleteStudentCommand(null));
+        assertThrows(NullPointerException.class, () -> new DeleteStudentCommand((Index) null));
     }
 
     @Test
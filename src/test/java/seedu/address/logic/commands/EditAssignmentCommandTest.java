@@ -10,6 +10,8 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
 import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -19,6 +21,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.assignment.Assignment;
+import seedu.address.model.assignment.UniqueAssignmentList;
 import seedu.address.model.datetimeutil.Date;
 import seedu.address.model.student.Student;
 import seedu.address.testutil.AssignmentBuilder;
@@ -35,10 +38,8 @@ public class EditAssignmentCommandTest {
 
     @Test
     public void execute_noFieldSpecified_throwsCommandException() {
-        Student studentToEdit = model.getFilteredStudentList().get(INDEX_FIRST.getZeroBased());
         Assignment assignmentToEdit = ASSIGNMENT1;
-        studentToEdit.clearAssignments();
-        studentToEdit.addAssignment(assignmentToEdit);
+        setFirstStudentAssignments(assignmentToEdit);
 
 
         EditAssignmentCommand.EditAssignmentDescriptor descriptor =
@@ -51,12 +52,9 @@ public class EditAssignmentCommandTest {
 
     @Test
     public void execute_duplicateAssignment_throwsCommandException() {
-        Student studentToEdit = model.getFilteredStudentList().get(INDEX_FIRST.getZeroBased());
         Assignment assignment1 = ASSIGNMENT1;
         Assignment assignment2 = ASSIGNMENT2;
-        studentToEdit.clearAssignments();
-        studentToEdit.addAssignment(assignment1);
-        studentToEdit.addAssignment(assignment2);
+        setFirstStudentAssignments(assignment1, assignment2);
 
 
         EditAssignmentCommand.EditAssignmentDescriptor descriptor =
@@ -80,10 +78,8 @@ public class EditAssignmentCommandTest {
 
     @Test
     public void execute_assignmentNotFound_throwsCommandException() {
-        Student studentToEdit = model.getFilteredStudentList().get(INDEX_FIRST.getZeroBased());
         Assignment assignmentToEdit = ASSIGNMENT1;
-        studentToEdit.clearAssignments();
-        studentToEdit.addAssignment(assignmentToEdit);
+        setFirstStudentAssignments(assignmentToEdit);
 
         EditAssignmentCommand.EditAssignmentDescriptor descriptor =
                 new EditAssignmentDescriptorBuilder().withNewAssignmentName("New Name").build();
@@ -182,4 +178,12 @@ public class EditAssignmentCommandTest {
                         .build();
         assertTrue(bothDescriptor.isAnyFieldEdited());
     }
+
+    /**
+     * Gives the first student in the filtered list of the model exactly {@code assignments}.
+     */
+    private void setFirstStudentAssignments(Assignment... assignments) {
+        Student student = model.getFilteredStudentList().get(INDEX_FIRST.getZeroBased());
+        model.setStudent(student, student.withAssignments(UniqueAssignmentList.of(List.of(assignments))));
+    }
 }
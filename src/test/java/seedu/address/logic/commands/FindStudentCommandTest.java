@@ -5,13 +5,17 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
 import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.DANIEL;
 import static seedu.address.testutil.TypicalStudents.ELLE;
 import static seedu.address.testutil.TypicalStudents.FIONA;
 import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -76,11 +80,22 @@ public class FindStudentCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredStudentList());
     }
 
+    @Test
+    public void execute_fuzzyKeywords_closestStudentsFirst() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 5);
+        CommandResult expectedResult = new CommandResult(expectedMessage, true);
+        FindStudentCommand command = new FindStudentCommand(preparePredicate("Kurz"), List.of("alcie", "meyer"));
+        expectedModel.rankFilteredStudentListByName(List.of("Kurz"), List.of("alcie", "meyer"));
+        assertCommandSuccess(command, model, expectedResult, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE, ALICE, BENSON, DANIEL), model.getFilteredStudentList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindStudentCommand findStudentCommand = new FindStudentCommand(predicate);
-        String expected = FindStudentCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindStudentCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", fuzzyKeywords=[]}";
         assertEquals(expected, findStudentCommand.toString());
     }
 
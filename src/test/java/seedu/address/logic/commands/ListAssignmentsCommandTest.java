@@ -0,0 +1,115 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.datetimeutil.Date;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.AssignmentBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class ListAssignmentsCommandTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2030, 1, 1);
+    private static final LocalDate SECOND_DAY = LocalDate.of(2030, 1, 2);
+
+    private static final String ESSAY_LINE = "\"Essay\" for Amy Bee, due 02 Jan 2030 (pending)";
+    private static final String WORKSHEET_LINE = "\"Worksheet\" for Amy Bee, due 01 Jan 2030 (pending)";
+    private static final String QUIZ_LINE = "\"Quiz\" for Bob Choo, due 03 Jan 2030 (done)";
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void equals() {
+        ListAssignmentsCommand command = new ListAssignmentsCommand(FIRST_DAY, SECOND_DAY, true, 5);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new ListAssignmentsCommand(FIRST_DAY, SECOND_DAY, true, 5)));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different values -> returns false
+        assertFalse(command.equals(new ListAssignmentsCommand(SECOND_DAY, SECOND_DAY, true, 5)));
+        assertFalse(command.equals(new ListAssignmentsCommand(FIRST_DAY, FIRST_DAY, true, 5)));
+        assertFalse(command.equals(new ListAssignmentsCommand(FIRST_DAY, SECOND_DAY, false, 5)));
+        assertFalse(command.equals(new ListAssignmentsCommand(FIRST_DAY, SECOND_DAY, true, 4)));
+    }
+
+    @Test
+    public void execute_allAssignments_listedByDueDate() {
+        String expectedMessage = String.format(ListAssignmentsCommand.MESSAGE_ASSIGNMENTS_LISTED, 3,
+                "1. " + WORKSHEET_LINE + "\n2. " + ESSAY_LINE + "\n3. " + QUIZ_LINE);
+        assertCommandSuccess(new ListAssignmentsCommand(LocalDate.MIN, LocalDate.MAX, false, Integer.MAX_VALUE),
+                model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_pendingWithLimit_listsNextDue() {
+        String expectedMessage = String.format(ListAssignmentsCommand.MESSAGE_ASSIGNMENTS_LISTED, 1,
+                "1. " + WORKSHEET_LINE);
+        assertCommandSuccess(new ListAssignmentsCommand(LocalDate.MIN, LocalDate.MAX, true, 1),
+                model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noMatchingAssignments_noAssignmentsFound() {
+        assertCommandSuccess(new ListAssignmentsCommand(SECOND_DAY.plusDays(1), LocalDate.MAX, true, 5),
+                model, ListAssignmentsCommand.MESSAGE_NO_ASSIGNMENTS_FOUND, expectedModel);
+    }
+
+    @Test
+    public void execute_afterMarkingAssignment_reflectsChange() throws Exception {
+        new MarkAssignmentCommand(INDEX_FIRST, "Worksheet").execute(model);
+        String expectedMessage = String.format(ListAssignmentsCommand.MESSAGE_ASSIGNMENTS_LISTED, 1,
+                "1. " + ESSAY_LINE);
+        CommandResult result = new ListAssignmentsCommand(LocalDate.MIN, LocalDate.MAX, true, 5).execute(model);
+        assertTrue(result.getFeedbackToUser().equals(expectedMessage));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ListAssignmentsCommand command = new ListAssignmentsCommand(FIRST_DAY, SECOND_DAY, true, 5);
+        String expected = ListAssignmentsCommand.class.getCanonicalName() + "{from=" + FIRST_DAY + ", to="
+                + SECOND_DAY + ", isPendingOnly=true, limit=5}";
+        assertTrue(command.toString().equals(expected));
+    }
+
+    private static AddressBook getAddressBook() {
+        Student amy = new StudentBuilder().withName("Amy Bee").withPhone("81111111").withEmail("amy@example.com")
+                .withAssignment(new AssignmentBuilder().withAssignmentName("Essay")
+                        .withDueDate(new Date("02-01-2030")).build())
+                .withAssignment(new AssignmentBuilder().withAssignmentName("Worksheet")
+                        .withDueDate(new Date("01-01-2030")).build())
+                .build();
+        Student bob = new StudentBuilder().withName("Bob Choo").withPhone("82222222").withEmail("bob@example.com")
+                .withAssignment(new AssignmentBuilder().withAssignmentName("Quiz")
+                        .withDueDate(new Date("03-01-2030")).withDoneStatus(true).build())
+                .build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addStudent(amy);
+        addressBook.addStudent(bob);
+        return addressBook;
+    }
+}
@@ -21,10 +21,12 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.assignment.UniqueAssignmentList;
 import seedu.address.model.student.Student;
 
 public class MarkAssignmentCommandTest {
@@ -80,6 +82,40 @@ public class MarkAssignmentCommandTest {
                         nonExistentAssignment, student.getName())));
     }
 
+    @Test
+    public void execute_range_marksAssignmentOfEachStudent() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        new AddAssignmentCommand(IndexSelection.all(), ASSIGNMENT1).execute(model);
+        List<Student> students = List.copyOf(model.getFilteredStudentList().subList(0, 2));
+        MarkAssignmentCommand markCommand = new MarkAssignmentCommand(
+                IndexSelection.ofRange(INDEX_FIRST, INDEX_SECOND), ASSIGNMENT1.getAssignmentName());
+
+        CommandResult commandResult = markCommand.execute(model);
+
+        assertEquals(String.format(MarkAssignmentCommand.MESSAGE_MARK_ASSIGNMENT_SUCCESS,
+                ASSIGNMENT1.getAssignmentName(), Messages.formatNames(students)), commandResult.getFeedbackToUser());
+        List<Student> updatedStudents = model.getFilteredStudentList();
+        assertTrue(isMarked(updatedStudents.get(0)));
+        assertTrue(isMarked(updatedStudents.get(1)));
+        assertFalse(isMarked(updatedStudents.get(2)));
+    }
+
+    @Test
+    public void execute_rangeWithMarkedAssignment_noAssignmentMarked() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        new AddAssignmentCommand(IndexSelection.all(), ASSIGNMENT1).execute(model);
+        new MarkAssignmentCommand(INDEX_SECOND, ASSIGNMENT1.getAssignmentName()).execute(model);
+        MarkAssignmentCommand markCommand = new MarkAssignmentCommand(
+                IndexSelection.ofRange(INDEX_FIRST, INDEX_SECOND), ASSIGNMENT1.getAssignmentName());
+
+        assertCommandFailure(markCommand, model, UniqueAssignmentList.MESSAGE_ALREADY_MARKED);
+        assertFalse(isMarked(model.getFilteredStudentList().get(INDEX_FIRST.getZeroBased())));
+    }
+
+    private static boolean isMarked(Student student) {
+        return student.getAssignments().findByName(ASSIGNMENT1.getAssignmentName()).get().isDone();
+    }
+
     @Test
     public void equals() {
         MarkAssignmentCommand markFirstCommand = new MarkAssignmentCommand(INDEX_FIRST,
@@ -113,7 +149,8 @@ public class MarkAssignmentCommandTest {
     @Test
     public void toStringMethod() {
         MarkAssignmentCommand markCommand = new MarkAssignmentCommand(INDEX_FIRST, ASSIGNMENT1.getAssignmentName());
-        String expected = MarkAssignmentCommand.class.getCanonicalName() + "{studentIndex=" + INDEX_FIRST
+        String expected = MarkAssignmentCommand.class.getCanonicalName()
+                + "{studentIndexes=" + IndexSelection.of(INDEX_FIRST)
                 + ", assignmentName=" + ASSIGNMENT1.getAssignmentName() + "}";
         assertEquals(expected, markCommand.toString());
     }
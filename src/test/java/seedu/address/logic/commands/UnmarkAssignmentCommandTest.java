@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -115,7 +116,8 @@ public class UnmarkAssignmentCommandTest {
     public void toStringMethod() {
         UnmarkAssignmentCommand unmarkCommand = new UnmarkAssignmentCommand(INDEX_FIRST,
                 ASSIGNMENT1.getAssignmentName());
-        String expected = UnmarkAssignmentCommand.class.getCanonicalName() + "{studentIndex=" + INDEX_FIRST
+        String expected = UnmarkAssignmentCommand.class.getCanonicalName()
+                + "{studentIndexes=" + IndexSelection.of(INDEX_FIRST)
                 + ", assignmentName=" + ASSIGNMENT1.getAssignmentName() + "}";
         assertEquals(expected, unmarkCommand.toString());
     }
@@ -4,9 +4,11 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.DeleteStudentCommand;
 
 /**
@@ -23,6 +25,8 @@ public class DeleteStudentCommandParserTest {
     @Test
     public void parse_validArgs_returnsDeleteStudentCommand() {
         assertParseSuccess(parser, "1", new DeleteStudentCommand(INDEX_FIRST));
+        assertParseSuccess(parser, "1-2", new DeleteStudentCommand(IndexSelection.ofRange(INDEX_FIRST, INDEX_SECOND)));
+        assertParseSuccess(parser, "all", new DeleteStudentCommand(IndexSelection.all()));
     }
 
     @Test
@@ -32,4 +32,17 @@ public class FindStudentCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindStudentCommand);
     }
 
+    @Test
+    public void parse_fuzzyKeywords_returnsFindStudentCommand() {
+        FindStudentCommand expectedFindStudentCommand = new FindStudentCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("Bob")), Arrays.asList("Alcie", "Carl"));
+        assertParseSuccess(parser, "Alcie~ Bob Carl~", expectedFindStudentCommand);
+    }
+
+    @Test
+    public void parse_fuzzySuffixOnly_throwsParseException() {
+        assertParseFailure(parser, "Alice ~", String
+                .format(MESSAGE_INVALID_COMMAND_FORMAT, FindStudentCommand.MESSAGE_USAGE));
+    }
+
 }
@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ListAssignmentsCommand;
+
+public class ListAssignmentsCommandParserTest {
+
+    private ListAssignmentsCommandParser parser = new ListAssignmentsCommandParser();
+
+    @Test
+    public void parse_emptyArg_listsAllAssignments() {
+        assertParseSuccess(parser, "  ",
+                new ListAssignmentsCommand(LocalDate.MIN, LocalDate.MAX, false, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        // dates in the past are allowed, to list overdue assignments
+        assertParseSuccess(parser, " pending from/1-1-2020 by/31-12-2030 top/5",
+                new ListAssignmentsCommand(LocalDate.of(2020, 1, 1), LocalDate.of(2030, 12, 31), true, 5));
+        assertParseSuccess(parser, " PENDING top/ 3 ",
+                new ListAssignmentsCommand(LocalDate.MIN, LocalDate.MAX, true, 3));
+        assertParseSuccess(parser, " by/31-12-2030",
+                new ListAssignmentsCommand(LocalDate.MIN, LocalDate.of(2030, 12, 31), false, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void parse_invalidPreamble_failure() {
+        assertParseFailure(parser, " done", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ListAssignmentsCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, " from/31-02-2030", ParserUtil.MESSAGE_INVALID_QUERY_DATE);
+        assertParseFailure(parser, " by/tomorrow", ParserUtil.MESSAGE_INVALID_QUERY_DATE);
+        assertParseFailure(parser, " top/0", ParserUtil.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " from/02-01-2030 by/01-01-2030",
+                ListAssignmentsCommandParser.MESSAGE_INVALID_DATE_RANGE);
+    }
+}
@@ -2,9 +2,12 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_ID;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_RANGE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -13,6 +16,8 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.student.Address;
 import seedu.address.model.student.Email;
@@ -56,6 +61,46 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexes_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("1,a"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("0-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("1,,2"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("2-"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_RANGE, () -> ParserUtil.parseIndexes("3-1"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_RANGE, () -> ParserUtil.parseIndexes("1-2-3"));
+    }
+
+    @Test
+    public void parseIndexes_validInput_success() throws Exception {
+        // single index
+        assertEquals(IndexSelection.of(INDEX_FIRST), ParserUtil.parseIndexes("1"));
+
+        // ranges and lists, with whitespaces
+        IndexSelection expected = IndexSelection.ofRange(INDEX_FIRST, INDEX_THIRD)
+                .union(IndexSelection.of(Index.fromOneBased(7)));
+        assertEquals(expected, ParserUtil.parseIndexes("1-3,7"));
+        assertEquals(expected, ParserUtil.parseIndexes("  7, 2 - 3 ,1 "));
+
+        // every index
+        assertEquals(IndexSelection.all(), ParserUtil.parseIndexes(" All "));
+
+        // IDs mixed with indexes
+        assertEquals(IndexSelection.of(INDEX_FIRST).union(IndexSelection.ofId(12)), ParserUtil.parseIndexes("#12, 1"));
+    }
+
+    @Test
+    public void parseIndexes_invalidId_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_ID, () -> ParserUtil.parseIndexes("1,#0"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_ID, () -> ParserUtil.parseIndexes("#"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_ID, () -> ParserUtil.parseIndexes("#1-3"));
+    }
+
+    @Test
+    public void parseId_validInput_success() throws Exception {
+        assertEquals(12, ParserUtil.parseId("  #12 "));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
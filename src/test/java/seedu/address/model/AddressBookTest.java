@@ -7,21 +7,28 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_SUBJECT_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BOB;
 import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.assignment.StudentAssignment;
+import seedu.address.model.datetimeutil.Date;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.student.Student;
 import seedu.address.model.student.exceptions.DuplicateStudentException;
+import seedu.address.testutil.AssignmentBuilder;
 import seedu.address.testutil.StudentBuilder;
+import seedu.address.testutil.TypicalLessons;
 
 public class AddressBookTest {
 
@@ -81,6 +88,188 @@ public class AddressBookTest {
         assertTrue(addressBook.hasStudent(editedAlice));
     }
 
+    @Test
+    public void getAssignmentsDue_afterStudentChanges_followsStudents() {
+        Assignment essay = new AssignmentBuilder().withAssignmentName("Essay").withDueDate(new Date("02-01-2030"))
+                .build();
+        Student amy = new StudentBuilder().withName("Amy").withAssignment(essay).build();
+        addressBook.addStudent(amy);
+        assertEquals(List.of(new StudentAssignment(amy, essay)), getAllAssignmentsDue());
+
+        Student renamedAmy = new StudentBuilder(amy).withName("Amy Tan").build();
+        addressBook.setStudent(amy, renamedAmy);
+        assertEquals(List.of(new StudentAssignment(renamedAmy, essay)), getAllAssignmentsDue());
+
+        addressBook.deleteAssignment(renamedAmy, essay.getAssignmentName());
+        assertEquals(List.of(), getAllAssignmentsDue());
+        assertFalse(addressBook.getStudentList().get(0).hasAssignment(essay));
+
+        addressBook.setStudents(List.of(addressBook.getStudentList().get(0).addAssignment(essay)));
+        assertEquals(1, getAllAssignmentsDue().size());
+        addressBook.removeStudent(renamedAmy);
+        assertEquals(List.of(), getAllAssignmentsDue());
+    }
+
+    @Test
+    public void getAssignmentsDue_studentsReplacedThenRolledBack_followsStudents() {
+        Assignment report = new AssignmentBuilder().withAssignmentName("Report").withDueDate(new Date("01-01-2030"))
+                .build();
+        addressBook.addStudent(new StudentBuilder(ALICE).withAssignment(report).build());
+        List<StudentAssignment> originalAssignmentsDue = getAllAssignmentsDue();
+        assertEquals(1, originalAssignmentsDue.size());
+        Assignment essay = new AssignmentBuilder().withAssignmentName("Essay").withDueDate(new Date("02-01-2030"))
+                .build();
+        Student amy = new StudentBuilder().withName("Amy").withAssignment(essay).build();
+
+        addressBook.beginTransaction();
+        addressBook.setStudents(List.of(amy));
+        assertEquals(List.of(new StudentAssignment(addressBook.getStudentList().get(0), essay)),
+                getAllAssignmentsDue());
+        addressBook.rollbackTransaction();
+        assertEquals(originalAssignmentsDue, getAllAssignmentsDue());
+    }
+
+    @Test
+    public void commitTransaction_changesMade_listenersToldOnce() {
+        List<List<ListChange<Student>>> told = new ArrayList<>();
+        addressBook.addStudentListener(told::add);
+        Student editedAlice = new StudentBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        addressBook.beginTransaction();
+        addressBook.addStudent(ALICE);
+        addressBook.setStudent(ALICE, editedAlice);
+        assertEquals(List.of(), told);
+        assertTrue(addressBook.commitTransaction());
+        assertEquals(List.of(List.of(ListChange.added(0, ALICE), ListChange.replaced(0, ALICE, editedAlice))), told);
+
+        addressBook.beginTransaction();
+        assertFalse(addressBook.commitTransaction());
+        assertEquals(1, told.size());
+    }
+
+    @Test
+    public void rollbackTransaction_changesMade_restoresAddressBook() {
+        addressBook.resetData(TypicalLessons.getTypicalAddressBook());
+        AddressBook original = new AddressBook(addressBook);
+        List<StudentAssignment> originalAssignmentsDue = getAllAssignmentsDue();
+        Student firstStudent = addressBook.getStudentList().get(0);
+        List<List<ListChange<Student>>> told = new ArrayList<>();
+        addressBook.addStudentListener(told::add);
+
+        addressBook.beginTransaction();
+        addressBook.removeLessonsOf(firstStudent);
+        addressBook.removeStudent(firstStudent);
+        addressBook.addStudent(new StudentBuilder().withName("Amy").build());
+        addressBook.setLessons(List.of());
+        addressBook.rollbackTransaction();
+
+        assertEquals(original, addressBook);
+        assertEquals(originalAssignmentsDue, getAllAssignmentsDue());
+        assertTrue(addressBook.hasStudent(firstStudent));
+        assertEquals(List.of(), told);
+    }
+
+    @Test
+    public void undoAndRedo_committedTransactions_stepThroughHistory() {
+        addressBook.resetData(TypicalLessons.getTypicalAddressBook());
+        AddressBook original = new AddressBook(addressBook);
+        List<StudentAssignment> originalAssignmentsDue = getAllAssignmentsDue();
+        Student firstStudent = addressBook.getStudentList().get(0);
+        assertFalse(addressBook.canUndo());
+
+        addressBook.beginTransaction();
+        addressBook.removeLessonsOf(firstStudent);
+        addressBook.removeStudent(firstStudent);
+        addressBook.commitTransaction();
+        AddressBook afterRemoval = new AddressBook(addressBook);
+        addressBook.beginTransaction();
+        addressBook.addStudent(new StudentBuilder().withName("Amy").build());
+        addressBook.commitTransaction();
+        AddressBook afterAddition = new AddressBook(addressBook);
+
+        addressBook.undo();
+        assertEquals(afterRemoval, addressBook);
+        addressBook.undo();
+        assertEquals(original, addressBook);
+        assertFalse(addressBook.canUndo());
+        assertEquals(originalAssignmentsDue, getAllAssignmentsDue());
+
+        addressBook.redo();
+        assertEquals(afterRemoval, addressBook);
+        addressBook.redo();
+        assertEquals(afterAddition, addressBook);
+        assertFalse(addressBook.canRedo());
+        assertTrue(addressBook.canUndo());
+    }
+
+    @Test
+    public void undo_listenersToldOfUndoingChanges() {
+        List<List<ListChange<Student>>> told = new ArrayList<>();
+        addressBook.addStudentListener(told::add);
+        addressBook.beginTransaction();
+        addressBook.addStudent(ALICE);
+        addressBook.commitTransaction();
+        Student storedAlice = addressBook.getStudentList().get(0);
+
+        addressBook.undo();
+        assertEquals(List.of(ListChange.removed(0, storedAlice)), told.get(1));
+    }
+
+    @Test
+    public void commitTransaction_afterUndo_clearsRedo() {
+        addressBook.beginTransaction();
+        addressBook.addStudent(ALICE);
+        addressBook.commitTransaction();
+        addressBook.undo();
+        assertTrue(addressBook.canRedo());
+
+        addressBook.beginTransaction();
+        addressBook.addStudent(ALICE);
+        addressBook.commitTransaction();
+        assertFalse(addressBook.canRedo());
+    }
+
+    @Test
+    public void rollbackTransaction_undoInTransaction_keepsHistory() {
+        addressBook.beginTransaction();
+        addressBook.addStudent(ALICE);
+        addressBook.commitTransaction();
+
+        addressBook.beginTransaction();
+        addressBook.undo();
+        addressBook.rollbackTransaction();
+        assertTrue(addressBook.hasStudent(ALICE));
+        assertTrue(addressBook.canUndo());
+        assertFalse(addressBook.canRedo());
+    }
+
+    @Test
+    public void setHistoryDepth_olderTransactionsForgotten() {
+        addressBook.setHistoryDepth(1);
+        for (Student student : List.of(ALICE, BOB)) {
+            addressBook.beginTransaction();
+            addressBook.addStudent(student);
+            addressBook.commitTransaction();
+        }
+
+        addressBook.undo();
+        assertFalse(addressBook.canUndo());
+        assertEquals(1, addressBook.getStudentList().size());
+
+        addressBook.setHistoryDepth(0);
+        assertFalse(addressBook.canRedo());
+    }
+
+    @Test
+    public void undo_changeOutsideTransaction_historyCleared() {
+        addressBook.beginTransaction();
+        addressBook.addStudent(ALICE);
+        addressBook.commitTransaction();
+
+        addressBook.removeStudent(ALICE);
+        assertFalse(addressBook.canUndo());
+    }
+
     @Test
     public void getStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getStudentList().remove(0));
@@ -96,23 +285,57 @@ public class AddressBookTest {
     /**
      * A stub ReadOnlyAddressBook whose students list can violate interface constraints.
      */
+    private List<StudentAssignment> getAllAssignmentsDue() {
+        return addressBook.getAssignmentsDue(LocalDate.MIN, LocalDate.MAX, false, Integer.MAX_VALUE);
+    }
+
     private static class AddressBookStub implements ReadOnlyAddressBook {
-        private final ObservableList<Student> students = FXCollections.observableArrayList();
-        private final ObservableList<Lesson> lessons = FXCollections.observableArrayList();
+        private final List<Student> students = new ArrayList<>();
+        private final List<Lesson> lessons = new ArrayList<>();
 
         AddressBookStub(Collection<Student> students) {
-            this.students.setAll(students);
+            this.students.addAll(students);
         }
 
         @Override
-        public ObservableList<Student> getStudentList() {
+        public List<Student> getStudentList() {
             return students;
         }
 
         @Override
-        public ObservableList<Lesson> getLessonList() {
+        public List<Lesson> getLessonList() {
             return lessons;
         }
+
+        @Override
+        public int getNextStudentId() {
+            return Student.NO_ID + 1;
+        }
+
+        @Override
+        public int getNextLessonId() {
+            return Student.NO_ID + 1;
+        }
+
+        @Override
+        public void addStudentListener(Consumer<List<ListChange<Student>>> listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removeStudentListener(Consumer<List<ListChange<Student>>> listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addLessonListener(Consumer<List<ListChange<Lesson>>> listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removeLessonListener(Consumer<List<ListChange<Lesson>>> listener) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
 }
@@ -0,0 +1,190 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FilteredViewTest {
+
+    private static final Predicate<String> STARTS_WITH_A = item -> item.startsWith("a");
+
+    private final List<String> source = new ArrayList<>();
+    private FilteredView<String> view;
+
+    @BeforeEach
+    public void setUp() {
+        source.addAll(List.of("a1", "b1", "a2", "b2"));
+        view = new FilteredView<>(source);
+    }
+
+    @Test
+    public void constructor_showsAllItems() {
+        assertEquals(source, view);
+    }
+
+    @Test
+    public void setFilter_predicate_showsMatchingItemsInSourceOrder() {
+        view.setFilter(STARTS_WITH_A, null);
+        assertEquals(List.of("a1", "a2"), view);
+    }
+
+    @Test
+    public void setFilter_comparator_showsMatchingItemsInOrder() {
+        source.add("a");
+        view.setFilter(STARTS_WITH_A, Comparator.comparing(String::length).reversed());
+        assertEquals(List.of("a1", "a2", "a"), view);
+    }
+
+    @Test
+    public void sourceChanged_added_showsMatchingItemsInSourceOrder() {
+        view.setFilter(STARTS_WITH_A, null);
+
+        change(new ListChange<>(0, List.of(), List.of("a0")));
+        change(ListChange.added(2, "b0"));
+        change(ListChange.added(3, "a9"));
+        change(ListChange.added(source.size(), "a3"));
+
+        assertEquals(List.of("a0", "a1", "a9", "a2", "a3"), view);
+    }
+
+    @Test
+    public void sourceChanged_removed_hidesRemovedItems() {
+        view.setFilter(STARTS_WITH_A, null);
+
+        change(ListChange.removed(1, "b1"));
+        assertEquals(List.of("a1", "a2"), view);
+        change(ListChange.removed(0, "a1"));
+        assertEquals(List.of("a2"), view);
+
+        // indexes after the removed items are shifted
+        change(ListChange.added(1, "a3"));
+        assertEquals(List.of("a2", "a3"), view);
+    }
+
+    @Test
+    public void sourceChanged_replaced_testsReplacedItems() {
+        view.setFilter(STARTS_WITH_A, null);
+
+        change(ListChange.replaced(0, "a1", "b9"));
+        change(ListChange.replaced(1, "b1", "a9"));
+        assertEquals(List.of("a9", "a2"), view);
+        change(ListChange.replaced(2, "a2", "a8"));
+        assertEquals(List.of("a9", "a8"), view);
+    }
+
+    @Test
+    public void sourceChanged_replacedAtSamePosition_listenersToldOfReplacement() {
+        view.setFilter(STARTS_WITH_A, Comparator.comparing(String::length));
+        List<List<ListChange<String>>> notifications = new ArrayList<>();
+        view.addListener(notifications::add);
+
+        change(ListChange.replaced(2, "a2", "a3"));
+        assertEquals(List.of("a1", "a3"), view);
+        assertEquals(List.of(List.of(ListChange.replaced(1, "a2", "a3"))), notifications);
+
+        // an item that moves is removed and added again
+        notifications.clear();
+        change(ListChange.replaced(0, "a1", "a111"));
+        assertEquals(List.of("a3", "a111"), view);
+        assertEquals(List.of(List.of(ListChange.removed(0, "a1"), ListChange.added(1, "a111"))), notifications);
+    }
+
+    @Test
+    public void sourceChanged_comparator_keepsOrder() {
+        view.setFilter(STARTS_WITH_A, Comparator.comparing(String::length));
+
+        change(ListChange.added(0, "a"));
+        change(ListChange.added(source.size(), "a00"));
+        change(ListChange.added(source.size(), "a3"));
+        assertEquals(List.of("a", "a1", "a2", "a3", "a00"), view);
+
+        change(ListChange.replaced(1, "a1", "a111"));
+        change(ListChange.removed(0, "a"));
+        assertEquals(List.of("a2", "a3", "a00", "a111"), view);
+    }
+
+    @Test
+    public void sourceChanged_wholeListReplaced_showsMatchingItems() {
+        view.setFilter(STARTS_WITH_A, null);
+        change(new ListChange<>(0, List.copyOf(source), List.of("b5", "a5")));
+        assertEquals(List.of("a5"), view);
+    }
+
+    @Test
+    public void sourceChanged_testsChangedItemsOnly() {
+        AtomicInteger tests = new AtomicInteger();
+        view.setFilter(item -> {
+            tests.incrementAndGet();
+            return STARTS_WITH_A.test(item);
+        }, null);
+        tests.set(0);
+
+        change(ListChange.added(source.size(), "a3"));
+        change(ListChange.replaced(1, "b1", "a9"));
+        change(ListChange.removed(0, "a1"));
+        assertEquals(2, tests.get());
+    }
+
+    @Test
+    public void sourceChanged_batch_singleChangeToListeners() {
+        view.setFilter(STARTS_WITH_A, null);
+        AtomicInteger notifications = new AtomicInteger();
+        view.addListener(changes -> notifications.incrementAndGet());
+
+        List<ListChange<String>> changes = List.of(ListChange.added(4, "a3"), ListChange.removed(0, "a1"),
+                ListChange.replaced(0, "b1", "a9"));
+        source.addAll(List.of("a9", "a2", "b2", "a3"));
+        source.subList(0, 4).clear();
+        view.sourceChanged(changes);
+
+        assertEquals(List.of("a9", "a2", "a3"), view);
+        assertEquals(1, notifications.get());
+    }
+
+    @Test
+    public void sourceChanged_listenersToldChangesToView() {
+        view.setFilter(STARTS_WITH_A, Comparator.comparing(String::length));
+        List<String> copy = new ArrayList<>(view);
+        view.addListener(changes -> changes.forEach(change -> {
+            copy.subList(change.getFrom(), change.getFrom() + change.getRemoved().size()).clear();
+            copy.addAll(change.getFrom(), change.getAdded());
+        }));
+
+        change(ListChange.added(0, "a"));
+        change(ListChange.replaced(2, "a1", "a111"));
+        change(ListChange.removed(1, "b1"));
+        change(new ListChange<>(1, List.of("a111", "a2"), List.of("a00", "b3", "a4")));
+        assertEquals(view, copy);
+
+        view.setFilter(item -> true, null);
+        assertEquals(view, copy);
+    }
+
+    @Test
+    public void sourceChanged_batchReplacingWholeList_showsLatestItems() {
+        view.setFilter(STARTS_WITH_A, null);
+        List<ListChange<String>> changes = List.of(new ListChange<>(0, List.copyOf(source), List.of("a5")),
+                ListChange.added(1, "a6"));
+        source.clear();
+        source.addAll(List.of("a5", "a6"));
+        view.sourceChanged(changes);
+
+        assertEquals(List.of("a5", "a6"), view);
+    }
+
+    /**
+     * Makes {@code change} to the source list and tells the view.
+     */
+    private void change(ListChange<String> change) {
+        source.subList(change.getFrom(), change.getFrom() + change.getRemoved().size()).clear();
+        source.addAll(change.getFrom(), change.getAdded());
+        view.sourceChanged(List.of(change));
+    }
+}
@@ -8,16 +8,22 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.ALICE;
 import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.DANIEL;
+import static seedu.address.testutil.TypicalStudents.HOON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.student.NameContainsKeywordsPredicate;
+import seedu.address.model.student.Student;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.StudentBuilder;
 
 public class ModelManagerTest {
 
@@ -103,6 +109,73 @@ public class ModelManagerTest {
         assertEquals(modelManager.getFilteredStudentList(), modelManager.getFilteredCurrList());
     }
 
+    @Test
+    public void addStudent_filteredList_keepsFilter() {
+        modelManager.addStudent(ALICE);
+        modelManager.updateFilteredStudentListByName(List.of("Alice"));
+        modelManager.updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
+
+        modelManager.addStudent(BENSON);
+        assertEquals(List.of(ALICE), modelManager.getFilteredStudentList());
+        assertTrue(modelManager.isStudentView());
+    }
+
+    @Test
+    public void setStudent_rankedList_ranksEditedStudents() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        modelManager.addStudent(CARL);
+        modelManager.rankFilteredStudentListByName(List.of("meier"), List.of("alcie"));
+        assertEquals(List.of(BENSON, ALICE), modelManager.getFilteredStudentList());
+
+        Student editedAlice = new StudentBuilder(ALICE).withPhone("99999999").build();
+        modelManager.setStudent(ALICE, editedAlice);
+        assertEquals(List.of(BENSON, editedAlice), modelManager.getFilteredStudentList());
+
+        Student renamedCarl = new StudentBuilder(CARL).withName("Carl Meier").build();
+        modelManager.setStudent(CARL, renamedCarl);
+        assertEquals(List.of(BENSON, renamedCarl, editedAlice), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void commitTransaction_rankedListWithAddAndRemove_ranksAddedStudents() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        modelManager.addStudent(CARL);
+        modelManager.rankFilteredStudentListByName(List.of("meier"), List.of("alcie"));
+
+        // DANIEL is ranked against ALICE, which is still shown until her removal is applied
+        modelManager.beginTransaction();
+        modelManager.addStudent(DANIEL);
+        modelManager.deleteStudent(ALICE);
+        modelManager.addStudent(HOON);
+        assertTrue(modelManager.commitTransaction());
+        assertEquals(List.of(BENSON, DANIEL, HOON), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void commitTransaction_filteredListsUpdatedOnCommit() {
+        modelManager.beginTransaction();
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        assertEquals(List.of(), modelManager.getFilteredStudentList());
+
+        assertTrue(modelManager.commitTransaction());
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void rollbackTransaction_restoresAddressBook() {
+        modelManager.addStudent(ALICE);
+
+        modelManager.beginTransaction();
+        modelManager.deleteStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        modelManager.rollbackTransaction();
+
+        assertEquals(new AddressBookBuilder().withStudent(ALICE).build(), modelManager.getAddressBook());
+        assertEquals(List.of(ALICE), modelManager.getFilteredStudentList());
+    }
 
     @Test
     public void equals() {
@@ -132,6 +205,11 @@ public class ModelManagerTest {
         modelManager.updateFilteredStudentList(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
         assertFalse(modelManager.equals(new ModelManager(addressBook, userPrefs)));
 
+        // same filteredList, filtered through the name index -> returns true
+        ModelManager modelManagerFilteredByName = new ModelManager(addressBook, userPrefs);
+        modelManagerFilteredByName.updateFilteredStudentListByName(Arrays.asList(keywords));
+        assertTrue(modelManager.equals(modelManagerFilteredByName));
+
         // resets modelManager to initial state for upcoming tests
         modelManager.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
 
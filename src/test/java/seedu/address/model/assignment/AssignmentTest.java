@@ -2,6 +2,7 @@ package seedu.address.model.assignment;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -88,18 +89,28 @@ public class AssignmentTest {
     }
 
     @Test
-    public void setDone() {
+    public void hashCode_sameNameDifferentDueDate_sameHashCode() {
         Assignment assignment = new Assignment("Some Assignment", new Date(FUTURE_DATE_1));
-        assignment.setDone();
-        assertTrue(assignment.isDone());
+        Assignment otherDueDate = new Assignment("some assignment", new Date("10-04-2025"), true);
+        assertEquals(assignment, otherDueDate);
+        assertEquals(assignment.hashCode(), otherDueDate.hashCode());
     }
 
     @Test
-    public void setUndone() {
-        Assignment assignment = new Assignment("Some Assignment", new Date("10-04-2025"));
-        assignment.setDone();
-        assignment.setUndone();
+    public void withDone() {
+        Assignment assignment = new Assignment("Some Assignment", new Date(FUTURE_DATE_1));
+        Assignment done = assignment.withDone(true);
+        assertTrue(done.isDone());
         assertFalse(assignment.isDone());
+        assertEquals(assignment.getDueDate(), done.getDueDate());
+        assertSame(done, done.withDone(true));
+    }
+
+    @Test
+    public void withDone_false_notDone() {
+        Assignment assignment = new Assignment("Some Assignment", new Date("10-04-2025"), true);
+        assertFalse(assignment.withDone(false).isDone());
+        assertTrue(assignment.isDone());
     }
 
     @Test
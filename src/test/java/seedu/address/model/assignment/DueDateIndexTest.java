@@ -0,0 +1,109 @@
+package seedu.address.model.assignment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.datetimeutil.Date;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.AssignmentBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class DueDateIndexTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2030, 1, 1);
+    private static final LocalDate SECOND_DAY = LocalDate.of(2030, 1, 2);
+    private static final LocalDate THIRD_DAY = LocalDate.of(2030, 1, 3);
+
+    private final DueDateIndex index = new DueDateIndex();
+
+    private final Assignment essay = assignment("Essay", "02-01-2030", false);
+    private final Assignment worksheet = assignment("Worksheet", "01-01-2030", true);
+    private final Assignment quiz = assignment("Quiz", "03-01-2030", false);
+    private final Assignment anotherEssay = assignment("Essay", "02-01-2030", false);
+
+    private final Student amy = new StudentBuilder().withName("Amy").withPhone("81111111")
+            .withEmail("amy@example.com").withAssignment(essay).withAssignment(worksheet).build().withId(1);
+    private final Student bob = new StudentBuilder().withName("Bob").withPhone("82222222")
+            .withEmail("bob@example.com").withAssignment(quiz).withAssignment(anotherEssay).build().withId(2);
+
+    @Test
+    public void add_nullStudent_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void getAssignmentsDue_allAssignments_orderedByDueDateThenNameThenStudent() {
+        index.setStudents(List.of(bob, amy));
+        assertEquals(List.of(entry(amy, worksheet), entry(amy, essay), entry(bob, anotherEssay), entry(bob, quiz)),
+                getAll(false, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void getAssignmentsDue_pendingOnly_excludesDoneAssignments() {
+        index.setStudents(List.of(amy, bob));
+        assertEquals(List.of(entry(amy, essay), entry(bob, anotherEssay), entry(bob, quiz)),
+                getAll(true, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void getAssignmentsDue_dateRangeAndLimit_returnsFirstInRange() {
+        index.setStudents(List.of(amy, bob));
+        assertEquals(List.of(entry(amy, essay), entry(bob, anotherEssay), entry(bob, quiz)),
+                index.getAssignmentsDue(SECOND_DAY, THIRD_DAY, false, Integer.MAX_VALUE));
+        assertEquals(List.of(entry(amy, worksheet), entry(amy, essay)),
+                index.getAssignmentsDue(FIRST_DAY, SECOND_DAY, false, 2));
+        assertEquals(List.of(), index.getAssignmentsDue(THIRD_DAY, FIRST_DAY, false, Integer.MAX_VALUE));
+        assertEquals(List.of(), index.getAssignmentsDue(LocalDate.MIN, LocalDate.MAX, false, 0));
+    }
+
+    @Test
+    public void remove_studentThenAddUpdatedStudent_indexFollowsStudent() throws Exception {
+        index.setStudents(List.of(amy, bob));
+
+        Student updatedAmy = amy.markAssignment(essay.getAssignmentName());
+        index.remove(amy.getId());
+        index.add(updatedAmy);
+
+        assertEquals(List.of(entry(bob, anotherEssay), entry(bob, quiz)), getAll(true, Integer.MAX_VALUE));
+        assertEquals(List.of(entry(updatedAmy, worksheet), entry(updatedAmy, essay), entry(bob, anotherEssay),
+                entry(bob, quiz)), getAll(false, Integer.MAX_VALUE));
+
+        index.remove(bob.getId());
+        assertEquals(List.of(entry(updatedAmy, worksheet), entry(updatedAmy, essay)),
+                getAll(false, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void remove_renamedStudent_removesEntriesAddedUnderOldName() {
+        index.setStudents(List.of(amy, bob));
+
+        // a student that takes Amy's name is added before the renamed Amy is removed
+        Student renamedAmy = new StudentBuilder(amy).withName("Amelia").build().withId(amy.getId());
+        Student newAmy = new StudentBuilder().withName("Amy").withPhone("83333333").withEmail("new.amy@example.com")
+                .withAssignment(quiz).build().withId(3);
+        index.add(newAmy);
+        index.remove(renamedAmy.getId());
+        index.add(renamedAmy);
+
+        assertEquals(List.of(entry(renamedAmy, worksheet), entry(renamedAmy, essay), entry(bob, anotherEssay),
+                entry(newAmy, quiz), entry(bob, quiz)), getAll(false, Integer.MAX_VALUE));
+    }
+
+    private List<StudentAssignment> getAll(boolean isPendingOnly, int limit) {
+        return index.getAssignmentsDue(LocalDate.MIN, LocalDate.MAX, isPendingOnly, limit);
+    }
+
+    private static StudentAssignment entry(Student student, Assignment assignment) {
+        return new StudentAssignment(student, assignment);
+    }
+
+    private static Assignment assignment(String name, String dueDate, boolean isDone) {
+        return new AssignmentBuilder().withAssignmentName(name).withDueDate(new Date(dueDate))
+                .withDoneStatus(isDone).build();
+    }
+}
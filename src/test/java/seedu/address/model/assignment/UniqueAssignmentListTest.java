@@ -1,17 +1,21 @@
 package seedu.address.model.assignment;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
-import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.assignment.expections.AssignmentAlreadyMarkedException;
 import seedu.address.model.assignment.expections.AssignmentNotFoundException;
+import seedu.address.model.assignment.expections.AssignmentNotMarkedException;
 import seedu.address.model.assignment.expections.DuplicateAssignmentException;
 import seedu.address.model.datetimeutil.Date;
 import seedu.address.testutil.AssignmentBuilder;
@@ -34,126 +38,170 @@ public class UniqueAssignmentListTest {
     @Test
     public void contains_assignmentInList_returnsTrue() {
         Assignment assignment = new AssignmentBuilder().build();
-        uniqueAssignmentList.add(assignment);
-        assertTrue(uniqueAssignmentList.contains(assignment));
+        assertTrue(uniqueAssignmentList.withAdded(assignment).contains(assignment));
     }
 
     @Test
-    public void add_nullAssignment_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> uniqueAssignmentList.add(null));
+    public void withAdded_nullAssignment_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueAssignmentList.withAdded(null));
     }
 
     @Test
-    public void add_duplicateAssignment_throwsDuplicateAssignmentException() {
+    public void withAdded_duplicateAssignment_throwsDuplicateAssignmentException() {
         Assignment assignment = new AssignmentBuilder().build();
-        uniqueAssignmentList.add(assignment);
-        assertThrows(DuplicateAssignmentException.class, () -> uniqueAssignmentList.add(assignment));
+        UniqueAssignmentList list = uniqueAssignmentList.withAdded(assignment);
+        assertThrows(DuplicateAssignmentException.class, () -> list.withAdded(assignment));
     }
 
     @Test
-    public void setAssignment_nullTargetAssignment_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> uniqueAssignmentList.setAssignment(
-                new AssignmentBuilder().build(), null));
+    public void withAdded_assignment_leavesOriginalListUnchanged() {
+        Assignment assignment = new AssignmentBuilder().build();
+        UniqueAssignmentList list = uniqueAssignmentList.withAdded(assignment);
+        assertEquals(1, list.size());
+        assertEquals(0, uniqueAssignmentList.size());
+        assertFalse(uniqueAssignmentList.contains(assignment));
+    }
+
+    @Test
+    public void of_listWithDuplicateAssignments_throwsDuplicateAssignmentException() {
+        Assignment assignment = new AssignmentBuilder().build();
+        Assignment sameName = new AssignmentBuilder().withDueDate(new Date("31-12-2030")).build();
+        assertThrows(DuplicateAssignmentException.class, () ->
+                UniqueAssignmentList.of(List.of(assignment, sameName)));
+    }
+
+    @Test
+    public void of_list_keepsOrder() {
+        Assignment first = new AssignmentBuilder().withAssignmentName("Homework B").build();
+        Assignment second = new AssignmentBuilder().withAssignmentName("Homework A").build();
+        UniqueAssignmentList list = UniqueAssignmentList.of(List.of(first, second));
+        assertEquals(List.of(first, second), list.asUnmodifiableList());
+        assertTrue(list.contains(second));
+    }
+
+    @Test
+    public void withReplaced_nullTargetAssignment_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueAssignmentList.withReplaced(
+                null, new AssignmentBuilder().build()));
     }
 
     @Test
-    public void setAssignment_nullEditedAssignment_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> uniqueAssignmentList.setAssignment(
+    public void withReplaced_nullEditedAssignment_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueAssignmentList.withReplaced(
                 new AssignmentBuilder().build(), null));
     }
 
     @Test
-    public void setAssignment_targetAssignmentNotInList_throwsAssignmentNotFoundException() {
-        assertThrows(AssignmentNotFoundException.class, () -> uniqueAssignmentList.setAssignment(
+    public void withReplaced_targetAssignmentNotInList_throwsAssignmentNotFoundException() {
+        assertThrows(AssignmentNotFoundException.class, () -> uniqueAssignmentList.withReplaced(
                 new AssignmentBuilder().build(), new AssignmentBuilder().build()));
     }
 
     @Test
-    public void setAssignment_editedAssignmentIsSameAssignment_success() {
+    public void withReplaced_editedAssignmentIsSameAssignment_success() {
         Assignment assignment = new AssignmentBuilder().build();
-        uniqueAssignmentList.add(assignment);
-        uniqueAssignmentList.setAssignment(assignment, assignment);
-        UniqueAssignmentList expectedUniqueAssignmentList = new UniqueAssignmentList();
-        expectedUniqueAssignmentList.add(assignment);
-        assertEquals(expectedUniqueAssignmentList, uniqueAssignmentList);
+        UniqueAssignmentList list = uniqueAssignmentList.withAdded(assignment);
+        UniqueAssignmentList expectedUniqueAssignmentList = new UniqueAssignmentList().withAdded(assignment);
+        assertEquals(expectedUniqueAssignmentList, list.withReplaced(assignment, assignment));
     }
 
     @Test
-    public void setAssignment_editedAssignmentHasSameIdentity_success() {
+    public void withReplaced_editedAssignmentHasSameIdentity_success() {
         Assignment assignment = new AssignmentBuilder().build();
-        uniqueAssignmentList.add(assignment);
+        UniqueAssignmentList list = uniqueAssignmentList.withAdded(assignment);
         Assignment editedAssignment = new AssignmentBuilder(assignment).withDueDate(new Date("11-04-2025")).build();
-        uniqueAssignmentList.setAssignment(assignment, editedAssignment);
-        UniqueAssignmentList expectedUniqueAssignmentList = new UniqueAssignmentList();
-        expectedUniqueAssignmentList.add(editedAssignment);
-        assertEquals(expectedUniqueAssignmentList, uniqueAssignmentList);
+        UniqueAssignmentList edited = list.withReplaced(assignment, editedAssignment);
+        UniqueAssignmentList expectedUniqueAssignmentList = new UniqueAssignmentList().withAdded(editedAssignment);
+        assertEquals(expectedUniqueAssignmentList, edited);
+        assertEquals(editedAssignment.getDueDate(), edited.getAssignment(assignment.getAssignmentName()).getDueDate());
     }
 
     @Test
-    public void setAssignment_editedAssignmentHasDifferentIdentity_success() {
+    public void withReplaced_editedAssignmentHasDifferentIdentity_success() {
         Assignment assignment = new AssignmentBuilder().build();
-        uniqueAssignmentList.add(assignment);
+        Assignment other = new AssignmentBuilder().withAssignmentName("Other Assignment").build();
+        UniqueAssignmentList list = UniqueAssignmentList.of(List.of(assignment, other));
         Assignment differentAssignment = new AssignmentBuilder().withAssignmentName("Different Assignment").build();
-        uniqueAssignmentList.setAssignment(assignment, differentAssignment);
-        UniqueAssignmentList expectedUniqueAssignmentList = new UniqueAssignmentList();
-        expectedUniqueAssignmentList.add(differentAssignment);
-        assertEquals(expectedUniqueAssignmentList, uniqueAssignmentList);
+        UniqueAssignmentList expectedUniqueAssignmentList =
+                UniqueAssignmentList.of(List.of(differentAssignment, other));
+        assertEquals(expectedUniqueAssignmentList, list.withReplaced(assignment, differentAssignment));
     }
 
     @Test
-    public void setAssignment_editedAssignmentHasNonUniqueIdentity_throwsDuplicateAssignmentException() {
+    public void withReplaced_editedAssignmentHasNonUniqueIdentity_throwsDuplicateAssignmentException() {
         Assignment assignment = new AssignmentBuilder().build();
-        uniqueAssignmentList.add(assignment);
         Assignment duplicateAssignment = new AssignmentBuilder().withAssignmentName("Duplicate Assignment").build();
-        uniqueAssignmentList.add(duplicateAssignment);
+        UniqueAssignmentList list = UniqueAssignmentList.of(List.of(assignment, duplicateAssignment));
         assertThrows(DuplicateAssignmentException.class, () ->
-                uniqueAssignmentList.setAssignment(assignment, duplicateAssignment));
+                list.withReplaced(assignment, duplicateAssignment));
     }
 
     @Test
-    public void remove_existingAssignment_removesAssignment() {
+    public void withDeleted_existingAssignment_removesAssignment() {
         Assignment assignment = new AssignmentBuilder().build();
-        uniqueAssignmentList.add(assignment);
-        uniqueAssignmentList.deleteAssignment(assignment.getAssignmentName());
+        UniqueAssignmentList list = uniqueAssignmentList.withAdded(assignment);
         UniqueAssignmentList expectedUniqueAssignmentList = new UniqueAssignmentList();
-        assertEquals(expectedUniqueAssignmentList, uniqueAssignmentList);
+        assertEquals(expectedUniqueAssignmentList, list.withDeleted(assignment.getAssignmentName()));
+        assertTrue(list.contains(assignment));
+    }
+
+    @Test
+    public void withDeleted_nonExistingAssignment_throwsAssignmentNotFoundException() {
+        UniqueAssignmentList list = uniqueAssignmentList.withAdded(new AssignmentBuilder().build());
+        assertThrows(AssignmentNotFoundException.class, () -> list.withDeleted("Non Existing Assignment"));
     }
 
     @Test
-    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+    public void asUnmodifiableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () ->
-                uniqueAssignmentList.asUnmodifiableObservableList().remove(0));
+                uniqueAssignmentList.asUnmodifiableList().remove(0));
     }
 
     @Test
-    public void markAssignment_alreadyMarked_throwsCommandException() {
+    public void withMarked_notMarked_returnsMarkedCopy() throws Exception {
         Assignment assignment = new AssignmentBuilder().build();
-        uniqueAssignmentList.add(assignment);
-        assertDoesNotThrow(() -> uniqueAssignmentList.markAssignment(assignment.getAssignmentName()));
-        assertThrows(CommandException.class, () -> uniqueAssignmentList.markAssignment(assignment.getAssignmentName()));
+        UniqueAssignmentList list = uniqueAssignmentList.withAdded(assignment);
+        UniqueAssignmentList marked = list.withMarked(assignment.getAssignmentName());
+        assertTrue(marked.getAssignment(assignment.getAssignmentName()).isDone());
+        assertFalse(list.getAssignment(assignment.getAssignmentName()).isDone());
+        assertFalse(assignment.isDone());
     }
 
     @Test
-    public void unmarkAssignment_alreadyUnmarked_throwsCommandException() {
+    public void withMarked_alreadyMarked_throwsAssignmentAlreadyMarkedException() {
         Assignment assignment = new AssignmentBuilder().build();
-        uniqueAssignmentList.add(assignment);
-        assertThrows(CommandException.class, () ->
-                uniqueAssignmentList.unmarkAssignment(assignment.getAssignmentName()));
+        UniqueAssignmentList marked = uniqueAssignmentList.withAdded(assignment)
+                .withMarked(assignment.getAssignmentName());
+        assertThrows(AssignmentAlreadyMarkedException.class, () -> marked.withMarked(assignment.getAssignmentName()));
     }
 
     @Test
-    public void deleteAssignment_existingAssignment_deletesAssignment() {
+    public void withMarked_nonExistingAssignment_throwsAssignmentNotFoundException() {
+        assertThrows(AssignmentNotFoundException.class, () -> uniqueAssignmentList.withMarked("Non Existing"));
+        assertThrows(AssignmentNotFoundException.class, () -> uniqueAssignmentList.withUnmarked("Non Existing"));
+    }
+
+    @Test
+    public void withUnmarked_alreadyUnmarked_throwsAssignmentNotMarkedException() {
         Assignment assignment = new AssignmentBuilder().build();
-        uniqueAssignmentList.add(assignment);
-        uniqueAssignmentList.deleteAssignment(assignment.getAssignmentName());
-        assertFalse(uniqueAssignmentList.contains(assignment));
+        UniqueAssignmentList list = uniqueAssignmentList.withAdded(assignment);
+        assertThrows(AssignmentNotMarkedException.class, () -> list.withUnmarked(assignment.getAssignmentName()));
+    }
+
+    @Test
+    public void withUnmarked_marked_returnsUnmarkedCopy() throws Exception {
+        Assignment assignment = new AssignmentBuilder().build().withDone(true);
+        UniqueAssignmentList list = uniqueAssignmentList.withAdded(assignment);
+        assertFalse(list.withUnmarked(assignment.getAssignmentName())
+                .getAssignment(assignment.getAssignmentName()).isDone());
+        assertTrue(list.getAssignment(assignment.getAssignmentName()).isDone());
     }
 
     @Test
     public void getAssignment_existingAssignment_returnsAssignment() {
         Assignment assignment = new AssignmentBuilder().build();
-        uniqueAssignmentList.add(assignment);
-        assertEquals(assignment, uniqueAssignmentList.getAssignment(assignment.getAssignmentName()));
+        UniqueAssignmentList list = uniqueAssignmentList.withAdded(assignment);
+        assertEquals(assignment, list.getAssignment(assignment.getAssignmentName()));
     }
 
     @Test
@@ -161,6 +209,68 @@ public class UniqueAssignmentListTest {
         assertEquals(null, uniqueAssignmentList.getAssignment("Non-existing Assignment"));
     }
 
+    @Test
+    public void findByName_unnormalizedName_returnsAssignment() {
+        Assignment assignment = new AssignmentBuilder().withAssignmentName("Math Exercise 1").build();
+        UniqueAssignmentList list = uniqueAssignmentList.withAdded(assignment);
+        assertEquals(Optional.of(assignment), list.findByName("  math   EXERCISE 1"));
+        assertEquals(Optional.empty(), list.findByName("Math Exercise 2"));
+    }
+
+    @Test
+    public void findByName_afterEditsAndReplacement_followsList() {
+        Assignment assignment = new AssignmentBuilder().withAssignmentName("Math Exercise 1").build();
+        Assignment edited = new AssignmentBuilder().withAssignmentName("Math Exercise 2").build();
+        UniqueAssignmentList list = uniqueAssignmentList.withAdded(assignment).withReplaced(assignment, edited);
+        assertEquals(Optional.empty(), list.findByName("Math Exercise 1"));
+        assertEquals(Optional.of(edited), list.findByName("Math Exercise 2"));
+
+        list = UniqueAssignmentList.of(List.of(assignment));
+        assertEquals(Optional.of(assignment), list.findByName("Math Exercise 1"));
+        assertEquals(Optional.empty(), list.findByName("Math Exercise 2"));
+
+        list = list.withDeleted("math exercise 1");
+        assertEquals(Optional.empty(), list.findByName("Math Exercise 1"));
+        assertEquals(0, list.asUnmodifiableList().size());
+    }
+
+    @Test
+    public void manyEdits_keepOrderAndIndex() {
+        List<Assignment> expected = new ArrayList<>();
+        UniqueAssignmentList list = uniqueAssignmentList;
+        for (int i = 0; i < 200; i++) {
+            Assignment assignment = new AssignmentBuilder().withAssignmentName("Homework " + i).build();
+            list = list.withAdded(assignment);
+            expected.add(assignment);
+        }
+        for (int i = 0; i < 200; i += 3) {
+            list = list.withDeleted("Homework " + i);
+            expected.remove(new AssignmentBuilder().withAssignmentName("Homework " + i).build());
+        }
+
+        assertEquals(expected, list.asUnmodifiableList());
+        assertEquals(expected.get(50), list.asUnmodifiableList().get(50));
+        assertEquals(Optional.of(expected.get(0)), list.findByName("homework 1"));
+        assertEquals(UniqueAssignmentList.of(expected), list);
+        assertEquals(UniqueAssignmentList.of(expected).hashCode(), list.hashCode());
+    }
+
+    @Test
+    public void equals() {
+        Assignment first = new AssignmentBuilder().withAssignmentName("Homework A").build();
+        Assignment second = new AssignmentBuilder().withAssignmentName("Homework B").build();
+        UniqueAssignmentList list = UniqueAssignmentList.of(List.of(first, second));
+
+        // same assignments in the same order -> returns true
+        assertEquals(list, new UniqueAssignmentList().withAdded(first).withAdded(second));
+
+        // different order -> returns false
+        assertNotEquals(list, UniqueAssignmentList.of(List.of(second, first)));
+
+        // different assignments -> returns false
+        assertNotEquals(list, UniqueAssignmentList.of(List.of(first)));
+    }
+
     @Test
     public void compare_assignmentsByDueDate_worksCorrectly() {
         Assignment a1 = new AssignmentBuilder().withDueDate(new Date("01-01-2030")).build();
@@ -171,22 +281,12 @@ public class UniqueAssignmentListTest {
         assertEquals(0, uniqueAssignmentList.compare(a1, a1));
     }
 
-    @Test
-    public void clear_assignmentListCleared_successfully() {
-        Assignment assignment = new AssignmentBuilder().build();
-        uniqueAssignmentList.add(assignment);
-        uniqueAssignmentList.clear();
-        assertEquals(0, uniqueAssignmentList.asUnmodifiableObservableList().size());
-    }
-
     @Test
     public void iterator_iteratesAssignmentsCorrectly() {
         Assignment assignment = new AssignmentBuilder().build();
-        uniqueAssignmentList.add(assignment);
-        Iterator<Assignment> iterator = uniqueAssignmentList.iterator();
+        Iterator<Assignment> iterator = uniqueAssignmentList.withAdded(assignment).iterator();
         assertTrue(iterator.hasNext());
         assertEquals(assignment, iterator.next());
+        assertFalse(iterator.hasNext());
     }
-
-
 }
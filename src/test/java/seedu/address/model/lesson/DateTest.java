@@ -51,4 +51,24 @@ class DateTest {
         //different types -> return false
         assertFalse(date.equals(5));
     }
+
+    @Test
+    void testEquals_differentFormat_sameDate() {
+        Date date = new Date("05-10-2027");
+        Date unpaddedDate = new Date("5-10-2027");
+
+        assertTrue(date.equals(unpaddedDate));
+        assertEquals(date.hashCode(), unpaddedDate.hashCode());
+        assertEquals(0, date.compareTo(unpaddedDate));
+        assertEquals(date.toString(), unpaddedDate.toString());
+    }
+
+    @Test
+    void compareTo() {
+        Date earlier = new Date("31-12-2027");
+        Date later = new Date("1-1-2028");
+
+        assertTrue(earlier.compareTo(later) < 0);
+        assertTrue(later.compareTo(earlier) > 0);
+    }
 }
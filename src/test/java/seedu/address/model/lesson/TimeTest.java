@@ -42,4 +42,14 @@ class TimeTest {
         //different types -> return false
         assertFalse(time.equals(7));
     }
+
+    @Test
+    void testEquals_differentFormat_sameTime() {
+        Time time = new Time("09:05");
+        Time unpaddedTime = new Time("9:5");
+
+        assertTrue(time.equals(unpaddedTime));
+        assertEquals(time.hashCode(), unpaddedTime.hashCode());
+        assertEquals(time.toLocalTime(), unpaddedTime.toLocalTime());
+    }
 }
@@ -6,16 +6,22 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalLessons.ALICE;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.ListChange;
 import seedu.address.model.lesson.exceptions.DuplicateLessonException;
 import seedu.address.model.lesson.exceptions.LessonNotFoundException;
+import seedu.address.model.student.Name;
 import seedu.address.testutil.LessonBuilder;
 
 public class UniqueLessonListTest {
 
+    private static final int BOB_ID = 2;
+    private static final int CARL_ID = 3;
+
     private final UniqueLessonList uniqueLessonList = new UniqueLessonList();
 
     @Test
@@ -53,9 +59,9 @@ public class UniqueLessonListTest {
     }
 
     @Test
-    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+    public void asUnmodifiableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
-            -> uniqueLessonList.asUnmodifiableObservableList().remove(0));
+            -> uniqueLessonList.asUnmodifiableList().remove(0));
     }
 
     @Test
@@ -72,6 +78,132 @@ public class UniqueLessonListTest {
         assertFalse(uniqueLessonList.clashes(nonConflicting));
     }
 
+    @Test
+    public void clashes_conflictingLessonInDifferentFormat_returnsTrue() {
+        uniqueLessonList.add(new LessonBuilder().withDate("05-10-2030").withTime("09:00").build());
+        Lesson conflicting = new LessonBuilder().withName("Bob").withDate("5-10-2030").withTime("9:0").build();
+        assertTrue(uniqueLessonList.clashes(conflicting));
+    }
+
+    @Test
+    public void clashes_conflictingLessonRemoved_returnsFalse() {
+        uniqueLessonList.add(ALICE);
+        uniqueLessonList.remove(ALICE);
+        assertFalse(uniqueLessonList.clashes(ALICE));
+    }
+
+    @Test
+    public void clashes_conflictingLessonEdited_returnsFalse() {
+        uniqueLessonList.add(ALICE);
+        uniqueLessonList.setLesson(ALICE, new LessonBuilder(ALICE).withTime("23:00").build());
+        assertFalse(uniqueLessonList.clashes(ALICE));
+    }
+
+    @Test
+    public void removeLessonsOf_studentWithLessons_removesOnlyTheirLessons() {
+        Lesson first = new LessonBuilder().withName("Bob Choo").withStudentId(BOB_ID).withTime("08:00").build();
+        Lesson second = new LessonBuilder().withName("Bob Choo").withStudentId(BOB_ID).withTime("10:00").build();
+        uniqueLessonList.setLessons(List.of(first, ALICE, second));
+
+        assertEquals(2, uniqueLessonList.removeLessonsOf(BOB_ID));
+        assertEquals(List.of(ALICE), uniqueLessonList.asUnmodifiableList());
+        assertFalse(uniqueLessonList.clashes(first));
+        assertTrue(uniqueLessonList.getLessonsOf(BOB_ID).isEmpty());
+    }
+
+    @Test
+    public void removeLessonsOf_listener_toldOfEachLessonRemoved() {
+        Lesson first = new LessonBuilder().withName("Bob Choo").withStudentId(BOB_ID).withTime("08:00").build();
+        Lesson second = new LessonBuilder().withName("Bob Choo").withStudentId(BOB_ID).withTime("10:00").build();
+        uniqueLessonList.setLessons(List.of(first, ALICE, second));
+        List<List<ListChange<Lesson>>> told = new ArrayList<>();
+        uniqueLessonList.addListener(told::add);
+
+        uniqueLessonList.removeLessonsOf(BOB_ID);
+        assertEquals(List.of(List.of(ListChange.removed(2, second), ListChange.removed(0, first))), told);
+    }
+
+    @Test
+    public void removeLessonsOf_severalStudents_removesLessonsOfEach() {
+        Lesson bobLesson = new LessonBuilder().withName("Bob Choo").withStudentId(BOB_ID).withTime("08:00").build();
+        Lesson carlLesson = new LessonBuilder().withName("Carl Kurz").withStudentId(CARL_ID).withTime("10:00")
+                .build();
+        uniqueLessonList.setLessons(List.of(bobLesson, ALICE, carlLesson));
+
+        assertEquals(2, uniqueLessonList.removeLessonsOf(List.of(BOB_ID, CARL_ID)));
+        assertEquals(List.of(ALICE), uniqueLessonList.asUnmodifiableList());
+        assertFalse(uniqueLessonList.clashes(bobLesson));
+    }
+
+    @Test
+    public void removeAll_lessonsInList_removesLessons() {
+        Lesson first = new LessonBuilder().withName("Bob Choo").withStudentId(BOB_ID).withTime("08:00").build();
+        Lesson second = new LessonBuilder().withName("Bob Choo").withStudentId(BOB_ID).withTime("10:00").build();
+        uniqueLessonList.setLessons(List.of(first, ALICE, second));
+
+        uniqueLessonList.removeAll(List.of(ALICE, second));
+        assertEquals(List.of(first), uniqueLessonList.asUnmodifiableList());
+        assertEquals(List.of(first), uniqueLessonList.getLessonsOf(BOB_ID));
+    }
+
+    @Test
+    public void removeAll_lessonNotInList_throwsLessonNotFoundException() {
+        Lesson other = new LessonBuilder().withName("Bob Choo").withStudentId(BOB_ID).withTime("08:00").build();
+        uniqueLessonList.add(ALICE);
+        assertThrows(LessonNotFoundException.class, () -> uniqueLessonList.removeAll(List.of(ALICE, other)));
+        assertEquals(List.of(ALICE), uniqueLessonList.asUnmodifiableList());
+    }
+
+    @Test
+    public void removeLessonsOf_studentWithoutLessons_returnsZero() {
+        uniqueLessonList.add(ALICE);
+        assertEquals(0, uniqueLessonList.removeLessonsOf(BOB_ID));
+        assertEquals(List.of(ALICE), uniqueLessonList.asUnmodifiableList());
+    }
+
+    @Test
+    public void renameStudentInLessons_studentWithLessons_renamesInPlace() {
+        Lesson first = new LessonBuilder().withName("Bob Choo").withStudentId(BOB_ID).withTime("08:00").build();
+        Lesson second = new LessonBuilder().withName("Bob Choo").withStudentId(BOB_ID).withTime("10:00").build();
+        uniqueLessonList.setLessons(List.of(first, ALICE, second));
+
+        assertEquals(2, uniqueLessonList.renameStudentInLessons(BOB_ID, new Name("Bob Tan")));
+
+        Lesson renamedFirst = new LessonBuilder(first).withName("Bob Tan").build();
+        Lesson renamedSecond = new LessonBuilder(second).withName("Bob Tan").build();
+        assertEquals(List.of(renamedFirst, ALICE, renamedSecond), uniqueLessonList.asUnmodifiableList());
+        assertEquals(List.of(renamedFirst, renamedSecond), uniqueLessonList.getLessonsOf(BOB_ID));
+        assertFalse(uniqueLessonList.contains(first));
+        assertTrue(uniqueLessonList.contains(renamedFirst));
+    }
+
+    @Test
+    public void renameStudentInLessons_studentWithLessons_listenersToldOnceOfRenamedLessonsOnly() {
+        Lesson first = new LessonBuilder().withName("Bob Choo").withStudentId(BOB_ID).withTime("08:00").build();
+        Lesson second = new LessonBuilder().withName("Bob Choo").withStudentId(BOB_ID).withTime("10:00").build();
+        uniqueLessonList.setLessons(List.of(first, ALICE, second));
+        List<List<ListChange<Lesson>>> told = new ArrayList<>();
+        uniqueLessonList.addListener(told::add);
+
+        uniqueLessonList.renameStudentInLessons(BOB_ID, new Name("Bob Tan"));
+
+        Lesson renamedFirst = new LessonBuilder(first).withName("Bob Tan").build();
+        Lesson renamedSecond = new LessonBuilder(second).withName("Bob Tan").build();
+        assertEquals(List.of(List.of(ListChange.replaced(0, first, renamedFirst),
+                ListChange.replaced(2, second, renamedSecond))), told);
+    }
+
+    @Test
+    public void renameStudentInLessons_renamedLessonExists_throwsDuplicateLessonException() {
+        Lesson lesson = new LessonBuilder().withName("Bob Choo").withStudentId(BOB_ID).build();
+        Lesson existing = new LessonBuilder(lesson).withName("Bob Tan").withStudentId(CARL_ID).build();
+        uniqueLessonList.setLessons(List.of(lesson, existing));
+
+        assertThrows(DuplicateLessonException.class, () ->
+                uniqueLessonList.renameStudentInLessons(BOB_ID, new Name("Bob Tan")));
+        assertEquals(List.of(lesson, existing), uniqueLessonList.asUnmodifiableList());
+    }
+
     @Test
     public void remove_existingLesson_success() {
         uniqueLessonList.add(ALICE);
@@ -92,6 +224,14 @@ public class UniqueLessonListTest {
         assertThrows(DuplicateLessonException.class, () -> uniqueLessonList.setLessons(duplicateLessons));
     }
 
+    @Test
+    public void setLessons_withDuplicateLessonsInDifferentFormat_throwsDuplicateLessonException() {
+        Lesson lesson1 = new LessonBuilder().withDate("5-10-2030").withTime("9:00").build();
+        Lesson lesson2 = new LessonBuilder().withDate("05-10-2030").withTime("09:00").build();
+        List<Lesson> duplicateLessons = List.of(lesson1, lesson2);
+        assertThrows(DuplicateLessonException.class, () -> uniqueLessonList.setLessons(duplicateLessons));
+    }
+
     @Test
     public void setLessons_validList_replacesList() {
         Lesson lesson1 = new LessonBuilder().build();
@@ -111,6 +251,6 @@ public class UniqueLessonListTest {
 
     @Test
     public void toStringMethod() {
-        assertEquals(uniqueLessonList.asUnmodifiableObservableList().toString(), uniqueLessonList.toString());
+        assertEquals(uniqueLessonList.asUnmodifiableList().toString(), uniqueLessonList.toString());
     }
 }
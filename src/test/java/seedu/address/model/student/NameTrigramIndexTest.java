@@ -0,0 +1,70 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class NameTrigramIndexTest {
+
+    private final NameTrigramIndex index = new NameTrigramIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.add("alice");
+        index.add("alicia");
+        index.add("ali");
+        index.add("meier");
+        index.add("meyer");
+    }
+
+    @Test
+    public void findMatches_shortKeyword_prefixesOnly() {
+        assertEquals(Map.of("alice", 0, "alicia", 0, "ali", 0), index.findMatches("ali"));
+        assertEquals(Map.of("alice", 0, "alicia", 0), index.findMatches("alic"));
+        assertEquals(Map.of(), index.findMatches("alx"));
+    }
+
+    @Test
+    public void findMatches_typos_rankedByDistance() {
+        assertEquals(Map.of("alice", 1), index.findMatches("alcie"));
+        assertEquals(Map.of("meier", 0, "meyer", 1), index.findMatches("meier"));
+        assertEquals(Map.of("meier", 1, "meyer", 1), index.findMatches("meiyer"));
+    }
+
+    @Test
+    public void findMatches_removedWord_notFound() {
+        index.remove("meyer");
+        assertEquals(Map.of("meier", 0), index.findMatches("meier"));
+        index.clear();
+        assertEquals(Map.of(), index.findMatches("meier"));
+    }
+
+    @Test
+    public void getMaxDistance() {
+        assertEquals(0, NameTrigramIndex.getMaxDistance("a"));
+        assertEquals(0, NameTrigramIndex.getMaxDistance("abcd"));
+        assertEquals(1, NameTrigramIndex.getMaxDistance("abcde"));
+        assertEquals(1, NameTrigramIndex.getMaxDistance("abcdefgh"));
+        assertEquals(2, NameTrigramIndex.getMaxDistance("abcdefghi"));
+    }
+
+    @Test
+    public void prefixEditDistance() {
+        // prefix or whole word
+        assertEquals(0, NameTrigramIndex.prefixEditDistance("ali", "alice", 2));
+        assertEquals(0, NameTrigramIndex.prefixEditDistance("alice", "alice", 2));
+
+        // one substitution, insertion, deletion or swap of adjacent characters
+        assertEquals(1, NameTrigramIndex.prefixEditDistance("alise", "alice", 2));
+        assertEquals(1, NameTrigramIndex.prefixEditDistance("alce", "alice", 2));
+        assertEquals(1, NameTrigramIndex.prefixEditDistance("allice", "alice", 2));
+        assertEquals(1, NameTrigramIndex.prefixEditDistance("alcie", "alice", 2));
+
+        // more edits than allowed
+        assertEquals(2, NameTrigramIndex.prefixEditDistance("bob", "alice", 1));
+        assertEquals(3, NameTrigramIndex.prefixEditDistance("alicexyz", "alice", 2));
+    }
+}
@@ -15,6 +15,7 @@ import static seedu.address.testutil.TypicalStudents.BOB;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.assignment.Assignment;
+import seedu.address.model.assignment.expections.AssignmentNotFoundException;
 import seedu.address.testutil.AssignmentBuilder;
 import seedu.address.testutil.StudentBuilder;
 
@@ -118,15 +119,16 @@ public class StudentTest {
     @Test
     public void markAssignment_validAssignment_marksSuccessfully() throws Exception {
         Assignment assignment = new AssignmentBuilder().build();
-        Student student = new StudentBuilder().withAssignment(assignment).build();
+        Student student = new StudentBuilder().withAssignment(assignment).build().withId(3);
         Student updatedStudent = student.markAssignment(assignment.getAssignmentName());
         assertTrue(updatedStudent.getAssignments().getAssignment(assignment.getAssignmentName()).isDone());
+        assertFalse(student.getAssignments().getAssignment(assignment.getAssignmentName()).isDone());
+        assertEquals(student.getId(), updatedStudent.getId());
     }
 
     @Test
     public void unmarkAssignment_validAssignment_unmarksSuccessfully() throws Exception {
-        Assignment assignment = new AssignmentBuilder().build();
-        assignment.setDone();
+        Assignment assignment = new AssignmentBuilder().build().withDone(true);
         Student student = new StudentBuilder().withAssignment(assignment).build();
         Student updatedStudent = student.unmarkAssignment(assignment.getAssignmentName());
         assertFalse(updatedStudent.getAssignments().getAssignment(assignment.getAssignmentName()).isDone());
@@ -136,16 +138,24 @@ public class StudentTest {
     public void deleteAssignment_assignmentInList_removesSuccessfully() {
         Assignment assignment = new AssignmentBuilder().build();
         Student student = new StudentBuilder().withAssignment(assignment).build();
-        student.deleteAssignment(assignment.getAssignmentName());
-        assertFalse(student.getAssignments().contains(assignment));
+        Student updatedStudent = student.deleteAssignment(assignment.getAssignmentName());
+        assertFalse(updatedStudent.getAssignments().contains(assignment));
+        assertTrue(student.getAssignments().contains(assignment));
     }
 
     @Test
-    public void clearAssignments_allAssignmentsRemoved() {
-        Assignment assignment = new AssignmentBuilder().build();
-        Student student = new StudentBuilder().withAssignment(assignment).build();
-        student.clearAssignments();
-        assertTrue(student.getAssignments().asUnmodifiableObservableList().isEmpty());
+    public void deleteAssignment_assignmentNotInList_throwsAssignmentNotFoundException() {
+        Student student = new StudentBuilder().build();
+        assertThrows(AssignmentNotFoundException.class, () -> student.deleteAssignment("Non Existing Assignment"));
+    }
+
+    @Test
+    public void hashCode_sameDetailsDifferentAssignments_sameHashCode() {
+        Student student = new StudentBuilder().build();
+        Student withAssignment = student.addAssignment(new AssignmentBuilder().build());
+        assertEquals(student, withAssignment);
+        assertEquals(student.hashCode(), withAssignment.hashCode());
+        assertEquals(student.hashCode(), student.withId(5).hashCode());
     }
 
 }
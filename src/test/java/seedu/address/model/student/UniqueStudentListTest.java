@@ -4,23 +4,33 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_SUBJECT_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.ALICE;
 import static seedu.address.testutil.TypicalStudents.BOB;
+import static seedu.address.testutil.TypicalStudents.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.ListChange;
 import seedu.address.model.assignment.Assignment;
+import seedu.address.model.assignment.expections.AssignmentNotFoundException;
 import seedu.address.model.student.exceptions.DuplicateStudentException;
 import seedu.address.model.student.exceptions.StudentNotFoundException;
 import seedu.address.model.subject.Subject;
 import seedu.address.testutil.AssignmentBuilder;
 import seedu.address.testutil.StudentBuilder;
+import seedu.address.testutil.TypicalStudents;
 
 public class UniqueStudentListTest {
 
@@ -50,6 +60,27 @@ public class UniqueStudentListTest {
         assertTrue(uniqueStudentList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_studentWithSamePhoneOnlyInList_returnsTrue() {
+        uniqueStudentList.add(ALICE);
+        Student sharesPhoneWithAlice = new StudentBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        assertTrue(uniqueStudentList.contains(sharesPhoneWithAlice));
+    }
+
+    @Test
+    public void contains_studentWithSameEmailOnlyInList_returnsTrue() {
+        uniqueStudentList.add(ALICE);
+        Student sharesEmailWithAlice = new StudentBuilder(BOB).withEmail(ALICE.getEmail().value).build();
+        assertTrue(uniqueStudentList.contains(sharesEmailWithAlice));
+    }
+
+    @Test
+    public void contains_studentRemovedFromList_returnsFalse() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.remove(ALICE);
+        assertFalse(uniqueStudentList.contains(ALICE));
+    }
+
     @Test
     public void add_nullStudent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.add(null));
@@ -106,6 +137,14 @@ public class UniqueStudentListTest {
         assertEquals(expectedUniqueStudentList, uniqueStudentList);
     }
 
+    @Test
+    public void setStudent_editedStudentHasDifferentIdentity_updatesIdentityLookup() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudent(ALICE, BOB);
+        assertFalse(uniqueStudentList.contains(ALICE));
+        assertTrue(uniqueStudentList.contains(BOB));
+    }
+
     @Test
     public void setStudent_editedStudentHasNonUniqueIdentity_throwsDuplicateStudentException() {
         uniqueStudentList.add(ALICE);
@@ -160,6 +199,14 @@ public class UniqueStudentListTest {
         assertEquals(expectedUniqueStudentList, uniqueStudentList);
     }
 
+    @Test
+    public void setStudents_list_replacesIdentityLookup() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudents(Collections.singletonList(BOB));
+        assertFalse(uniqueStudentList.contains(ALICE));
+        assertTrue(uniqueStudentList.contains(BOB));
+    }
+
     @Test
     public void setStudents_listWithDuplicateStudents_throwsDuplicateStudentException() {
         List<Student> listWithDuplicateStudents = Arrays.asList(ALICE, ALICE);
@@ -167,9 +214,16 @@ public class UniqueStudentListTest {
     }
 
     @Test
-    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+    public void setStudents_listWithSharedPhone_throwsDuplicateStudentException() {
+        Student sharesPhoneWithAlice = new StudentBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        List<Student> listWithDuplicateStudents = Arrays.asList(ALICE, sharesPhoneWithAlice);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudents(listWithDuplicateStudents));
+    }
+
+    @Test
+    public void asUnmodifiableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
-            -> uniqueStudentList.asUnmodifiableObservableList().remove(0));
+            -> uniqueStudentList.asUnmodifiableList().remove(0));
     }
 
     @Test
@@ -202,7 +256,19 @@ public class UniqueStudentListTest {
         uniqueStudentList.add(student);
 
         uniqueStudentList.deleteAssignment(student, assignment.getAssignmentName());
-        assertFalse(uniqueStudentList.asUnmodifiableObservableList().get(0).hasAssignment(assignment));
+        assertFalse(uniqueStudentList.asUnmodifiableList().get(0).hasAssignment(assignment));
+    }
+
+    @Test
+    public void deleteAssignment_assignmentNotFound_throwsAssignmentNotFoundExceptionWithoutChange() {
+        Student student = new StudentBuilder().build();
+        uniqueStudentList.add(student);
+        List<List<ListChange<Student>>> notifications = new ArrayList<>();
+        uniqueStudentList.addListener(notifications::add);
+
+        assertThrows(AssignmentNotFoundException.class, () ->
+                uniqueStudentList.deleteAssignment(student, "Dummy Assignment"));
+        assertEquals(List.of(), notifications);
     }
 
     @Test
@@ -212,9 +278,209 @@ public class UniqueStudentListTest {
                 uniqueStudentList.deleteAssignment(student, "Dummy Assignment"));
     }
 
+    @Test
+    public void add_studentsWithoutIds_givenIncreasingIds() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+
+        assertEquals(Optional.of(ALICE), uniqueStudentList.findById(1));
+        assertEquals(Optional.of(BOB), uniqueStudentList.findById(2));
+        assertEquals(2, uniqueStudentList.getIdOf(BOB));
+        assertEquals(3, uniqueStudentList.getNextId());
+    }
+
+    @Test
+    public void add_removedStudentsId_notReused() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.remove(ALICE);
+        uniqueStudentList.add(BOB);
+
+        assertEquals(Optional.empty(), uniqueStudentList.findById(1));
+        assertEquals(2, uniqueStudentList.getIdOf(BOB));
+    }
+
+    @Test
+    public void setStudent_editedStudent_keepsId() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        Student editedAlice = new StudentBuilder(ALICE).withName("Alicia Pauline").build();
+        uniqueStudentList.setStudent(ALICE, editedAlice);
+
+        assertEquals(Optional.of(editedAlice), uniqueStudentList.findById(1));
+        assertEquals(1, uniqueStudentList.asUnmodifiableList().get(0).getId());
+    }
+
+    @Test
+    public void findById_afterRemovingEarlierStudent_findsStudent() {
+        uniqueStudentList.setStudents(List.of(ALICE, BOB, CARL));
+        uniqueStudentList.remove(ALICE);
+
+        assertEquals(Optional.of(CARL), uniqueStudentList.findById(3));
+        assertEquals(Optional.empty(), uniqueStudentList.findById(1));
+    }
+
+    @Test
+    public void getIdOf_studentNotInList_throwsStudentNotFoundException() {
+        assertThrows(StudentNotFoundException.class, () -> uniqueStudentList.getIdOf(ALICE));
+    }
+
+    @Test
+    public void reserveIdsBelow_nextId_usedForNextStudent() {
+        uniqueStudentList.reserveIdsBelow(10);
+        uniqueStudentList.add(ALICE);
+        assertEquals(10, uniqueStudentList.getIdOf(ALICE));
+    }
+
+    @Test
+    public void nameMatcher_keywords_matchesWholeWordsIgnoringCase() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+
+        Predicate<Student> matcher = uniqueStudentList.nameMatcher(Arrays.asList("aLIce", "nobody"));
+        assertTrue(matcher.test(ALICE));
+        assertFalse(matcher.test(BOB));
+
+        // partial words do not match
+        assertFalse(uniqueStudentList.nameMatcher(List.of("Ali")).test(ALICE));
+
+        // students not in the list do not match
+        assertFalse(uniqueStudentList.nameMatcher(List.of("Amy")).test(new StudentBuilder().withName("Amy").build()));
+    }
+
+    @Test
+    public void nameMatcher_studentsChanged_followsList() {
+        uniqueStudentList.add(ALICE);
+        Predicate<Student> matcher = uniqueStudentList.nameMatcher(List.of("Alicia"));
+        assertFalse(matcher.test(ALICE));
+
+        Student renamedAlice = new StudentBuilder(ALICE).withName("Alicia Pauline").build();
+        uniqueStudentList.setStudent(ALICE, renamedAlice);
+        assertTrue(matcher.test(renamedAlice));
+
+        uniqueStudentList.remove(renamedAlice);
+        assertFalse(matcher.test(renamedAlice));
+    }
+
+    @Test
+    public void nameMatcher_sameAsNameContainsKeywordsPredicate() {
+        uniqueStudentList.setStudents(TypicalStudents.getTypicalStudents());
+        List<String> keywords = List.of("kurz", "ELLE", "Meier", "Pauline", "Daniel");
+        Predicate<Student> matcher = uniqueStudentList.nameMatcher(keywords);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+        for (Student student : uniqueStudentList) {
+            assertEquals(predicate.test(student), matcher.test(student));
+        }
+    }
+
+    @Test
+    public void rankByName_exactAndFuzzyKeywords_closestDistance() {
+        uniqueStudentList.setStudents(TypicalStudents.getTypicalStudents());
+        Map<Student, Integer> distances = uniqueStudentList.rankByName(List.of("kurz"), List.of("meier", "alcie"));
+
+        Student benson = uniqueStudentList.asUnmodifiableList().get(1);
+        Student carl = uniqueStudentList.asUnmodifiableList().get(2);
+        Student daniel = uniqueStudentList.asUnmodifiableList().get(3);
+        Student elle = uniqueStudentList.asUnmodifiableList().get(4);
+        Student alice = uniqueStudentList.asUnmodifiableList().get(0);
+        assertEquals(Map.of(alice, 1, benson, 0, carl, 0, daniel, 0, elle, 1), distances);
+    }
+
+    @Test
+    public void rankByName_studentRenamed_followsList() {
+        uniqueStudentList.add(ALICE);
+        Student renamedAlice = new StudentBuilder(ALICE).withName("Alicia Pauline").build();
+        uniqueStudentList.setStudent(ALICE, renamedAlice);
+
+        assertEquals(Map.of(renamedAlice, 0), uniqueStudentList.rankByName(List.of(), List.of("alici")));
+        assertEquals(Map.of(), uniqueStudentList.rankByName(List.of("alice"), List.of()));
+    }
+
+    @Test
+    public void getNameDistance_sameAsRankByName() {
+        List<Student> students = TypicalStudents.getTypicalStudents();
+        uniqueStudentList.setStudents(students);
+        List<String> exactKeywords = List.of("kurz");
+        List<String> fuzzyKeywords = List.of("meier", "alcie");
+
+        Map<Student, Integer> distances = uniqueStudentList.rankByName(exactKeywords, fuzzyKeywords);
+        for (Student student : students) {
+            OptionalInt distance = UniqueStudentList.getNameDistance(student, exactKeywords, fuzzyKeywords);
+            assertEquals(Optional.ofNullable(distances.get(student)), distance.isPresent()
+                    ? Optional.of(distance.getAsInt()) : Optional.empty());
+        }
+    }
+
+    @Test
+    public void addListener_changes_toldOfEachChange() {
+        List<ListChange<Student>> changes = new ArrayList<>();
+        uniqueStudentList.addListener(changes::addAll);
+        Student editedAlice = new StudentBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        uniqueStudentList.setStudent(ALICE, editedAlice);
+        uniqueStudentList.remove(editedAlice);
+        uniqueStudentList.setStudents(List.of(ALICE));
+
+        assertEquals(List.of(ListChange.added(0, ALICE), ListChange.added(1, BOB),
+                ListChange.replaced(0, ALICE, editedAlice), ListChange.removed(0, editedAlice),
+                new ListChange<>(0, List.of(BOB), List.of(ALICE))), changes);
+    }
+
+    @Test
+    public void replaceStudents_studentsInList_replacesInOneBatch() {
+        uniqueStudentList.setStudents(List.of(ALICE, BOB, CARL));
+        List<List<ListChange<Student>>> told = new ArrayList<>();
+        uniqueStudentList.addListener(told::add);
+        Student editedAlice = new StudentBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Student editedCarl = new StudentBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+
+        uniqueStudentList.replaceStudents(Map.of(CARL, editedCarl, ALICE, editedAlice));
+
+        assertEquals(List.of(editedAlice, BOB, editedCarl), uniqueStudentList.asUnmodifiableList());
+        assertEquals(List.of(List.of(ListChange.replaced(0, ALICE, editedAlice),
+                ListChange.replaced(2, CARL, editedCarl))), told);
+    }
+
+    @Test
+    public void replaceStudents_clashingStudents_throwsDuplicateStudentException() {
+        uniqueStudentList.setStudents(List.of(ALICE, BOB));
+        Student aliceWithBobPhone = new StudentBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+
+        assertThrows(DuplicateStudentException.class, () ->
+                uniqueStudentList.replaceStudents(Map.of(ALICE, aliceWithBobPhone)));
+        assertEquals(List.of(ALICE, BOB), uniqueStudentList.asUnmodifiableList());
+        assertTrue(uniqueStudentList.contains(ALICE));
+    }
+
+    @Test
+    public void replaceStudents_studentNotInList_throwsStudentNotFoundException() {
+        uniqueStudentList.add(ALICE);
+        assertThrows(StudentNotFoundException.class, () -> uniqueStudentList.replaceStudents(Map.of(BOB, BOB)));
+    }
+
+    @Test
+    public void removeAll_studentsInList_removesInOneBatch() {
+        uniqueStudentList.setStudents(List.of(ALICE, BOB, CARL));
+        List<List<ListChange<Student>>> told = new ArrayList<>();
+        uniqueStudentList.addListener(told::add);
+
+        uniqueStudentList.removeAll(List.of(ALICE, CARL));
+
+        assertEquals(List.of(BOB), uniqueStudentList.asUnmodifiableList());
+        assertFalse(uniqueStudentList.contains(ALICE));
+        assertEquals(List.of(List.of(ListChange.removed(2, CARL), ListChange.removed(0, ALICE))), told);
+    }
+
+    @Test
+    public void removeAll_studentNotInList_throwsStudentNotFoundException() {
+        uniqueStudentList.add(ALICE);
+        assertThrows(StudentNotFoundException.class, () -> uniqueStudentList.removeAll(List.of(ALICE, BOB)));
+        assertEquals(List.of(ALICE), uniqueStudentList.asUnmodifiableList());
+    }
 
     @Test
     public void toStringMethod() {
-        assertEquals(uniqueStudentList.asUnmodifiableObservableList().toString(), uniqueStudentList.toString());
+        assertEquals(uniqueStudentList.asUnmodifiableList().toString(), uniqueStudentList.toString());
     }
 }
@@ -0,0 +1,194 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.HOON;
+import static seedu.address.testutil.TypicalStudents.IDA;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JournalAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempAddressBook.json");
+        storage = new JournalAddressBookStorage(filePath);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_snapshotWithoutJournal_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        original.addStudent(HOON);
+        storage.saveAddressBook(original);
+        original.removeStudent(BENSON);
+        original.setStudent(ALICE, new StudentBuilder(ALICE).withPhone("99998888").build());
+        original.renameStudentInLessons(CARL, new Name("Carl Kurtz"));
+        storage.saveAddressBook(original);
+
+        // the snapshot is left alone, and there is one journal record per save after the first
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_journalUnchanged() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+    }
+
+    @Test
+    public void prepareSaveAddressBook_changesAfterPreparing_notSaved() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addStudent(HOON);
+        AddressBookStorage.PreparedSave save = storage.prepareSaveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+        original.addStudent(IDA);
+        save.write();
+
+        assertEquals(expected, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_previousWriteFailed_writesSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // a directory in place of the journal cannot be appended to
+        Files.delete(storage.getJournalFilePath());
+        Files.createDirectory(storage.getJournalFilePath());
+        original.addStudent(HOON);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(original));
+
+        Files.delete(storage.getJournalFilePath());
+        original.addStudent(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_compactionThresholdReached_writesSnapshot() throws Exception {
+        JournalAddressBookStorage compactingStorage = new JournalAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        compactingStorage.saveAddressBook(original);
+
+        original.addStudent(HOON);
+        compactingStorage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(compactingStorage.getJournalFilePath()).size());
+
+        original.addStudent(IDA);
+        compactingStorage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(compactingStorage.getJournalFilePath()).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(compactingStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addStudent(HOON);
+        storage.saveAddressBook(original);
+
+        Files.write(storage.getJournalFilePath(), "{\"students\":[{\"at\":0,".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderSnapshot_ignored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addStudent(HOON);
+        storage.saveAddressBook(original);
+
+        // a snapshot written after the journal, e.g. when a compaction was interrupted before the journal was reset
+        AddressBook compacted = new AddressBook(original);
+        new JsonAddressBookStorage(filePath).saveAddressBook(compacted);
+        assertEquals(compacted, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_recordDoesNotFitSnapshot_throwsDataLoadingException() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        List<String> journal = Files.readAllLines(storage.getJournalFilePath());
+        Files.write(storage.getJournalFilePath(), List.of(journal.get(0), "{\"students\":[{\"at\":99,\"remove\":1}]}",
+                "{\"students\":[]}"));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesPlainSnapshot() throws Exception {
+        Path otherFilePath = testFolder.resolve("OtherAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, otherFilePath);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(otherFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_bulkReplacement_onlyChangedElementsRecorded() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        List<Student> students = new ArrayList<>(original.getStudentList());
+        students.set(1, new StudentBuilder(BENSON).withAddress("1 Journal Road").build());
+        original.setStudents(students);
+        storage.saveAddressBook(original);
+
+        String record = Files.readAllLines(storage.getJournalFilePath()).get(1);
+        assertTrue(record.contains("1 Journal Road"));
+        assertFalse(record.contains(ALICE.getName().fullName));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+}
@@ -35,7 +35,7 @@ public class JsonAdaptedStudentTest {
             .map(JsonAdaptedSubject::new)
             .collect(Collectors.toList());
     private static final List<JsonAdaptedAssignment> VALID_ASSIGNMENTS = HARRY.getAssignments()
-            .asUnmodifiableObservableList().stream()
+            .asUnmodifiableList().stream()
             .map(JsonAdaptedAssignment::new)
             .collect(Collectors.toList());
 
@@ -45,6 +45,19 @@ public class JsonAdaptedStudentTest {
         assertEquals(BENSON, student.toModelType());
     }
 
+    @Test
+    public void toModelType_studentWithId_keepsId() throws Exception {
+        JsonAdaptedStudent student = new JsonAdaptedStudent(BENSON.withId(7));
+        assertEquals(7, student.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedStudent student = new JsonAdaptedStudent(0, VALID_NAME, VALID_PHONE, VALID_ADDRESS, VALID_EMAIL,
+                VALID_SUBJECTS, VALID_ASSIGNMENTS);
+        assertThrows(IllegalValueException.class, JsonAdaptedStudent.MESSAGE_INVALID_ID, student::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedStudent student =
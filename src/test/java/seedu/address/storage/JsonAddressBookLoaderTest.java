@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalLessons;
+import seedu.address.testutil.TypicalStudents;
+
+public class JsonAddressBookLoaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_STUDENTS_FILE = TEST_DATA_FOLDER.resolve("typicalStudentsAddressBook.json");
+    private static final Path INVALID_STUDENT_FILE = TEST_DATA_FOLDER.resolve("invalidStudentAddressBook.json");
+    private static final Path DUPLICATE_STUDENT_FILE = TEST_DATA_FOLDER.resolve("duplicateStudentAddressBook.json");
+
+    @Test
+    public void load_typicalStudentsFile_success() throws Exception {
+        assertEquals(TypicalStudents.getTypicalAddressBook(), load(TYPICAL_STUDENTS_FILE));
+    }
+
+    @Test
+    public void load_invalidStudentFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> load(INVALID_STUDENT_FILE));
+    }
+
+    @Test
+    public void load_duplicateStudents_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT, () ->
+                load(DUPLICATE_STUDENT_FILE));
+    }
+
+    @Test
+    public void load_studentsAndLessons_sameAsReadingWholeFile() throws Exception {
+        AddressBook original = TypicalLessons.getTypicalAddressBook();
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(original));
+        assertEquals(original, load(json));
+        assertEquals(JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType(), load(json));
+    }
+
+    @Test
+    public void load_unknownAndNullFields_ignored() throws Exception {
+        assertEquals(new AddressBook(), load("{\"version\": {\"major\": 1}, \"students\": null, \"lessons\": []}"));
+    }
+
+    @Test
+    public void load_notJsonFormat_throwsIoException() {
+        assertThrows(IOException.class, () -> load("not json format!"));
+        assertThrows(IOException.class, () -> load("[]"));
+        assertThrows(IOException.class, () -> load("{\"students\": {}}"));
+    }
+
+    @Test
+    public void load_truncatedFile_throwsIoException() {
+        assertThrows(IOException.class, () -> load("{\"students\": ["));
+        assertThrows(IOException.class, () -> load("{\"students\": []"));
+    }
+
+    private AddressBook load(Path file) throws Exception {
+        try (InputStream in = Files.newInputStream(file)) {
+            return JsonAddressBookLoader.load(in);
+        }
+    }
+
+    private AddressBook load(String json) throws Exception {
+        return JsonAddressBookLoader.load(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
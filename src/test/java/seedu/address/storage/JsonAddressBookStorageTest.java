@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalStudents.IDA;
 import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +88,21 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_prettyPrintLimit_prettyPrintsSmallAddressBooksOnly() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonSerializableAddressBook serializable = new JsonSerializableAddressBook(original);
+        int size = original.getStudentList().size() + original.getLessonList().size();
+
+        new JsonAddressBookStorage(filePath, size).saveAddressBook(original);
+        assertEquals(JsonUtil.toJsonString(serializable), Files.readString(filePath));
+
+        new JsonAddressBookStorage(filePath, size - 1).saveAddressBook(original);
+        assertEquals(JsonUtil.toCompactJsonString(serializable), Files.readString(filePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -1,10 +1,18 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -65,4 +73,117 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void requestSaveAddressBook_writeBehind_coalescesIntoOneSave() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public PreparedSave prepareSaveAddressBook(ReadOnlyAddressBook addressBook) {
+                saveCount.incrementAndGet();
+                return super.prepareSaveAddressBook(addressBook);
+            }
+        };
+        StorageManager writeBehindStorage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60_000);
+
+        AddressBook original = getTypicalAddressBook();
+        writeBehindStorage.requestSaveAddressBook(original);
+        writeBehindStorage.requestSaveAddressBook(original);
+        writeBehindStorage.requestSaveAddressBook(original);
+        assertFalse(writeBehindStorage.readAddressBook().isPresent());
+
+        writeBehindStorage.flushAddressBook();
+        assertEquals(1, saveCount.get());
+        assertEquals(original, new AddressBook(writeBehindStorage.readAddressBook().get()));
+
+        // nothing pending -> nothing saved
+        writeBehindStorage.flushAddressBook();
+        assertEquals(1, saveCount.get());
+    }
+
+    @Test
+    public void requestSaveAddressBook_saveOnFlushOnly_savedOnlyOnFlush() throws Exception {
+        StorageManager flushOnlyStorage = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), StorageManager.SAVE_ON_FLUSH_ONLY);
+
+        AddressBook original = getTypicalAddressBook();
+        flushOnlyStorage.requestSaveAddressBook(original);
+        assertFalse(flushOnlyStorage.readAddressBook().isPresent());
+
+        flushOnlyStorage.flushAddressBook();
+        assertEquals(original, new AddressBook(flushOnlyStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flushAddressBook_pendingSave_addressBookLockedOnlyWhileCaptured() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        List<Boolean> isLocked = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public PreparedSave prepareSaveAddressBook(ReadOnlyAddressBook addressBook) {
+                isLocked.add(Thread.holdsLock(original));
+                PreparedSave save = super.prepareSaveAddressBook(addressBook);
+                return () -> {
+                    isLocked.add(Thread.holdsLock(original));
+                    save.write();
+                };
+            }
+        };
+        StorageManager writeBehindStorage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60_000);
+
+        writeBehindStorage.requestSaveAddressBook(original);
+        writeBehindStorage.flushAddressBook();
+        assertEquals(List.of(true, false), isLocked);
+        assertEquals(original, new AddressBook(writeBehindStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flushAddressBook_saveFails_throwsIoException() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public PreparedSave prepareSaveAddressBook(ReadOnlyAddressBook addressBook) {
+                return () -> {
+                    throw new IOException("dummy IO exception");
+                };
+            }
+        };
+        StorageManager writeBehindStorage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60_000);
+
+        assertThrows(IOException.class, "dummy IO exception", () -> {
+            writeBehindStorage.requestSaveAddressBook(getTypicalAddressBook());
+            writeBehindStorage.flushAddressBook();
+        });
+    }
+
+    @Test
+    public void requestSaveAddressBook_backgroundSaveFailed_failureToldToListenersNotThrown() throws Exception {
+        AtomicInteger failingSaveCount = new AtomicInteger(1);
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public PreparedSave prepareSaveAddressBook(ReadOnlyAddressBook addressBook) {
+                PreparedSave save = super.prepareSaveAddressBook(addressBook);
+                return () -> {
+                    if (failingSaveCount.getAndDecrement() > 0) {
+                        throw new IOException("dummy IO exception");
+                    }
+                    save.write();
+                };
+            }
+        };
+        StorageManager writeBehindStorage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 1);
+        CompletableFuture<IOException> failure = new CompletableFuture<>();
+        writeBehindStorage.addSaveFailureListener(failure::complete);
+
+        AddressBook original = getTypicalAddressBook();
+        writeBehindStorage.requestSaveAddressBook(original);
+        assertEquals("dummy IO exception", failure.get(10, TimeUnit.SECONDS).getMessage());
+
+        // the failed save is left pending, and saved by the next flush
+        writeBehindStorage.flushAddressBook();
+        assertEquals(original, new AddressBook(writeBehindStorage.readAddressBook().get()));
+    }
+
 }
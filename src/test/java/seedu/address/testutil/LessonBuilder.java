@@ -4,6 +4,7 @@ import seedu.address.model.datetimeutil.Date;
 import seedu.address.model.datetimeutil.Time;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
 import seedu.address.model.subject.Subject;
 
 /**
@@ -20,6 +21,7 @@ public class LessonBuilder {
     private Date date;
     private Time time;
     private Subject subject;
+    private int studentId = Student.NO_ID;
 
     /**
      * Creates a {@code LessonBuilder} with the default details.
@@ -39,6 +41,7 @@ public class LessonBuilder {
         date = lessonToCopy.getDate();
         time = lessonToCopy.getTime();
         subject = lessonToCopy.getSubject();
+        studentId = lessonToCopy.getStudentId();
     }
 
     /**
@@ -71,8 +74,17 @@ public class LessonBuilder {
         this.time = new Time(time);
         return this;
     }
+
+    /**
+     * Sets the ID of the student of the {@code Lesson} that we are building.
+     */
+    public LessonBuilder withStudentId(int studentId) {
+        this.studentId = studentId;
+        return this;
+    }
+
     public Lesson build() {
-        return new Lesson(subject, name, date, time);
+        return new Lesson(subject, name, date, time).withStudentId(studentId);
     }
 
 }
@@ -101,7 +101,7 @@ public class StudentBuilder {
      * set it to the {@code Student} that we are building.
      */
     public StudentBuilder withAssignment(Assignment assignment) {
-        this.assignments.add(assignment);
+        this.assignments = assignments.withAdded(assignment);
         return this;
     }
 
@@ -31,11 +31,11 @@ public class TypicalAssignments {
     public static AddressBook getTypicalAddressBook() {
         AddressBook ab = new AddressBook();
         Student firstStudent = ab.getStudentList().get(0);
-        Student firstStudentCopy = firstStudent.copy();
+        Student updatedFirstStudent = firstStudent;
         for (Assignment assignment : getTypicalAssignments()) {
-            firstStudentCopy.addAssignment(assignment);
+            updatedFirstStudent = updatedFirstStudent.addAssignment(assignment);
         }
-        ab.setStudent(firstStudent, firstStudentCopy);
+        ab.setStudent(firstStudent, updatedFirstStudent);
         return ab;
     }
 